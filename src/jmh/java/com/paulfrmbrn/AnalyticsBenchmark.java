@@ -0,0 +1,77 @@
+package com.paulfrmbrn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scaling of the {@link GraphAnalytics} kernels from 1 to N threads on power law undirected graphs, e.g.
+ * {@code java -jar build/libs/simple-graph-1.0-SNAPSHOT-jmh.jar AnalyticsBenchmark -p threads=1,2,4,8}
+ *
+ * PageRank runs a fixed count of iterations, so that all thread counts do the same work
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+public class AnalyticsBenchmark {
+
+    private static final int DEGREE = 8;
+    private static final long SEED = 42;
+    private static final int PAGE_RANK_ITERATIONS = 20;
+    private static final int BETWEENNESS_SAMPLES = 16;
+
+    @State(Scope.Benchmark)
+    public static class GraphState {
+
+        @Param({"1000000"})
+        int vertexCount;
+
+        @Param({"1", "2", "4", "8"})
+        int threads;
+
+        GraphAnalytics<Integer> analytics;
+        ForkJoinPool pool;
+
+        @Setup
+        public void setUp() {
+            var vertices = BenchmarkGraphs.vertices(vertexCount);
+            analytics = BenchmarkGraphs.powerLawUndirectedUnweighted(vertices, DEGREE, SEED).analytics();
+            pool = new ForkJoinPool(threads);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+
+    }
+
+    @Benchmark
+    public double[] pageRank(GraphState state) {
+        return state.analytics.pageRank(GraphAnalytics.DEFAULT_DAMPING, Double.MIN_VALUE, PAGE_RANK_ITERATIONS, state.pool);
+    }
+
+    @Benchmark
+    public double[] betweenness(GraphState state) {
+        return state.analytics.betweenness(BETWEENNESS_SAMPLES, SEED, state.pool);
+    }
+
+    @Benchmark
+    public int[] degrees(GraphState state) {
+        return state.analytics.inDegrees();
+    }
+
+}
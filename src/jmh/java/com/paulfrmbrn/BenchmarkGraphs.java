@@ -0,0 +1,116 @@
+package com.paulfrmbrn;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generators of synthetic graphs used by benchmarks
+ *
+ * All generators are deterministic for a given seed
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class BenchmarkGraphs {
+
+    static final int MAX_WEIGHT = 100;
+
+    private BenchmarkGraphs() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Vertex<Integer>[] vertices(int count) {
+        Vertex<Integer>[] vertices = new Vertex[count];
+        for (int i = 0; i < count; i++) {
+            vertices[i] = Vertex.of(i);
+        }
+        return vertices;
+    }
+
+    /**
+     * Directed weighted graph where each vertex has an edge to the next one (so that all vertices are reachable
+     * from the first one) and {@code degree} edges to uniformly random vertices
+     */
+    static Graph<Integer> randomDirectedWeighted(Vertex<Integer>[] vertices, int degree, long seed) {
+        var random = new SplittableRandom(seed);
+        var builder = Graph.directedWeightedBuilder(vertices[0]);
+        for (var vertex : vertices) {
+            builder.addVertex(vertex);
+        }
+        for (int from = 0; from < vertices.length; from++) {
+            builder.addEdge(vertices[from], vertices[(from + 1) % vertices.length], 1 + random.nextInt(MAX_WEIGHT));
+            for (int i = 0; i < degree; i++) {
+                builder.addEdge(vertices[from], vertices[random.nextInt(vertices.length)], 1 + random.nextInt(MAX_WEIGHT));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Directed weighted grid of {@code width} columns resembling a road network: each vertex is connected
+     * in both directions with its right and bottom neighbours by edges of random weight
+     */
+    static Graph<Integer> gridDirectedWeighted(Vertex<Integer>[] vertices, int width, long seed) {
+        var random = new SplittableRandom(seed);
+        var builder = Graph.directedWeightedBuilder(vertices[0]);
+        for (var vertex : vertices) {
+            builder.addVertex(vertex);
+        }
+        for (int vertex = 0; vertex < vertices.length; vertex++) {
+            if ((vertex + 1) % width != 0 && vertex + 1 < vertices.length) {
+                int weight = 1 + random.nextInt(MAX_WEIGHT);
+                builder.addEdge(vertices[vertex], vertices[vertex + 1], weight);
+                builder.addEdge(vertices[vertex + 1], vertices[vertex], weight);
+            }
+            if (vertex + width < vertices.length) {
+                int weight = 1 + random.nextInt(MAX_WEIGHT);
+                builder.addEdge(vertices[vertex], vertices[vertex + width], weight);
+                builder.addEdge(vertices[vertex + width], vertices[vertex], weight);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Undirected unweighted grid of {@code width} columns, each vertex is connected with its right and bottom neighbours
+     */
+    static Graph<Integer> gridUndirectedUnweighted(Vertex<Integer>[] vertices, int width) {
+        var builder = Graph.undirectedUnweightedBuilder(vertices[0]);
+        for (var vertex : vertices) {
+            builder.addVertex(vertex);
+        }
+        for (int vertex = 0; vertex < vertices.length; vertex++) {
+            if ((vertex + 1) % width != 0 && vertex + 1 < vertices.length) {
+                builder.addEdge(vertices[vertex], vertices[vertex + 1]);
+            }
+            if (vertex + width < vertices.length) {
+                builder.addEdge(vertices[vertex], vertices[vertex + width]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Undirected unweighted scale-free graph grown by preferential attachment (Barabasi-Albert model):
+     * each next vertex is connected with {@code degree} already added vertices chosen with probability proportional
+     * to their degree, so a few hubs get most of the edges and degrees follow a power law
+     */
+    static Graph<Integer> powerLawUndirectedUnweighted(Vertex<Integer>[] vertices, int degree, long seed) {
+        var random = new SplittableRandom(seed);
+        var builder = Graph.undirectedUnweightedBuilder(vertices[0]);
+        for (var vertex : vertices) {
+            builder.addVertex(vertex);
+        }
+        var endpoints = new int[2 * degree * vertices.length];
+        int endpointCount = 0;
+        for (int vertex = 1; vertex < vertices.length; vertex++) {
+            for (int i = 0; i < degree; i++) {
+                int target = endpointCount == 0 ? 0 : endpoints[random.nextInt(endpointCount)];
+                builder.addEdge(vertices[vertex], vertices[target]);
+                endpoints[endpointCount++] = vertex;
+                endpoints[endpointCount++] = target;
+            }
+        }
+        return builder.build();
+    }
+
+}
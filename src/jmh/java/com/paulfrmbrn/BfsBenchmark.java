@@ -0,0 +1,129 @@
+package com.paulfrmbrn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares {@link Graph#traverse(java.util.function.Consumer)} and unweighted
+ * {@link Graph#findPath(Vertex, Vertex, java.util.function.Consumer)} backed by {@link IntQueue} and {@link VisitedSet}
+ * with the {@link LegacyBfs} baseline on million-vertex grids and power-law graphs.
+ * {@code traverseParallel} measures {@link Graph#traverseParallel(ForkJoinPool, java.util.function.Consumer)}
+ * with pools of different parallelism
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+public class BfsBenchmark {
+
+    private static final int POWER_LAW_DEGREE = 4;
+    private static final long SEED = 42;
+
+    @State(Scope.Benchmark)
+    public static class GraphState {
+
+        @Param({"1000000"})
+        int vertexCount;
+
+        @Param({"grid", "powerLaw"})
+        String shape;
+
+        Vertex<Integer>[] vertices;
+        Graph<Integer> graph;
+        LegacyBfs<Integer> legacy;
+        SearchContext<Integer> context;
+
+        @Setup
+        public void setUp() {
+            vertices = BenchmarkGraphs.vertices(vertexCount);
+            graph = "grid".equals(shape)
+                    ? BenchmarkGraphs.gridUndirectedUnweighted(vertices, (int) Math.sqrt(vertexCount))
+                    : BenchmarkGraphs.powerLawUndirectedUnweighted(vertices, POWER_LAW_DEGREE, SEED);
+            legacy = new LegacyBfs<>(graph, vertices[0]);
+            context = graph.newSearchContext();
+        }
+
+        Vertex<Integer> from() {
+            return vertices[0];
+        }
+
+        Vertex<Integer> to() {
+            return vertices[vertices.length - 1];
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class PoolState {
+
+        @Param({"1", "2", "4", "8"})
+        int threads;
+
+        ForkJoinPool pool;
+        LongAdder sink;
+
+        @Setup
+        public void setUp() {
+            pool = new ForkJoinPool(threads);
+            sink = new LongAdder();
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+
+    }
+
+    @Benchmark
+    public void traverse(GraphState state, Blackhole blackhole) {
+        state.graph.traverse(blackhole::consume);
+    }
+
+    @Benchmark
+    public void traverseWithContext(GraphState state, Blackhole blackhole) {
+        state.graph.traverse(state.context, blackhole::consume);
+    }
+
+    @Benchmark
+    public long traverseParallel(GraphState state, PoolState poolState) {
+        state.graph.traverseParallel(poolState.pool, poolState.sink::add);
+        return poolState.sink.sum();
+    }
+
+    @Benchmark
+    public void legacyTraverse(GraphState state, Blackhole blackhole) {
+        state.legacy.traverse(blackhole::consume);
+    }
+
+    @Benchmark
+    public void findPath(GraphState state, Blackhole blackhole) {
+        state.graph.findPath(state.from(), state.to(), blackhole::consume);
+    }
+
+    @Benchmark
+    public void findPathWithContext(GraphState state, Blackhole blackhole) {
+        state.graph.findPath(state.from(), state.to(), state.context, blackhole::consume);
+    }
+
+    @Benchmark
+    public void legacyFindPath(GraphState state, Blackhole blackhole) {
+        state.legacy.findPath(state.from(), state.to(), blackhole::consume);
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.paulfrmbrn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building a random directed weighted graph edge by edge via
+ * {@link Graph.DirectedWeightedBuilder#addEdge(Vertex, Vertex, int)} with adding the same edges in bulk via
+ * {@link Graph.DirectedWeightedBuilder#addEdges(List, int[], int[], int[])}, at once or in chunks against
+ * the same vertex table
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BuildBenchmark {
+
+    private static final long SEED = 42;
+    private static final int CHUNK_COUNT = 1000;
+
+    @State(Scope.Benchmark)
+    public static class EdgesState {
+
+        @Param({"1000000"})
+        int vertexCount;
+
+        @Param({"10"})
+        int degree;
+
+        List<Vertex<Integer>> vertices;
+        int[] from;
+        int[] to;
+        int[] weights;
+        int[][] fromChunks;
+        int[][] toChunks;
+        int[][] weightChunks;
+
+        @Setup
+        public void setUp() {
+            vertices = Arrays.asList(BenchmarkGraphs.vertices(vertexCount));
+            var random = new SplittableRandom(SEED);
+            int edgeCount = vertexCount * degree;
+            from = new int[edgeCount];
+            to = new int[edgeCount];
+            weights = new int[edgeCount];
+            for (int edge = 0; edge < edgeCount; edge++) {
+                from[edge] = edge / degree;
+                to[edge] = random.nextInt(vertexCount);
+                weights[edge] = 1 + random.nextInt(BenchmarkGraphs.MAX_WEIGHT);
+            }
+            fromChunks = new int[CHUNK_COUNT][];
+            toChunks = new int[CHUNK_COUNT][];
+            weightChunks = new int[CHUNK_COUNT][];
+            for (int chunk = 0; chunk < CHUNK_COUNT; chunk++) {
+                int begin = (int) ((long) edgeCount * chunk / CHUNK_COUNT);
+                int end = (int) ((long) edgeCount * (chunk + 1) / CHUNK_COUNT);
+                fromChunks[chunk] = Arrays.copyOfRange(from, begin, end);
+                toChunks[chunk] = Arrays.copyOfRange(to, begin, end);
+                weightChunks[chunk] = Arrays.copyOfRange(weights, begin, end);
+            }
+        }
+
+    }
+
+    @Benchmark
+    public Graph<Integer> edgeByEdge(EdgesState state) {
+        var builder = Graph.directedWeightedBuilder(state.vertices.get(0));
+        for (var vertex : state.vertices) {
+            builder.addVertex(vertex);
+        }
+        for (int edge = 0; edge < state.from.length; edge++) {
+            builder.addEdge(state.vertices.get(state.from[edge]), state.vertices.get(state.to[edge]), state.weights[edge]);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Graph<Integer> bulk(EdgesState state) {
+        return Graph.directedWeightedBuilder(state.vertices.get(0))
+                .ensureCapacity(state.vertices.size(), state.from.length)
+                .addEdges(state.vertices, state.from, state.to, state.weights)
+                .build();
+    }
+
+    @Benchmark
+    public Graph<Integer> bulkInChunks(EdgesState state) {
+        var builder = Graph.directedWeightedBuilder(state.vertices.get(0))
+                .ensureCapacity(state.vertices.size(), state.from.length);
+        for (int chunk = 0; chunk < CHUNK_COUNT; chunk++) {
+            builder.addEdges(state.vertices, state.fromChunks[chunk], state.toChunks[chunk], state.weightChunks[chunk]);
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.paulfrmbrn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares point-to-point queries answered by {@link ContractedGraph} with plain Dijkstra search
+ * of {@link Graph#findPath(Vertex, Vertex, java.util.function.Consumer)} on road-like grids.
+ * Contraction itself runs once in the setup and is not measured
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ContractionHierarchyBenchmark {
+
+    private static final long SEED = 42;
+    private static final int QUERY_COUNT = 1024;
+
+    @State(Scope.Benchmark)
+    public static class GraphState {
+
+        @Param({"10000", "100000"})
+        int vertexCount;
+
+        Vertex<Integer>[] vertices;
+        Graph<Integer> graph;
+        ContractedGraph<Integer> contracted;
+        int[] sources;
+        int[] targets;
+        int query;
+
+        @Setup
+        public void setUp() {
+            vertices = BenchmarkGraphs.vertices(vertexCount);
+            graph = BenchmarkGraphs.gridDirectedWeighted(vertices, (int) Math.sqrt(vertexCount), SEED);
+            contracted = graph.contract();
+            var random = new SplittableRandom(SEED);
+            sources = random.ints(QUERY_COUNT, 0, vertexCount).toArray();
+            targets = random.ints(QUERY_COUNT, 0, vertexCount).toArray();
+        }
+
+        int next() {
+            query = (query + 1) % QUERY_COUNT;
+            return query;
+        }
+
+    }
+
+    @Benchmark
+    public void dijkstra(GraphState state, Blackhole blackhole) {
+        int query = state.next();
+        state.graph.findPath(state.vertices[state.sources[query]], state.vertices[state.targets[query]], blackhole::consume);
+    }
+
+    @Benchmark
+    public void contractionHierarchy(GraphState state, Blackhole blackhole) {
+        int query = state.next();
+        state.contracted.findPath(state.vertices[state.sources[query]], state.vertices[state.targets[query]], blackhole::consume);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.paulfrmbrn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures scaling of {@link Graph#shortestPathTreeParallel(Vertex, int, ForkJoinPool)} from 1 to N threads
+ * on random directed weighted graphs, e.g.
+ * {@code java -jar build/libs/simple-graph-1.0-SNAPSHOT-jmh.jar DeltaSteppingBenchmark -p threads=1,2,4,8,16 -p delta=25}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+public class DeltaSteppingBenchmark {
+
+    private static final int DEGREE = 4;
+    private static final long SEED = 42;
+
+    @State(Scope.Benchmark)
+    public static class GraphState {
+
+        @Param({"1000000", "10000000"})
+        int vertexCount;
+
+        @Param({"1", "2", "4", "8"})
+        int threads;
+
+        @Param({"5", "25", "100"})
+        int delta;
+
+        Vertex<Integer>[] vertices;
+        Graph<Integer> graph;
+        ForkJoinPool pool;
+
+        @Setup
+        public void setUp() {
+            vertices = BenchmarkGraphs.vertices(vertexCount);
+            graph = BenchmarkGraphs.randomDirectedWeighted(vertices, DEGREE, SEED);
+            pool = new ForkJoinPool(threads);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+
+    }
+
+    @Benchmark
+    public ShortestPathTree<Integer> deltaStepping(GraphState state) {
+        return state.graph.shortestPathTreeParallel(state.vertices[0], state.delta, state.pool);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.paulfrmbrn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares weighted {@link Graph#findPath(Vertex, Vertex, java.util.function.Consumer)} backed by {@link IndexedHeap}
+ * with the {@link LegacyDijkstra} baseline on random directed graphs.
+ * {@code searchContext} runs the same search with a reused {@link SearchContext}, its allocation rate
+ * is reported by {@code -prof gc}. {@code shortestPathTree} is the one-to-all search, a sequential baseline
+ * for {@link DeltaSteppingBenchmark}
+ *
+ * The baseline is quadratic in the number of vertices and is practical only for the smallest sizes, e.g.
+ * {@code java -jar build/libs/simple-graph-1.0-SNAPSHOT-jmh.jar DijkstraBenchmark.priorityQueue -p vertexCount=10000}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+public class DijkstraBenchmark {
+
+    private static final int DEGREE = 4;
+    private static final long SEED = 42;
+
+    @State(Scope.Benchmark)
+    public static class GraphState {
+
+        @Param({"10000", "100000", "1000000", "10000000"})
+        int vertexCount;
+
+        Vertex<Integer>[] vertices;
+        Graph<Integer> graph;
+
+        @Setup
+        public void setUp() {
+            vertices = BenchmarkGraphs.vertices(vertexCount);
+            graph = BenchmarkGraphs.randomDirectedWeighted(vertices, DEGREE, SEED);
+        }
+
+        Vertex<Integer> from() {
+            return vertices[0];
+        }
+
+        Vertex<Integer> to() {
+            return vertices[vertices.length - 1];
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class LegacyState {
+
+        LegacyDijkstra<Integer> legacy;
+
+        @Setup
+        public void setUp(GraphState state) {
+            legacy = new LegacyDijkstra<>(state.graph);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class ContextState {
+
+        SearchContext<Integer> context;
+
+        @Setup
+        public void setUp(GraphState state) {
+            context = state.graph.newSearchContext();
+        }
+
+    }
+
+    @Benchmark
+    public void indexedHeap(GraphState state, Blackhole blackhole) {
+        state.graph.findPath(state.from(), state.to(), blackhole::consume);
+    }
+
+    @Benchmark
+    public void searchContext(GraphState state, ContextState contextState, Blackhole blackhole) {
+        state.graph.findPath(state.from(), state.to(), contextState.context, blackhole::consume);
+    }
+
+    @Benchmark
+    public ShortestPathTree<Integer> shortestPathTree(GraphState state) {
+        return state.graph.shortestPathTree(state.from());
+    }
+
+    @Benchmark
+    public void priorityQueue(GraphState state, LegacyState legacyState, Blackhole blackhole) {
+        legacyState.legacy.findPath(state.from(), state.to(), blackhole::consume);
+    }
+
+}
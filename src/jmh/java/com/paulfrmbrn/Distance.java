@@ -16,10 +16,12 @@ import static java.util.Objects.requireNonNull;
  * Equality, hashing and is based on {@link Distance#vertex} and {@link Distance#value} is ignored
  * Comparision for the instance is based on {@link Distance#value} value only, so {@link Distance#vertex} is ignored
  *
+ * Used only by {@link LegacyDijkstra}
+ *
  * @author Dmitry Pavlov
  * @since 31.05.2020
  */
-public class Distance<T> implements Comparable<Distance<T>> {
+final class Distance<T> implements Comparable<Distance<T>> {
 
     private final Vertex<T> vertex;
     private int value;
@@ -0,0 +1,88 @@
+package com.paulfrmbrn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares many-to-many distance tables computed by {@link Graph#distanceMatrix(java.util.Collection, java.util.Collection)},
+ * by {@link ContractedGraph#distanceMatrix(java.util.Collection, java.util.Collection)} and by
+ * point-to-point {@link Graph#findPath(Vertex, Vertex, java.util.function.Consumer)} calls on road-like grids.
+ * The pairwise baseline is practical only for small tables
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class DistanceMatrixBenchmark {
+
+    private static final long SEED = 42;
+
+    @State(Scope.Benchmark)
+    public static class GraphState {
+
+        @Param({"100000"})
+        int vertexCount;
+
+        @Param({"10", "100"})
+        int sourceCount;
+
+        @Param({"100", "1000"})
+        int targetCount;
+
+        Graph<Integer> graph;
+        ContractedGraph<Integer> contracted;
+        List<Vertex<Integer>> sources;
+        List<Vertex<Integer>> targets;
+
+        @Setup
+        public void setUp() {
+            var vertices = BenchmarkGraphs.vertices(vertexCount);
+            graph = BenchmarkGraphs.gridDirectedWeighted(vertices, (int) Math.sqrt(vertexCount), SEED);
+            contracted = graph.contract();
+            var random = new SplittableRandom(SEED);
+            sources = new ArrayList<>();
+            random.ints(sourceCount, 0, vertexCount).forEach(vertex -> sources.add(vertices[vertex]));
+            targets = new ArrayList<>();
+            random.ints(targetCount, 0, vertexCount).forEach(vertex -> targets.add(vertices[vertex]));
+        }
+
+    }
+
+    @Benchmark
+    public int[][] graph(GraphState state) {
+        return state.graph.distanceMatrix(state.sources, state.targets);
+    }
+
+    @Benchmark
+    public int[][] contractionHierarchy(GraphState state) {
+        return state.contracted.distanceMatrix(state.sources, state.targets);
+    }
+
+    @Benchmark
+    public int[][] pairwise(GraphState state) {
+        var matrix = new int[state.sources.size()][state.targets.size()];
+        for (int row = 0; row < matrix.length; row++) {
+            for (int column = 0; column < matrix[row].length; column++) {
+                int[] length = {-1};
+                state.graph.findPath(state.sources.get(row), state.targets.get(column), value -> length[0]++);
+                matrix[row][column] = length[0];
+            }
+        }
+        return matrix;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.paulfrmbrn;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Baseline for benchmarks: breadth-first traversal and search as they were implemented before the array-backed
+ * frontier was introduced, i.e. a {@link LinkedList} queue polled by {@code remove(0)}, a {@link HashSet} of visited
+ * vertices and duplicates in the queue, because a vertex is marked visited only when it is dequeued
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class LegacyBfs<T> {
+
+    private final Vertex<T> root;
+    private final Set<Vertex<T>> vertices;
+    private final Map<Vertex<T>, Set<Edge<T>>> edgesMap;
+
+    LegacyBfs(Graph<T> graph, Vertex<T> root) {
+        this.root = root;
+        this.vertices = graph.getVertices();
+        this.edgesMap = new HashMap<>();
+        vertices.forEach(vertex -> edgesMap.put(vertex, graph.getEdges(vertex)));
+    }
+
+    void traverse(Consumer<T> consumer) {
+
+        var visitedSet = new HashSet<Vertex<T>>();
+        var toBeVisitedQueue = new LinkedList<Vertex<T>>();
+
+        toBeVisitedQueue.add(this.root);
+        while (visitedSet.size() < vertices.size()) {
+
+            if (toBeVisitedQueue.isEmpty()) {
+                throw new IllegalStateException("Some vertices are not reachable from the root");
+            }
+
+            var current = toBeVisitedQueue.remove(0);
+            if (!visitedSet.contains(current)) {
+                visitedSet.add(current);
+                consumer.accept(current.getValue());
+
+                var edges = edgesMap.get(current);
+                if (edges != null) {
+                    edges.forEach(edge -> {
+                        if (!visitedSet.contains(edge.getVertex())) {
+                            toBeVisitedQueue.add(edge.getVertex());
+                        }
+                    });
+                }
+            }
+
+        }
+    }
+
+    void findPath(Vertex<T> from, Vertex<T> to, Consumer<T> consumer) {
+        var parents = findPathByBfs(from, to);
+        var path = new LinkedList<Vertex<T>>();
+        var current = to;
+        do {
+            path.addFirst(current);
+            current = parents.get(current);
+        } while (current != null);
+        path.forEach(vertex -> consumer.accept(vertex.getValue()));
+    }
+
+    private HashMap<Vertex<T>, Vertex<T>> findPathByBfs(Vertex<T> from, Vertex<T> to) {
+
+        var visitedSet = new HashSet<Vertex<T>>();
+        var toBeVisitedQueue = new LinkedList<Vertex<T>>();
+        var parents = new HashMap<Vertex<T>, Vertex<T>>();
+
+        toBeVisitedQueue.add(from);
+        boolean done = false;
+        while (!toBeVisitedQueue.isEmpty() && !done) {
+
+            var current = toBeVisitedQueue.remove(0);
+            if (!visitedSet.contains(current)) {
+                visitedSet.add(current);
+
+                var edges = edgesMap.get(current);
+                if (edges != null) {
+                    for (var edge : edges) {
+                        if (!visitedSet.contains(edge.getVertex())) {
+                            toBeVisitedQueue.add(edge.getVertex());
+                            parents.putIfAbsent(edge.getVertex(), current);
+                            if (edge.getVertex().equals(to)) {
+                                done = true;
+                            }
+                        }
+                    }
+                }
+            }
+
+        }
+        return parents;
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.paulfrmbrn;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Baseline for benchmarks: shortest path search as it was implemented before {@link IndexedHeap} was introduced,
+ * i.e. all vertices are pre-loaded into a {@link PriorityQueue} of {@link Distance} and every relaxation
+ * calls {@link PriorityQueue#remove(Object)}, which is a linear scan
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class LegacyDijkstra<T> {
+
+    private final Set<Vertex<T>> vertices;
+    private final Map<Vertex<T>, Set<Edge<T>>> edgesMap;
+
+    LegacyDijkstra(Graph<T> graph) {
+        this.vertices = graph.getVertices();
+        this.edgesMap = new HashMap<>();
+        vertices.forEach(vertex -> edgesMap.put(vertex, graph.getEdges(vertex)));
+    }
+
+    void findPath(Vertex<T> from, Vertex<T> to, Consumer<T> consumer) {
+        var parents = findPathByDijkstra(from);
+        var path = new LinkedList<Vertex<T>>();
+        var current = to;
+        do {
+            path.addFirst(current);
+            current = parents.get(current);
+        } while (current != null);
+        path.forEach(vertex -> consumer.accept(vertex.getValue()));
+    }
+
+    private HashMap<Vertex<T>, Vertex<T>> findPathByDijkstra(Vertex<T> from) {
+
+        var minHeap = new PriorityQueue<Distance<T>>();
+        var distances = new HashMap<Vertex<T>, Distance<T>>();
+        vertices.forEach(vertex -> {
+            int value = vertex.equals(from) ? 0 : Graph.INFINITY_DISTANCE_VALUE;
+            var distance = new Distance<>(vertex, value);
+            minHeap.add(distance);
+            distances.put(vertex, distance);
+        });
+        var notVisitedSet = new HashSet<>(vertices);
+        var parents = new HashMap<Vertex<T>, Vertex<T>>();
+
+        while (!minHeap.isEmpty()) {
+
+            var current = minHeap.remove();
+            notVisitedSet.remove(current.getVertex());
+
+            var edges = edgesMap.get(current.getVertex());
+            if (edges != null) {
+                for (var edge : edges) {
+                    if (notVisitedSet.contains(edge.getVertex())) {
+
+                        var currentDistance = distances.get(current.getVertex());
+                        var edgeDistance = distances.get(edge.getVertex());
+                        int weight = edge.getWeight();
+                        if (edgeDistance.getValue() > (currentDistance.getValue() + weight)) {
+                            edgeDistance.setValue((currentDistance.getValue() + weight));
+                            parents.put(edge.getVertex(), current.getVertex());
+
+                            minHeap.remove(edgeDistance);
+                            minHeap.add(edgeDistance);
+                        }
+
+                    }
+
+                }
+            }
+
+        }
+        return parents;
+
+    }
+
+}
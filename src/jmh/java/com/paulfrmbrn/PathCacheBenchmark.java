@@ -0,0 +1,99 @@
+package com.paulfrmbrn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PathCache#findPath(Vertex, Vertex, java.util.function.Consumer)} with uncached
+ * {@link Graph#findPath(Vertex, Vertex, java.util.function.Consumer)} under skewed traffic:
+ * most of the queries go to a small set of hot pairs, the rest are random
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class PathCacheBenchmark {
+
+    private static final long SEED = 42;
+
+    @State(Scope.Benchmark)
+    public static class GraphState {
+
+        @Param({"100000"})
+        int vertexCount;
+
+        @Param({"1000"})
+        int hotPairCount;
+
+        @Param({"90"})
+        int hotPercent;
+
+        Vertex<Integer>[] vertices;
+        Graph<Integer> graph;
+        PathCache<Integer> cache;
+        int[] hotFrom;
+        int[] hotTo;
+
+        @Setup
+        public void setUp() {
+            vertices = BenchmarkGraphs.vertices(vertexCount);
+            graph = BenchmarkGraphs.gridDirectedWeighted(vertices, (int) Math.sqrt(vertexCount), SEED);
+            cache = graph.newPathCache(2 * hotPairCount);
+            var random = new SplittableRandom(SEED);
+            hotFrom = random.ints(hotPairCount, 0, vertexCount).toArray();
+            hotTo = random.ints(hotPairCount, 0, vertexCount).toArray();
+        }
+
+        Vertex<Integer> from(ThreadLocalRandom random, int pair) {
+            return vertices[pair >= 0 ? hotFrom[pair] : random.nextInt(vertices.length)];
+        }
+
+        Vertex<Integer> to(ThreadLocalRandom random, int pair) {
+            return vertices[pair >= 0 ? hotTo[pair] : random.nextInt(vertices.length)];
+        }
+
+        int nextPair(ThreadLocalRandom random) {
+            return random.nextInt(100) < hotPercent ? random.nextInt(hotPairCount) : -1;
+        }
+
+    }
+
+    @Benchmark
+    public void cached(GraphState state, Blackhole blackhole) {
+        var random = ThreadLocalRandom.current();
+        int pair = state.nextPair(random);
+        try {
+            state.cache.findPath(state.from(random, pair), state.to(random, pair), blackhole::consume);
+        } catch (IllegalStateException ignored) {
+            // not reachable pairs are part of the traffic
+        }
+    }
+
+    @Benchmark
+    public void uncached(GraphState state, Blackhole blackhole) {
+        var random = ThreadLocalRandom.current();
+        int pair = state.nextPair(random);
+        try {
+            state.graph.findPath(state.from(random, pair), state.to(random, pair), blackhole::consume);
+        } catch (IllegalStateException ignored) {
+            // not reachable pairs are part of the traffic
+        }
+    }
+
+}
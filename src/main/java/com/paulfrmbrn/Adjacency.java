@@ -0,0 +1,116 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compressed sparse row (CSR) representation of the {@link Graph} edges
+ *
+ * Vertices are addressed by their dense index. Edges of the vertex {@code v} are addressed by positions
+ * from {@link Adjacency#begin(int)} inclusive to {@link Adjacency#end(int)} exclusive,
+ * {@link Adjacency#target(int)} and {@link Adjacency#weight(int)} give the target vertex and the weight of the edge
+ *
+ * Edges are kept either in heap arrays, see {@link ArrayAdjacency}, or in direct or memory-mapped buffers
+ * out of the heap, see {@link BufferAdjacency}. Searches work with both of them the same way
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+abstract class Adjacency {
+
+    private static final int TRANSPOSE_GRAIN = 1 << 12;
+
+    /**
+     * Creates heap adjacency over the arrays
+     *
+     * @param offsets array of {@code vertexCount + 1} elements, {@code offsets[vertexCount]} equals to edges count
+     * @param targets target vertex index for each edge
+     * @param weights weight for each edge
+     */
+    static Adjacency of(@Nonnull int[] offsets, @Nonnull int[] targets, @Nonnull int[] weights) {
+        return new ArrayAdjacency(offsets, targets, weights);
+    }
+
+    abstract int vertexCount();
+
+    abstract int edgeCount();
+
+    abstract int begin(int vertex);
+
+    abstract int end(int vertex);
+
+    int degree(int vertex) {
+        return end(vertex) - begin(vertex);
+    }
+
+    abstract int target(int edge);
+
+    abstract int weight(int edge);
+
+    /**
+     * Builds the transposed adjacency in the heap, i.e. the one where every edge {@code u -> v} becomes {@code v -> u}
+     * Edges of each vertex in the result are sorted by their target index
+     */
+    Adjacency transpose() {
+        return transpose(null);
+    }
+
+    /**
+     * Same as {@link Adjacency#transpose()}, but if there is a {pool} counts and places edges by parallel tasks
+     * and then sorts each row, since tasks place edges of a row in no particular order
+     *
+     * @param pool pool to transpose in parallel or {@code null} to transpose in this thread
+     */
+    Adjacency transpose(@Nullable ForkJoinPool pool) {
+        int vertexCount = vertexCount();
+        int edgeCount = edgeCount();
+        var reverseOffsets = new int[vertexCount + 1];
+        ParallelRanges.forEach(pool, vertexCount, TRANSPOSE_GRAIN, (from, to) -> {
+            for (int vertex = from; vertex < to; vertex++) {
+                for (int edge = begin(vertex), end = end(vertex); edge < end; edge++) {
+                    ParallelRanges.getAndIncrement(pool, reverseOffsets, target(edge) + 1);
+                }
+            }
+        });
+        ParallelRanges.prefixSum(pool, reverseOffsets);
+
+        var cursors = Arrays.copyOf(reverseOffsets, vertexCount);
+        var reverseTargets = new int[edgeCount];
+        var reverseWeights = new int[edgeCount];
+        if (pool == null) {
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                for (int edge = begin(vertex), end = end(vertex); edge < end; edge++) {
+                    int position = cursors[target(edge)]++;
+                    reverseTargets[position] = vertex;
+                    reverseWeights[position] = weight(edge);
+                }
+            }
+            return new ArrayAdjacency(reverseOffsets, reverseTargets, reverseWeights);
+        }
+
+        // reverse target in the high half and the weight in the low half, so sorting a row orders it by target
+        var keys = new long[edgeCount];
+        ParallelRanges.forEach(pool, vertexCount, TRANSPOSE_GRAIN, (from, to) -> {
+            for (int vertex = from; vertex < to; vertex++) {
+                for (int edge = begin(vertex), end = end(vertex); edge < end; edge++) {
+                    keys[ParallelRanges.getAndIncrement(pool, cursors, target(edge))] = ((long) vertex << 32) | (weight(edge) & 0xFFFFFFFFL);
+                }
+            }
+        });
+        ParallelRanges.forEach(pool, vertexCount, TRANSPOSE_GRAIN, (from, to) -> {
+            for (int vertex = from; vertex < to; vertex++) {
+                Arrays.sort(keys, reverseOffsets[vertex], reverseOffsets[vertex + 1]);
+            }
+            for (int edge = reverseOffsets[from], end = reverseOffsets[to]; edge < end; edge++) {
+                reverseTargets[edge] = (int) (keys[edge] >>> 32);
+                reverseWeights[edge] = (int) keys[edge];
+            }
+        });
+        return new ArrayAdjacency(reverseOffsets, reverseTargets, reverseWeights);
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Adjacency} kept in heap arrays
+ *
+ * Edges of the vertex {@code v} occupy positions from {@code offsets[v]} inclusive to {@code offsets[v + 1]} exclusive
+ * of {@link ArrayAdjacency#targets} and {@link ArrayAdjacency#weights} arrays
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+final class ArrayAdjacency extends Adjacency {
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    /**
+     * @param offsets array of {@code vertexCount + 1} elements, {@code offsets[vertexCount]} equals to edges count
+     * @param targets target vertex index for each edge
+     * @param weights weight for each edge
+     */
+    ArrayAdjacency(@Nonnull int[] offsets, @Nonnull int[] targets, @Nonnull int[] weights) {
+        this.offsets = requireNonNull(offsets, "offsets");
+        this.targets = requireNonNull(targets, "targets");
+        this.weights = requireNonNull(weights, "weights");
+        if (offsets.length == 0 || targets.length != weights.length || offsets[offsets.length - 1] != targets.length) {
+            throw new IllegalArgumentException("Inconsistent adjacency arrays");
+        }
+    }
+
+    @Override
+    int vertexCount() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    int edgeCount() {
+        return targets.length;
+    }
+
+    @Override
+    int begin(int vertex) {
+        return offsets[vertex];
+    }
+
+    @Override
+    int end(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    @Override
+    int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    @Override
+    int target(int edge) {
+        return targets[edge];
+    }
+
+    @Override
+    int weight(int edge) {
+        return weights[edge];
+    }
+
+}
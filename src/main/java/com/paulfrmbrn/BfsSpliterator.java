@@ -0,0 +1,119 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Breadth-first order of vertex indices reachable from a root, produced lazily: a vertex is expanded only when
+ * it is consumed, so a stream stopped early, e.g. by {@link java.util.stream.Stream#findFirst()}, scans only the edges
+ * of the consumed vertices
+ *
+ * Vertices are kept level by level. {@link BfsSpliterator#trySplit()} gives away the rest of the current level
+ * together with as many whole following levels as needed to collect at least {@link BfsSpliterator#MIN_SPLIT_SIZE}
+ * vertices, or all the remaining ones, as an array, which splits further by halves, so a parallel stream consumes
+ * the vertices of each level in parallel, while the levels themselves are still expanded by this spliterator
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@NotThreadSafe
+final class BfsSpliterator implements Spliterator.OfInt {
+
+    static final int MIN_SPLIT_SIZE = 1 << 10;
+
+    private static final int CHARACTERISTICS = ORDERED | DISTINCT | NONNULL;
+
+    private final Adjacency adjacency;
+    private final VisitedSet visited;
+    private IntList level = new IntList();
+    private IntList nextLevel = new IntList();
+    // next vertex of the level to consume and next one to expand, which stays behind after a split
+    private int position;
+    private int expanded;
+    // vertices consumed here or given away by splits
+    private long consumedCount;
+
+    BfsSpliterator(@Nonnull Adjacency adjacency, int root) {
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.visited = new VisitedSet(adjacency.vertexCount());
+        visited.add(root);
+        level.add(root);
+    }
+
+    @Override
+    public boolean tryAdvance(@Nonnull IntConsumer action) {
+        requireNonNull(action, "action");
+        if (position == level.size() && !nextLevel()) {
+            return false;
+        }
+        expandTo(position + 1);
+        consumedCount++;
+        action.accept(level.get(position++));
+        return true;
+    }
+
+    @Override
+    public OfInt trySplit() {
+        if (position == level.size() && !nextLevel()) {
+            return null;
+        }
+        var prefix = new IntList();
+        do {
+            for (int i = position; i < level.size(); i++) {
+                prefix.add(level.get(i));
+            }
+            position = level.size();
+        } while (prefix.size() < MIN_SPLIT_SIZE && nextLevel());
+        consumedCount += prefix.size();
+        return Spliterators.spliterator(prefix.toArray(), CHARACTERISTICS | IMMUTABLE);
+    }
+
+    /**
+     * @return upper bound of the count of vertices left, since not all of them may be reachable
+     */
+    @Override
+    public long estimateSize() {
+        return adjacency.vertexCount() - consumedCount;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Expands the rest of the level and moves on to the next one
+     *
+     * @return {@code false} if the next level is empty
+     */
+    private boolean nextLevel() {
+        expandTo(level.size());
+        var swap = level;
+        level = nextLevel;
+        nextLevel = swap;
+        nextLevel.clear();
+        position = 0;
+        expanded = 0;
+        return level.size() > 0;
+    }
+
+    private void expandTo(int end) {
+        for (; expanded < end; expanded++) {
+            int current = level.get(expanded);
+            for (int edge = adjacency.begin(current), last = adjacency.end(current); edge < last; edge++) {
+                int target = adjacency.target(edge);
+                if (visited.add(target)) {
+                    nextLevel.add(target);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Adjacency} kept out of the heap in direct or read-only memory-mapped buffers, see {@link IntRegion}
+ *
+ * Garbage collector neither scans nor moves the edges, and pages of a mapped file are loaded on demand
+ * and shared by all processes mapping the same file, so the graph can be larger than the heap
+ *
+ * File layout of a single adjacency, all ints are little-endian:
+ * <pre>
+ *     int vertexCount, int edgeCount,
+ *     int[vertexCount + 1] offsets, int[edgeCount] targets, int[edgeCount] weights
+ * </pre>
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+final class BufferAdjacency extends Adjacency {
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    private final IntRegion offsets;
+    private final IntRegion targets;
+    private final IntRegion weights;
+
+    private BufferAdjacency(IntRegion offsets, IntRegion targets, IntRegion weights) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Copies the {source} to direct buffers
+     */
+    static BufferAdjacency copyOf(@Nonnull Adjacency source) {
+        return copyOf(source, IntRegion.DEFAULT_CHUNK_SHIFT);
+    }
+
+    static BufferAdjacency copyOf(@Nonnull Adjacency source, int chunkShift) {
+        requireNonNull(source, "source");
+        int vertexCount = source.vertexCount();
+        int edgeCount = source.edgeCount();
+        var offsets = IntRegion.allocateDirect(vertexCount + 1, chunkShift);
+        var targets = IntRegion.allocateDirect(edgeCount, chunkShift);
+        var weights = IntRegion.allocateDirect(edgeCount, chunkShift);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            offsets.put(vertex, source.begin(vertex));
+        }
+        offsets.put(vertexCount, edgeCount);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            targets.put(edge, source.target(edge));
+            weights.put(edge, source.weight(edge));
+        }
+        return new BufferAdjacency(offsets, targets, weights);
+    }
+
+    /**
+     * Writes the {adjacency} to the file starting at the {position} byte
+     *
+     * @return position of the byte following the written adjacency
+     */
+    static long write(@Nonnull Adjacency adjacency, @Nonnull FileChannel channel, long position) throws IOException {
+        requireNonNull(adjacency, "adjacency");
+        requireNonNull(channel, "channel");
+        int vertexCount = adjacency.vertexCount();
+        int edgeCount = adjacency.edgeCount();
+        var writer = new Writer(channel, position);
+        writer.putInt(vertexCount);
+        writer.putInt(edgeCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            writer.putInt(adjacency.begin(vertex));
+        }
+        writer.putInt(edgeCount);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            writer.putInt(adjacency.target(edge));
+        }
+        for (int edge = 0; edge < edgeCount; edge++) {
+            writer.putInt(adjacency.weight(edge));
+        }
+        return writer.flush();
+    }
+
+    /**
+     * Maps read-only the adjacency written by {@link BufferAdjacency#write(Adjacency, FileChannel, long)}
+     * at the {position} byte of the file. Mapping stays valid after the channel is closed
+     *
+     * @throws IllegalArgumentException if the file does not contain a valid adjacency at the {position}
+     */
+    static BufferAdjacency map(@Nonnull FileChannel channel, long position) throws IOException {
+        return map(channel, position, IntRegion.DEFAULT_CHUNK_SHIFT);
+    }
+
+    static BufferAdjacency map(@Nonnull FileChannel channel, long position, int chunkShift) throws IOException {
+        requireNonNull(channel, "channel");
+        var header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, position + header.position()) < 0) {
+                throw new IllegalArgumentException("File is too short for the adjacency");
+            }
+        }
+        int vertexCount = header.getInt(0);
+        int edgeCount = header.getInt(Integer.BYTES);
+        if (vertexCount < 0 || edgeCount < 0 || position + byteSize(vertexCount, edgeCount) > channel.size()) {
+            throw new IllegalArgumentException("File does not contain a valid adjacency");
+        }
+
+        var mode = FileChannel.MapMode.READ_ONLY;
+        long offsetsAt = position + HEADER_BYTES;
+        long targetsAt = offsetsAt + (long) Integer.BYTES * (vertexCount + 1);
+        long weightsAt = targetsAt + (long) Integer.BYTES * edgeCount;
+        var adjacency = new BufferAdjacency(
+                IntRegion.map(channel, mode, offsetsAt, vertexCount + 1, chunkShift),
+                IntRegion.map(channel, mode, targetsAt, edgeCount, chunkShift),
+                IntRegion.map(channel, mode, weightsAt, edgeCount, chunkShift));
+        if (adjacency.offsets.get(vertexCount) != edgeCount) {
+            throw new IllegalArgumentException("File does not contain a valid adjacency");
+        }
+        return adjacency;
+    }
+
+    /**
+     * Writes the {adjacency} and the {reverseAdjacency} to the {file}, replacing its content, and maps them back.
+     * Reverse adjacency is written only if it differs from the forward one
+     *
+     * @return mapped adjacency and reverse adjacency
+     */
+    static Adjacency[] writeAndMap(@Nonnull Path file, @Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency)
+            throws IOException {
+        requireNonNull(file, "file");
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long reverseAt = write(adjacency, channel, 0);
+            if (reverseAdjacency != adjacency) {
+                write(reverseAdjacency, channel, reverseAt);
+            }
+            var mapped = map(channel, 0);
+            return new Adjacency[]{mapped, reverseAdjacency == adjacency ? mapped : map(channel, reverseAt)};
+        }
+    }
+
+    /**
+     * @return size of the adjacency in a file
+     */
+    static long byteSize(int vertexCount, int edgeCount) {
+        return HEADER_BYTES + Integer.BYTES * (vertexCount + 1L) + 2L * Integer.BYTES * edgeCount;
+    }
+
+    @Override
+    int vertexCount() {
+        return offsets.length() - 1;
+    }
+
+    @Override
+    int edgeCount() {
+        return targets.length();
+    }
+
+    @Override
+    int begin(int vertex) {
+        return offsets.get(vertex);
+    }
+
+    @Override
+    int end(int vertex) {
+        return offsets.get(vertex + 1);
+    }
+
+    @Override
+    int target(int edge) {
+        return targets.get(edge);
+    }
+
+    @Override
+    int weight(int edge) {
+        return weights.get(edge);
+    }
+
+    /**
+     * Writes little-endian ints to the file through a small heap buffer
+     */
+    static final class Writer {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        Writer(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        void putInt(int value) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        /**
+         * @return position of the byte following the written ones
+         */
+        long flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+            return position;
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ObjIntConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Connected components of a {@link Graph}, computed by {@link Graph#components()}
+ *
+ * Directions of edges are ignored, so components of a directed graph are its weakly connected components:
+ * a vertex can be reachable only from vertices of its own component. Components are found by a single pass
+ * over the edges uniting their ends in a {@link UnionFind} and are numbered from {@code 0} in the order
+ * of their first vertices as they were added to the graph
+ *
+ * Vertices are kept grouped by component, so the size of a component and the component of a vertex
+ * are read in O(1), and each component can be traversed on its own, see {@link Components#traverseParallel(ForkJoinPool, ObjIntConsumer)}
+ *
+ * Instance is immutable and can be safely shared between threads
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+public final class Components<T> {
+
+    private static final int VERTEX_GRAIN = 1 << 12;
+
+    private final Graph<T> graph;
+    private final Adjacency adjacency;
+    private final Adjacency reverseAdjacency;
+    private final int count;
+    private final int[] components;
+    // vertices of the component {@code c} are {@code members[offsets[c]]} ... {@code members[offsets[c + 1] - 1]} ascending
+    private final int[] offsets;
+    private final int[] members;
+
+    Components(@Nonnull Graph<T> graph, @Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency) {
+        this.graph = requireNonNull(graph, "graph");
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.reverseAdjacency = requireNonNull(reverseAdjacency, "reverseAdjacency");
+
+        int vertexCount = adjacency.vertexCount();
+        var sets = new UnionFind(vertexCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int edge = adjacency.begin(vertex), end = adjacency.end(vertex); edge < end; edge++) {
+                sets.union(vertex, adjacency.target(edge));
+            }
+        }
+
+        // roots are numbered when their first vertex is met, so components follow the order of vertices
+        this.components = new int[vertexCount];
+        var numbers = new int[vertexCount];
+        Arrays.fill(numbers, -1);
+        int componentCount = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int root = sets.find(vertex);
+            if (numbers[root] < 0) {
+                numbers[root] = componentCount++;
+            }
+            components[vertex] = numbers[root];
+        }
+        this.count = componentCount;
+
+        this.offsets = new int[componentCount + 1];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            offsets[components[vertex] + 1]++;
+        }
+        for (int component = 0; component < componentCount; component++) {
+            offsets[component + 1] += offsets[component];
+        }
+        this.members = new int[vertexCount];
+        var positions = Arrays.copyOf(offsets, componentCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            members[positions[components[vertex]]++] = vertex;
+        }
+    }
+
+    /**
+     * @return count of components
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return number of the component the {vertex} belongs to, from {@code 0} to {@link Components#getCount()} exclusive
+     * @throws IllegalArgumentException if vertex does not belong to the graph
+     */
+    public int componentOf(@Nonnull Vertex<T> vertex) {
+        return components[graph.indexOf(vertex)];
+    }
+
+    /**
+     * @return {@code true} if both vertices belong to the same component, which is necessary for a path between them
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    public boolean isConnected(@Nonnull Vertex<T> first, @Nonnull Vertex<T> second) {
+        return isConnected(graph.indexOf(first), graph.indexOf(second));
+    }
+
+    /**
+     * @return count of vertices in the {component}
+     * @throws IllegalArgumentException if there is no such component
+     */
+    public int size(int component) {
+        validateComponent(component);
+        return offsets[component + 1] - offsets[component];
+    }
+
+    /**
+     * @return count of vertices in each of the components, indexed by component
+     */
+    public int[] sizes() {
+        var sizes = new int[count];
+        for (int component = 0; component < count; component++) {
+            sizes[component] = offsets[component + 1] - offsets[component];
+        }
+        return sizes;
+    }
+
+    /**
+     * Traverses the {component} breadth-first from its first vertex, ignoring directions of edges,
+     * and applies specified action on each of its vertices
+     *
+     * @throws IllegalArgumentException if there is no such component
+     */
+    public void traverse(int component, @Nonnull ObjIntConsumer<T> consumer) {
+        validateComponent(component);
+        requireNonNull(consumer, "consumer");
+        traverseComponent(component, consumer, new boolean[members.length], new IntQueue());
+    }
+
+    /**
+     * Traverses all components in parallel using {@link ForkJoinPool#commonPool()}.
+     * Same as {@link Components#traverseParallel(ForkJoinPool, ObjIntConsumer)}
+     */
+    public void traverseParallel(@Nonnull ObjIntConsumer<T> consumer) {
+        traverseParallel(ForkJoinPool.commonPool(), consumer);
+    }
+
+    /**
+     * Traverses each component the same way as {@link Components#traverse(int, ObjIntConsumer)}, many components
+     * at once using all threads of the {pool}. Unlike {@link Graph#traverse(java.util.function.Consumer)}
+     * all vertices of a disconnected graph are visited
+     *
+     * Consumer contract:
+     * <ul>
+     *     <li>consumer receives the value of each vertex and the number of its component exactly once,
+     *     concurrently from the threads of the {pool}, so it has to be thread-safe</li>
+     *     <li>each component is traversed by a single thread in the same order as by {@link Components#traverse(int, ObjIntConsumer)},
+     *     order of components is not defined</li>
+     *     <li>exception thrown by the consumer stops the traversal and is rethrown by this method</li>
+     * </ul>
+     */
+    public void traverseParallel(@Nonnull ForkJoinPool pool, @Nonnull ObjIntConsumer<T> consumer) {
+        requireNonNull(pool, "pool");
+        requireNonNull(consumer, "consumer");
+        // ranges of members are balanced by count of vertices, each range traverses components which start in it.
+        // Components are disjoint, so tasks share the visited flags without ever touching the same element
+        var isVisited = new boolean[members.length];
+        ParallelRanges.forEach(pool, members.length, VERTEX_GRAIN, (from, to) -> {
+            int component = components[members[from]];
+            if (offsets[component] < from) {
+                component++;
+            }
+            var queue = new IntQueue();
+            for (; component < count && offsets[component] < to; component++) {
+                traverseComponent(component, consumer, isVisited, queue);
+            }
+        });
+    }
+
+    boolean isConnected(int first, int second) {
+        return components[first] == components[second];
+    }
+
+    /**
+     * @param isVisited visited flags indexed by vertex, only the vertices of the {component} are read and written
+     * @param queue empty queue, which is left empty
+     */
+    private void traverseComponent(int component, ObjIntConsumer<T> consumer, boolean[] isVisited, IntQueue queue) {
+        int first = members[offsets[component]];
+        isVisited[first] = true;
+        queue.add(first);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            consumer.accept(graph.vertexAt(current).getValue(), component);
+            visitNeighbours(adjacency, current, isVisited, queue);
+            if (reverseAdjacency != adjacency) {
+                visitNeighbours(reverseAdjacency, current, isVisited, queue);
+            }
+        }
+    }
+
+    private static void visitNeighbours(Adjacency adjacency, int vertex, boolean[] isVisited, IntQueue queue) {
+        for (int edge = adjacency.begin(vertex), last = adjacency.end(vertex); edge < last; edge++) {
+            int target = adjacency.target(edge);
+            if (!isVisited[target]) {
+                isVisited[target] = true;
+                queue.add(target);
+            }
+        }
+    }
+
+    private void validateComponent(int component) {
+        if (component < 0 || component >= count) {
+            throw new IllegalArgumentException("There is no component " + component);
+        }
+    }
+
+}
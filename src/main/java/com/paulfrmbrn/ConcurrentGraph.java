@@ -0,0 +1,391 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Mutable version of a {@link Graph} with the same vertices, whose edges can be added, removed and reweighted
+ * while other threads search it, see {@link Graph#toConcurrentGraph()}
+ *
+ * Searches run on a {@link Snapshot}: an immutable version of the graph taken by {@link ConcurrentGraph#snapshot()}
+ * in constant time. Every change publishes a new version, and snapshots taken before keep seeing the edges
+ * they were taken with, so readers never block and never see a change half applied
+ *
+ * Versions share unchanged edges, see {@link VersionedAdjacency}: a change copies the rows of its vertices and
+ * a small table of row references, which takes time proportional to the degree of the vertices plus
+ * {@code vertexCount / 1024}. Changes are applied one at a time under a lock held for that time only.
+ * Replaced rows are dropped by rewriting all edges once they take more memory than the rows in use
+ *
+ * Undirected graph stays undirected: each change applies to both directions of the edge
+ *
+ * The last {@link ConcurrentGraph#CHANGE_LOG_SIZE} changed edges are remembered, so that shortest paths found
+ * on an older snapshot can be repaired instead of being searched again, see {@link DynamicShortestPathTree}
+ *
+ * Instance is thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@ThreadSafe
+public final class ConcurrentGraph<T> {
+
+    private static final int MIN_COMPACTED_SIZE = VersionedAdjacency.Arena.CHUNK_SIZE;
+    private static final int CHANGE_LOG_SIZE = 1 << 14;
+
+    private final int root;
+    private final Vertex<T>[] vertices;
+    private final VertexIndex index;
+    private final boolean isWeighted;
+    private final boolean isDirected;
+
+    private final Object lock = new Object();
+    @GuardedBy("lock")
+    private VersionedAdjacency.Arena arena;
+    // ends of the edge changed by the version packed into a long, at the version modulo the size
+    @GuardedBy("lock")
+    private final long[] changeLog = new long[CHANGE_LOG_SIZE];
+    private volatile Snapshot<T> current;
+
+    ConcurrentGraph(int root, @Nonnull Vertex<T>[] vertices, @Nonnull VertexIndex index,
+                    @Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency, boolean isWeighted) {
+        this.root = root;
+        this.vertices = requireNonNull(vertices, "vertices");
+        this.index = requireNonNull(index, "index");
+        this.isWeighted = isWeighted;
+        this.isDirected = reverseAdjacency != adjacency;
+        this.arena = new VersionedAdjacency.Arena();
+        var versioned = VersionedAdjacency.copyOf(adjacency, arena);
+        var reverseVersioned = isDirected ? VersionedAdjacency.copyOf(reverseAdjacency, arena) : versioned;
+        this.current = new Snapshot<>(this, 0, versioned, reverseVersioned);
+    }
+
+    /**
+     * @return the latest version of the graph
+     */
+    public Snapshot<T> snapshot() {
+        return current;
+    }
+
+    /**
+     * Adds the edge of the {@link Graph.Builder#UNWEIGHTED_WEIGHT}, see {@link ConcurrentGraph#addEdge(Vertex, Vertex, int)}
+     */
+    public boolean addEdge(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to) {
+        return change(from, to, Graph.Builder.UNWEIGHTED_WEIGHT, false);
+    }
+
+    /**
+     * Adds the edge from {from} to {to} of the {weight}, or in both directions if the graph is undirected
+     *
+     * @return {@code false} if there is such an edge already, its weight is not changed then
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph or the {weight} is negative
+     * @throws IllegalStateException if the graph is not weighted and the {weight} is not the unweighted one
+     */
+    public boolean addEdge(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, int weight) {
+        return change(from, to, validateWeight(weight), false);
+    }
+
+    /**
+     * Sets the {weight} of the edge from {from} to {to}, or in both directions if the graph is undirected
+     *
+     * @return {@code false} if there is no such edge
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph or the {weight} is negative
+     * @throws IllegalStateException if the graph is not weighted
+     */
+    public boolean updateWeight(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, int weight) {
+        if (!isWeighted) {
+            throw new IllegalStateException("Graph is not weighted");
+        }
+        return change(from, to, validateWeight(weight), true);
+    }
+
+    /**
+     * Removes the edge from {from} to {to}, or in both directions if the graph is undirected
+     *
+     * @return {@code false} if there is no such edge
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    public boolean removeEdge(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to) {
+        return change(from, to, VersionedAdjacency.NOT_FOUND, true);
+    }
+
+    /**
+     * Creates a workspace for repeated searches over snapshots of this graph, see {@link SearchContext}
+     */
+    public SearchContext<T> newSearchContext() {
+        return new SearchContext<>(this, vertices.length, true);
+    }
+
+    /**
+     * @return all vertices of the graph
+     */
+    public Set<Vertex<T>> getVertices() {
+        return new HashSet<>(Arrays.asList(this.vertices));
+    }
+
+    /**
+     * Applies the change to the latest version and publishes the result
+     *
+     * @param weight new weight of the edge or {@link VersionedAdjacency#NOT_FOUND} to remove it
+     * @param isExisting {@code true} to change an existing edge, {@code false} to add a new one
+     * @return {@code false} if the edge does not exist or already exists respectively
+     */
+    private boolean change(Vertex<T> from, Vertex<T> to, int weight, boolean isExisting) {
+        int fromIndex = indexOf(from);
+        int toIndex = indexOf(to);
+        synchronized (lock) {
+            var latest = current;
+            var adjacency = latest.adjacency;
+            if ((adjacency.find(fromIndex, toIndex) != VersionedAdjacency.NOT_FOUND) != isExisting) {
+                return false;
+            }
+            adjacency = adjacency.withEdge(arena, fromIndex, toIndex, weight);
+            VersionedAdjacency reverseAdjacency;
+            if (isDirected) {
+                reverseAdjacency = latest.reverseAdjacency.withEdge(arena, toIndex, fromIndex, weight);
+            } else {
+                adjacency = fromIndex == toIndex ? adjacency : adjacency.withEdge(arena, toIndex, fromIndex, weight);
+                reverseAdjacency = adjacency;
+            }
+            if (arena.size() > MIN_COMPACTED_SIZE && arena.size() / 2 > liveSize(adjacency, reverseAdjacency)) {
+                arena = new VersionedAdjacency.Arena();
+                adjacency = VersionedAdjacency.copyOf(adjacency, arena);
+                reverseAdjacency = isDirected ? VersionedAdjacency.copyOf(reverseAdjacency, arena) : adjacency;
+            }
+            long version = latest.version + 1;
+            changeLog[(int) (version & (CHANGE_LOG_SIZE - 1))] = ((long) fromIndex << 32) | (toIndex & 0xFFFFFFFFL);
+            current = new Snapshot<>(this, version, adjacency, reverseAdjacency);
+            return true;
+        }
+    }
+
+    /**
+     * Copies source and target indices of the edges changed by versions after the {fromVersion}
+     * up to the {toVersion} inclusive to the {changes}, in the order of the versions
+     *
+     * @return {@code false} if some of these changes are not remembered any more, nothing is copied then
+     */
+    boolean changesBetween(long fromVersion, long toVersion, @Nonnull IntList changes) {
+        synchronized (lock) {
+            if (current.version - fromVersion > CHANGE_LOG_SIZE) {
+                return false;
+            }
+            for (long version = fromVersion + 1; version <= toVersion; version++) {
+                long change = changeLog[(int) (version & (CHANGE_LOG_SIZE - 1))];
+                changes.add((int) (change >>> 32));
+                changes.add((int) change);
+            }
+            return true;
+        }
+    }
+
+    boolean isDirected() {
+        return isDirected;
+    }
+
+    int vertexCount() {
+        return vertices.length;
+    }
+
+    Vertex<T> vertexAt(int index) {
+        return vertices[index];
+    }
+
+    private long liveSize(VersionedAdjacency adjacency, VersionedAdjacency reverseAdjacency) {
+        return (long) adjacency.edgeCount() + (isDirected ? reverseAdjacency.edgeCount() : 0);
+    }
+
+    private int validateWeight(int weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight can not be negative");
+        }
+        if (!isWeighted && weight != Graph.Builder.UNWEIGHTED_WEIGHT) {
+            throw new IllegalStateException("Graph is not weighted");
+        }
+        return weight;
+    }
+
+    int indexOf(@Nonnull Vertex<T> vertex) {
+        requireNonNull(vertex, "vertex");
+        int vertexIndex = index.indexOf(vertex);
+        if (vertexIndex == VertexIndex.ABSENT) {
+            throw new IllegalArgumentException("Vertex does not belong to the Graph");
+        }
+        return vertexIndex;
+    }
+
+    /**
+     * Version of a {@link ConcurrentGraph}, which is not affected by later changes
+     *
+     * Searches work the same way as searches of {@link Graph} and take search contexts
+     * created by {@link ConcurrentGraph#newSearchContext()} of the graph the snapshot is taken of
+     *
+     * Instance is immutable
+     */
+    @Immutable
+    public static final class Snapshot<T> {
+
+        private final ConcurrentGraph<T> graph;
+        private final long version;
+        private final VersionedAdjacency adjacency;
+        private final VersionedAdjacency reverseAdjacency;
+        private final PathFinder finder;
+
+        private Snapshot(ConcurrentGraph<T> graph, long version,
+                         VersionedAdjacency adjacency, VersionedAdjacency reverseAdjacency) {
+            this.graph = graph;
+            this.version = version;
+            this.adjacency = adjacency;
+            this.reverseAdjacency = reverseAdjacency;
+            this.finder = new PathFinder(adjacency, reverseAdjacency, graph.isWeighted);
+        }
+
+        /**
+         * @return count of changes applied to the graph before the snapshot was taken
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Same as {@link Graph#traverse(Consumer)}
+         */
+        public void traverse(@Nonnull Consumer<T> consumer) {
+            traverse(new SearchContext<>(graph, graph.vertices.length, false), consumer);
+        }
+
+        /**
+         * Same as {@link Graph#traverse(SearchContext, Consumer)}
+         *
+         * @throws IllegalStateException if some vertices are not reachable from the root
+         * @throws IllegalArgumentException if {context} was created by another graph
+         */
+        public void traverse(@Nonnull SearchContext<T> context, @Nonnull Consumer<T> consumer) {
+
+            validateContext(context);
+            requireNonNull(consumer, "consumer");
+
+            var order = context.path();
+            finder.traverse(graph.root, context, order);
+            emit(order, consumer);
+            if (order.size() < graph.vertices.length) {
+                throw new IllegalStateException("Some vertices are not reachable from the root");
+            }
+        }
+
+        /**
+         * Same as {@link Graph#findPath(Vertex, Vertex, Consumer)}
+         */
+        public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull Consumer<T> consumer) {
+            findPath(from, to, SearchMode.UNIDIRECTIONAL, consumer);
+        }
+
+        /**
+         * Same as {@link Graph#findPath(Vertex, Vertex, SearchContext, Consumer)}
+         */
+        public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull SearchContext<T> context, @Nonnull Consumer<T> consumer) {
+            findPath(from, to, SearchMode.UNIDIRECTIONAL, context, consumer);
+        }
+
+        /**
+         * Same as {@link Graph#findPath(Vertex, Vertex, SearchMode, Consumer)}
+         */
+        public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull SearchMode mode, @Nonnull Consumer<T> consumer) {
+            findPath(from, to, mode, new SearchContext<>(graph, graph.vertices.length, false), consumer);
+        }
+
+        /**
+         * Same as {@link Graph#findPath(Vertex, Vertex, SearchMode, SearchContext, Consumer)}
+         *
+         * @throws IllegalStateException if {to} is not reachable from {from}
+         * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+         *                                  or {context} was created by another graph
+         */
+        public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull SearchMode mode,
+                             @Nonnull SearchContext<T> context, @Nonnull Consumer<T> consumer) {
+
+            int fromIndex = graph.indexOf(from);
+            int toIndex = graph.indexOf(to);
+            requireNonNull(mode, "mode");
+            validateContext(context);
+            requireNonNull(consumer, "consumer");
+
+            var path = context.path();
+            if (!finder.findPath(fromIndex, toIndex, mode, context, path)) {
+                throw new IllegalStateException("Vertex 'to' is not reachable from vertex 'from'");
+            }
+            emit(path, consumer);
+        }
+
+        /**
+         * Computes shortest paths from {from} to all vertices, which can then be repaired to later snapshots
+         * at the cost proportional to the part of the tree affected by the changes, see {@link DynamicShortestPathTree}
+         *
+         * @throws IllegalArgumentException if vertex does not belong to the graph
+         */
+        public DynamicShortestPathTree<T> shortestPathTree(@Nonnull Vertex<T> from) {
+            return new DynamicShortestPathTree<>(this, graph.indexOf(from));
+        }
+
+        /**
+         * @return all edges for the specified vertex
+         * @throws IllegalArgumentException if vertex does not belong to the graph
+         */
+        public Set<Edge<T>> getEdges(@Nonnull Vertex<T> from) {
+            int fromIndex = graph.indexOf(from);
+            var edges = new HashSet<Edge<T>>();
+            for (int edge = adjacency.begin(fromIndex), end = adjacency.end(fromIndex); edge < end; edge++) {
+                edges.add(new Edge<>(graph.vertices[adjacency.target(edge)], adjacency.weight(edge)));
+            }
+            return edges;
+        }
+
+        /**
+         * Copies the snapshot into an immutable {@link Graph} with all its features, which takes time and memory
+         * proportional to the size of the graph. Vertex objects are shared
+         */
+        public Graph<T> toGraph() {
+            var compacted = adjacency.compact();
+            var reverseCompacted = graph.isDirected ? reverseAdjacency.compact() : compacted;
+            return Graph.of(graph.vertices, graph.root, compacted, reverseCompacted, graph.isWeighted);
+        }
+
+        ConcurrentGraph<T> graph() {
+            return graph;
+        }
+
+        VersionedAdjacency adjacency() {
+            return adjacency;
+        }
+
+        VersionedAdjacency reverseAdjacency() {
+            return reverseAdjacency;
+        }
+
+        PathFinder pathFinder() {
+            return finder;
+        }
+
+        private void validateContext(@Nonnull SearchContext<T> context) {
+            requireNonNull(context, "context");
+            if (!context.belongsTo(graph)) {
+                throw new IllegalArgumentException("Search context belongs to another Graph");
+            }
+        }
+
+        private void emit(IntList path, Consumer<T> consumer) {
+            for (int i = 0; i < path.size(); i++) {
+                consumer.accept(graph.vertices[path.get(i)].getValue());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,333 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Contraction hierarchy of the {@link Graph} built by {@link Graph#contract()}
+ *
+ * Every vertex gets a rank, edges and shortcuts are split into the upward ones (from lower rank to higher rank)
+ * and the downward ones. Shortest path query runs two Dijkstra searches which go only upwards:
+ * forward one from {from} and backward one from {to}. Each search stops once its top distance is not less
+ * than the best path found, which usually happens after settling only a few hundreds of vertices
+ *
+ * Every shortcut remembers the vertex it bypasses, so found paths are unpacked back to the original vertices
+ *
+ * Instance is immutable and can be safely shared between threads
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+public final class ContractedGraph<T> {
+
+    private static final int NO_PARENT = SearchState.NO_PARENT;
+    private static final int NO_MIDDLE = Contractor.NO_MIDDLE;
+
+    private final Graph<T> graph;
+    private final int[] ranks;
+    private final Adjacency upward;
+    private final int[] upwardMiddles;
+    private final Adjacency downward;
+    private final int[] downwardMiddles;
+
+    ContractedGraph(@Nonnull Graph<T> graph, @Nonnull Adjacency adjacency) {
+        this.graph = requireNonNull(graph, "graph");
+        var contractor = new Contractor(adjacency);
+        this.ranks = contractor.contract();
+
+        int vertexCount = adjacency.vertexCount();
+        var upwardEdges = new Contractor.DynamicEdges[vertexCount];
+        var downwardEdges = new Contractor.DynamicEdges[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            upwardEdges[vertex] = contractor.upwardOutgoing(vertex);
+            downwardEdges[vertex] = contractor.upwardIncoming(vertex);
+        }
+        this.upwardMiddles = middles(upwardEdges);
+        this.upward = compile(upwardEdges);
+        this.downwardMiddles = middles(downwardEdges);
+        this.downward = compile(downwardEdges);
+    }
+
+    /**
+     * @return the graph this hierarchy was built for
+     */
+    public Graph<T> getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return count of shortcut edges added by the contraction
+     */
+    public int getShortcutCount() {
+        return (int) (Arrays.stream(upwardMiddles).filter(middle -> middle != NO_MIDDLE).count()
+                + Arrays.stream(downwardMiddles).filter(middle -> middle != NO_MIDDLE).count());
+    }
+
+    /**
+     * Given a pair of vertices finds shortest path between them.
+     * Found path has the same length as the one found by {@link Graph#findPath(Vertex, Vertex, Consumer)},
+     * but when there are several shortest paths a different one may be chosen
+     *
+     * @param from Vertx from which path is searched
+     * @param to Vertx to which path is searched
+     * @param consumer action to be applied to each Vertex's value on the path from {from} Vertex to {to}
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull Consumer<T> consumer) {
+        findPath(from, to, new SearchContext<>(graph, graph.vertexCount(), false), consumer);
+    }
+
+    /**
+     * Same as {@link ContractedGraph#findPath(Vertex, Vertex, Consumer)}, but reuses memory of the {context}
+     *
+     * @param context workspace created by {@link Graph#newSearchContext()} of the contracted graph
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     * or {context} was created by another graph
+     */
+    public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull SearchContext<T> context, @Nonnull Consumer<T> consumer) {
+
+        int fromIndex = graph.indexOf(from);
+        int toIndex = graph.indexOf(to);
+        requireNonNull(context, "context");
+        if (!context.belongsTo(graph)) {
+            throw new IllegalArgumentException("Search context belongs to another Graph");
+        }
+        requireNonNull(consumer, "consumer");
+
+        if (fromIndex == toIndex) {
+            consumer.accept(from.getValue());
+            return;
+        }
+
+        var forward = context.forward();
+        var backward = context.backward();
+        int meeting = search(fromIndex, toIndex, forward, backward);
+        if (meeting == NO_PARENT) {
+            throw new IllegalStateException("Vertex 'to' is not reachable from vertex 'from'");
+        }
+
+        var path = context.path();
+        Graph.toPath(forward, backward, meeting, path);
+
+        consumer.accept(graph.vertexAt(path.get(0)).getValue());
+        var stack = context.stack();
+        for (int i = 1; i < path.size(); i++) {
+            stack.add(path.get(i - 1));
+            stack.add(path.get(i));
+            while (stack.size() > 0) {
+                int target = stack.pop();
+                int source = stack.pop();
+                int middle = middle(source, target);
+                if (middle == NO_MIDDLE) {
+                    consumer.accept(graph.vertexAt(target).getValue());
+                } else {
+                    stack.add(middle);
+                    stack.add(target);
+                    stack.add(source);
+                    stack.add(middle);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Computes lengths of shortest paths from each of the {sources} to each of the {targets}
+     * using {@link ForkJoinPool#commonPool()}. Same as {@link ContractedGraph#distanceMatrix(Collection, Collection, ForkJoinPool)}
+     */
+    public int[][] distanceMatrix(@Nonnull Collection<Vertex<T>> sources, @Nonnull Collection<Vertex<T>> targets) {
+        return distanceMatrix(sources, targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes lengths of shortest paths from each of the {sources} to each of the {targets}
+     * by the bucket-based many-to-many algorithm of S. Knopp et al.
+     *
+     * Complete upward backward search is run from each target, every settled vertex gets an entry
+     * {@code (target, distance)} in its bucket. Then complete upward forward search is run from each source,
+     * every settled vertex combines its distance with the entries of its bucket. So only {@code sources + targets}
+     * small searches are run instead of {@code sources * targets} queries. Searches run in parallel on the {pool}
+     *
+     * @return matrix with a row per source and a column per target in the iteration order of the collections,
+     * {@link Graph#INFINITY_DISTANCE_VALUE} for not reachable targets
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    public int[][] distanceMatrix(@Nonnull Collection<Vertex<T>> sources, @Nonnull Collection<Vertex<T>> targets,
+                                  @Nonnull ForkJoinPool pool) {
+
+        var sourceIndices = graph.indicesOf(sources, "sources");
+        var targetIndices = graph.indicesOf(targets, "targets");
+        requireNonNull(pool, "pool");
+
+        var spaceVertices = new int[targetIndices.length][];
+        var spaceDistances = new int[targetIndices.length][];
+        ParallelRows.forEach(pool, targetIndices.length, SparseSearchState::new, (state, column) -> {
+            var settled = new IntList();
+            searchUpward(targetIndices[column], downward, state, settled);
+            spaceVertices[column] = settled.toArray();
+            spaceDistances[column] = new int[settled.size()];
+            for (int i = 0; i < settled.size(); i++) {
+                spaceDistances[column][i] = state.distance(settled.get(i));
+            }
+        });
+
+        var bucketOffsets = new int[ranks.length + 1];
+        for (var vertices : spaceVertices) {
+            for (int vertex : vertices) {
+                bucketOffsets[vertex + 1]++;
+            }
+        }
+        for (int vertex = 0; vertex < ranks.length; vertex++) {
+            bucketOffsets[vertex + 1] += bucketOffsets[vertex];
+        }
+        var bucketColumns = new int[bucketOffsets[ranks.length]];
+        var bucketDistances = new int[bucketColumns.length];
+        var bucketSizes = new int[ranks.length];
+        for (int column = 0; column < spaceVertices.length; column++) {
+            for (int i = 0; i < spaceVertices[column].length; i++) {
+                int vertex = spaceVertices[column][i];
+                int entry = bucketOffsets[vertex] + bucketSizes[vertex]++;
+                bucketColumns[entry] = column;
+                bucketDistances[entry] = spaceDistances[column][i];
+            }
+        }
+
+        var matrix = new int[sourceIndices.length][];
+        ParallelRows.forEach(pool, sourceIndices.length, SparseSearchState::new, (state, row) -> {
+            var settled = new IntList();
+            searchUpward(sourceIndices[row], upward, state, settled);
+            var distances = new int[targetIndices.length];
+            Arrays.fill(distances, Graph.INFINITY_DISTANCE_VALUE);
+            for (int i = 0; i < settled.size(); i++) {
+                int vertex = settled.get(i);
+                long distance = state.distance(vertex);
+                for (int entry = bucketOffsets[vertex]; entry < bucketOffsets[vertex + 1]; entry++) {
+                    int column = bucketColumns[entry];
+                    distances[column] = (int) Math.min(distances[column], distance + bucketDistances[entry]);
+                }
+            }
+            matrix[row] = distances;
+        });
+        return matrix;
+    }
+
+    /**
+     * Runs complete Dijkstra search from {from} over the upward or downward {edges} recording settled vertices
+     */
+    private static void searchUpward(int from, Adjacency edges, SearchState state, IntList settled) {
+        state.reset();
+        state.relax(from, 0, NO_PARENT);
+        while (state.hasNext()) {
+            int current = state.settleNext();
+            settled.add(current);
+            int currentDistance = state.distance(current);
+            for (int edge = edges.begin(current), end = edges.end(current); edge < end; edge++) {
+                int distance = currentDistance + edges.weight(edge);
+                if (distance >= 0) {
+                    state.relax(edges.target(edge), distance, current);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs upward forward search from {from} and upward backward search from {to}
+     *
+     * @return vertex where the searches meet on the shortest path or {@link SearchState#NO_PARENT} if there is no path
+     */
+    private int search(int from, int to, SearchState forward, SearchState backward) {
+
+        long bestDistance = Graph.INFINITY_DISTANCE_VALUE;
+        int meeting = NO_PARENT;
+
+        forward.relax(from, 0, NO_PARENT);
+        backward.relax(to, 0, NO_PARENT);
+        while (true) {
+
+            boolean canForward = forward.hasNext() && forward.peekDistance() < bestDistance;
+            boolean canBackward = backward.hasNext() && backward.peekDistance() < bestDistance;
+            if (!canForward && !canBackward) {
+                break;
+            }
+
+            boolean isForward = canForward && (!canBackward || forward.peekDistance() <= backward.peekDistance());
+            var state = isForward ? forward : backward;
+            var other = isForward ? backward : forward;
+            var edges = isForward ? upward : downward;
+
+            int current = state.settleNext();
+            int currentDistance = state.distance(current);
+            for (int edge = edges.begin(current), end = edges.end(current); edge < end; edge++) {
+                int target = edges.target(edge);
+                int distance = currentDistance + edges.weight(edge);
+                if (distance >= 0) {
+                    state.relax(target, distance, current);
+                    long candidate = (long) state.distance(target) + other.distance(target);
+                    if (candidate < bestDistance) {
+                        bestDistance = candidate;
+                        meeting = target;
+                    }
+                }
+            }
+
+        }
+        return meeting;
+
+    }
+
+    /**
+     * @return vertex bypassed by the edge {source -> target} or {@link Contractor#NO_MIDDLE} if it is an original edge
+     */
+    private int middle(int source, int target) {
+        if (ranks[source] < ranks[target]) {
+            for (int edge = upward.begin(source), end = upward.end(source); edge < end; edge++) {
+                if (upward.target(edge) == target) {
+                    return upwardMiddles[edge];
+                }
+            }
+        } else {
+            for (int edge = downward.begin(target), end = downward.end(target); edge < end; edge++) {
+                if (downward.target(edge) == source) {
+                    return downwardMiddles[edge];
+                }
+            }
+        }
+        throw new IllegalStateException("Edge is missing in the hierarchy");
+    }
+
+    private static Adjacency compile(Contractor.DynamicEdges[] edges) {
+        var offsets = new int[edges.length + 1];
+        for (int vertex = 0; vertex < edges.length; vertex++) {
+            offsets[vertex + 1] = offsets[vertex] + edges[vertex].size;
+        }
+        var targets = new int[offsets[edges.length]];
+        var weights = new int[targets.length];
+        for (int vertex = 0; vertex < edges.length; vertex++) {
+            System.arraycopy(edges[vertex].targets, 0, targets, offsets[vertex], edges[vertex].size);
+            System.arraycopy(edges[vertex].weights, 0, weights, offsets[vertex], edges[vertex].size);
+        }
+        return Adjacency.of(offsets, targets, weights);
+    }
+
+    private static int[] middles(Contractor.DynamicEdges[] edges) {
+        var middles = new int[Arrays.stream(edges).mapToInt(it -> it.size).sum()];
+        int position = 0;
+        for (var it : edges) {
+            System.arraycopy(it.middles, 0, middles, position, it.size);
+            position += it.size;
+        }
+        return middles;
+    }
+
+}
@@ -0,0 +1,323 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Contraction hierarchies preprocessing for {@link ContractedGraph}
+ *
+ * Edges to contracted vertices are removed from the lists of their neighbours, so only the remaining graph is scanned.
+ * Vertices are contracted one by one in order of their priority: edge difference (count of shortcuts required
+ * minus count of edges removed) plus count of already contracted neighbours. Priorities are updated lazily:
+ * the top vertex is re-evaluated before contraction and put back if it is not minimal any more.
+ *
+ * Contraction of the vertex {@code v} adds shortcut {@code u -> w} for each pair of its not yet contracted neighbours
+ * unless a witness path from {@code u} to {@code w} avoiding {@code v} which is not longer than {@code u -> v -> w}
+ * is found. Witness search is limited by the count of settled vertices, so redundant shortcuts may be added,
+ * which does not affect correctness of the queries
+ *
+ * Instance is mutable, is not thread-safe and can be used only once
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class Contractor {
+
+    static final int NO_MIDDLE = -1;
+
+    private static final int SIMULATION_SETTLED_LIMIT = 50;
+    private static final int CONTRACTION_SETTLED_LIMIT = 500;
+    private static final int NO_STAMP = 0;
+
+    private final int vertexCount;
+    private final DynamicEdges[] outgoing;
+    private final DynamicEdges[] incoming;
+    private final boolean[] contracted;
+    private final int[] contractedNeighbours;
+
+    private final int[] witnessDistances;
+    private final int[] witnessStamps;
+    private final int[] targetStamps;
+    private final IndexedHeap witnessHeap;
+    private int stamp;
+
+    private final DynamicEdges[] upwardOutgoing;
+    private final DynamicEdges[] upwardIncoming;
+    private final int[] ranks;
+
+    Contractor(@Nonnull Adjacency adjacency) {
+        requireNonNull(adjacency, "adjacency");
+        this.vertexCount = adjacency.vertexCount();
+        this.outgoing = new DynamicEdges[vertexCount];
+        this.incoming = new DynamicEdges[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            outgoing[vertex] = new DynamicEdges(adjacency.degree(vertex));
+            incoming[vertex] = new DynamicEdges(2);
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int edge = adjacency.begin(vertex), end = adjacency.end(vertex); edge < end; edge++) {
+                int target = adjacency.target(edge);
+                if (target != vertex) {
+                    addEdge(vertex, target, adjacency.weight(edge), NO_MIDDLE);
+                }
+            }
+        }
+        this.contracted = new boolean[vertexCount];
+        this.contractedNeighbours = new int[vertexCount];
+        this.witnessDistances = new int[vertexCount];
+        this.witnessStamps = new int[vertexCount];
+        this.targetStamps = new int[vertexCount];
+        this.witnessHeap = new IndexedHeap(vertexCount);
+        this.upwardOutgoing = new DynamicEdges[vertexCount];
+        this.upwardIncoming = new DynamicEdges[vertexCount];
+        this.ranks = new int[vertexCount];
+    }
+
+    /**
+     * Contracts all vertices
+     *
+     * @return rank of each vertex, i.e. its position in the contraction order
+     */
+    int[] contract() {
+        var queue = new IndexedHeap(vertexCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            queue.insert(vertex, priority(vertex));
+        }
+        int rank = 0;
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            int priority = priority(vertex);
+            if (!queue.isEmpty() && priority > queue.peekKey()) {
+                queue.insert(vertex, priority);
+                continue;
+            }
+            contract(vertex);
+            ranks[vertex] = rank++;
+            updateNeighbours(queue, upwardOutgoing[vertex]);
+            updateNeighbours(queue, upwardIncoming[vertex]);
+        }
+        return ranks;
+    }
+
+    /**
+     * @return edges from the vertex to vertices of higher rank, available after {@link Contractor#contract()}
+     */
+    DynamicEdges upwardOutgoing(int vertex) {
+        return upwardOutgoing[vertex];
+    }
+
+    /**
+     * @return edges to the vertex from vertices of higher rank, available after {@link Contractor#contract()}
+     */
+    DynamicEdges upwardIncoming(int vertex) {
+        return upwardIncoming[vertex];
+    }
+
+    private void updateNeighbours(IndexedHeap queue, DynamicEdges edges) {
+        for (int i = 0; i < edges.size; i++) {
+            int neighbour = edges.targets[i];
+            if (!contracted[neighbour]) {
+                contractedNeighbours[neighbour]++;
+                queue.insertOrDecrease(neighbour, priority(neighbour));
+            }
+        }
+    }
+
+    private int priority(int vertex) {
+        int removed = 0;
+        for (int i = 0; i < incoming[vertex].size; i++) {
+            removed += contracted[incoming[vertex].targets[i]] ? 0 : 1;
+        }
+        for (int i = 0; i < outgoing[vertex].size; i++) {
+            removed += contracted[outgoing[vertex].targets[i]] ? 0 : 1;
+        }
+        return shortcuts(vertex, false) - removed + contractedNeighbours[vertex];
+    }
+
+    private void contract(int vertex) {
+        var out = outgoing[vertex];
+        var in = incoming[vertex];
+        upwardOutgoing[vertex] = out.copy();
+        upwardIncoming[vertex] = in.copy();
+        shortcuts(vertex, true);
+        for (int i = 0; i < out.size; i++) {
+            incoming[out.targets[i]].remove(vertex);
+        }
+        for (int i = 0; i < in.size; i++) {
+            outgoing[in.targets[i]].remove(vertex);
+        }
+        contracted[vertex] = true;
+        outgoing[vertex] = null;
+        incoming[vertex] = null;
+    }
+
+    /**
+     * Finds shortcuts required to contract the vertex and adds them if {add} is {@code true}
+     *
+     * @return count of required shortcuts
+     */
+    private int shortcuts(int vertex, boolean add) {
+        var in = incoming[vertex];
+        var out = outgoing[vertex];
+        int count = 0;
+        for (int i = 0; i < in.size; i++) {
+            int source = in.targets[i];
+            if (contracted[source]) {
+                continue;
+            }
+            nextStamp();
+            int maxDistance = -1;
+            int targetCount = 0;
+            for (int j = 0; j < out.size; j++) {
+                int target = out.targets[j];
+                if (target != source && !contracted[target]) {
+                    maxDistance = Math.max(maxDistance, saturatedAdd(in.weights[i], out.weights[j]));
+                    targetStamps[target] = stamp;
+                    targetCount++;
+                }
+            }
+            if (targetCount == 0) {
+                continue;
+            }
+            searchWitnesses(source, vertex, maxDistance, targetCount, add ? CONTRACTION_SETTLED_LIMIT : SIMULATION_SETTLED_LIMIT);
+            for (int j = 0; j < out.size; j++) {
+                int target = out.targets[j];
+                if (target == source || contracted[target]) {
+                    continue;
+                }
+                int viaVertex = saturatedAdd(in.weights[i], out.weights[j]);
+                if (witnessDistance(target) > viaVertex) {
+                    count++;
+                    if (add) {
+                        addEdge(source, target, viaVertex, vertex);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private void nextStamp() {
+        if (++stamp == NO_STAMP) {
+            Arrays.fill(witnessStamps, NO_STAMP);
+            Arrays.fill(targetStamps, NO_STAMP);
+            stamp++;
+        }
+    }
+
+    /**
+     * Limited Dijkstra search from {source} over not contracted vertices except {excluded}
+     * Stops once all the vertices marked with the current stamp in {@link Contractor#targetStamps} are settled
+     */
+    private void searchWitnesses(int source, int excluded, int maxDistance, int targetCount, int settledLimit) {
+        witnessHeap.clear();
+        witnessStamps[source] = stamp;
+        witnessDistances[source] = 0;
+        witnessHeap.insert(source, 0);
+        int settled = 0;
+        while (!witnessHeap.isEmpty() && witnessHeap.peekKey() <= maxDistance && settled++ < settledLimit) {
+            int current = witnessHeap.poll();
+            if (targetStamps[current] == stamp && --targetCount == 0) {
+                break;
+            }
+            var edges = outgoing[current];
+            for (int i = 0; i < edges.size; i++) {
+                int target = edges.targets[i];
+                if (target == excluded || contracted[target]) {
+                    continue;
+                }
+                int distance = saturatedAdd(witnessDistances[current], edges.weights[i]);
+                if (witnessStamps[target] != stamp || distance < witnessDistances[target]) {
+                    witnessStamps[target] = stamp;
+                    witnessDistances[target] = distance;
+                    witnessHeap.insertOrDecrease(target, distance);
+                }
+            }
+        }
+    }
+
+    private int witnessDistance(int vertex) {
+        return witnessStamps[vertex] == stamp ? witnessDistances[vertex] : Graph.INFINITY_DISTANCE_VALUE;
+    }
+
+    private void addEdge(int from, int to, int weight, int middle) {
+        if (outgoing[from].put(to, weight, middle)) {
+            incoming[to].put(from, weight, middle);
+        }
+    }
+
+    private static int saturatedAdd(int left, int right) {
+        int sum = left + right;
+        return sum >= 0 ? sum : Graph.INFINITY_DISTANCE_VALUE;
+    }
+
+    /**
+     * Growable list of edges of a single vertex, at most one edge to each target is kept
+     */
+    static final class DynamicEdges {
+
+        int[] targets;
+        int[] weights;
+        int[] middles;
+        int size;
+
+        DynamicEdges(int capacity) {
+            this.targets = new int[Math.max(1, capacity)];
+            this.weights = new int[targets.length];
+            this.middles = new int[targets.length];
+        }
+
+        /**
+         * Adds the edge or replaces the existing one to the same target if the new one is shorter
+         *
+         * @return {@code true} if edge was added or replaced
+         */
+        boolean put(int target, int weight, int middle) {
+            for (int i = 0; i < size; i++) {
+                if (targets[i] == target) {
+                    if (weight >= weights[i]) {
+                        return false;
+                    }
+                    weights[i] = weight;
+                    middles[i] = middle;
+                    return true;
+                }
+            }
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+            targets[size] = target;
+            weights[size] = weight;
+            middles[size] = middle;
+            size++;
+            return true;
+        }
+
+        void remove(int target) {
+            for (int i = 0; i < size; i++) {
+                if (targets[i] == target) {
+                    size--;
+                    targets[i] = targets[size];
+                    weights[i] = weights[size];
+                    middles[i] = middles[size];
+                    return;
+                }
+            }
+        }
+
+        DynamicEdges copy() {
+            var result = new DynamicEdges(size);
+            System.arraycopy(targets, 0, result.targets, 0, size);
+            System.arraycopy(weights, 0, result.weights, 0, size);
+            System.arraycopy(middles, 0, result.middles, 0, size);
+            result.size = size;
+            return result;
+        }
+
+    }
+
+}
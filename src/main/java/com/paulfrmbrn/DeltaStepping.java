@@ -0,0 +1,247 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parallel single source shortest paths by the delta-stepping algorithm of U. Meyer and P. Sanders
+ *
+ * Tentative distances are kept in buckets of width {@code delta}. Vertices of the lowest non-empty bucket are
+ * processed in phases: all of them relax their light edges (not heavier than {@code delta}) in parallel, which may
+ * put some vertices back into the same bucket, until the bucket stays empty. Then heavy edges of all vertices
+ * removed from the bucket are relaxed once, since they can not lead back into it. Small {@code delta} approaches
+ * Dijkstra with little parallelism, large {@code delta} approaches Bellman-Ford with much redundant work
+ *
+ * Distance and parent of each vertex are packed into a single long and updated together by CAS, only strictly
+ * shorter distances are accepted, so found parents always form a tree. Only non-empty buckets are kept in a sorted
+ * map, so memory and the search of the next bucket do not depend on the ratio of the max edge weight to {@code delta},
+ * emptied buckets are reused
+ *
+ * Instance is mutable and can be used only once
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class DeltaStepping {
+
+    private static final VarHandle STATES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int NO_PARENT = SearchState.NO_PARENT;
+    private static final int NOT_QUEUED = -1;
+    private static final int GRAIN = 256;
+
+    private final Adjacency adjacency;
+    private final int delta;
+    private final ForkJoinPool pool;
+
+    private final long[] states;
+    private final int[] queuedBucket;
+    private final int[] removedBucket;
+    private final TreeMap<Integer, IntList> buckets = new TreeMap<>();
+    private final ArrayDeque<IntList> spareBuckets = new ArrayDeque<>();
+    private final ConcurrentLinkedQueue<IntList> improved = new ConcurrentLinkedQueue<>();
+
+    DeltaStepping(@Nonnull Adjacency adjacency, int delta, @Nonnull ForkJoinPool pool) {
+        if (delta < 1) {
+            throw new IllegalArgumentException("Delta should be positive");
+        }
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.delta = delta;
+        this.pool = requireNonNull(pool, "pool");
+
+        int vertexCount = adjacency.vertexCount();
+        this.states = new long[vertexCount];
+        Arrays.fill(states, pack(Graph.INFINITY_DISTANCE_VALUE, NO_PARENT));
+        this.queuedBucket = new int[vertexCount];
+        Arrays.fill(queuedBucket, NOT_QUEUED);
+        this.removedBucket = new int[vertexCount];
+        Arrays.fill(removedBucket, NOT_QUEUED);
+    }
+
+    /**
+     * Delta recommended for graphs with random weights: max edge weight divided by average degree
+     */
+    static int defaultDelta(@Nonnull Adjacency adjacency) {
+        long averageDegree = Math.max(1, adjacency.edgeCount() / Math.max(1, adjacency.vertexCount()));
+        return (int) Math.max(1, maxWeight(adjacency) / averageDegree);
+    }
+
+    /**
+     * Computes shortest paths from the {source} to all vertices
+     */
+    void run(int source) {
+
+        STATES.setVolatile(states, source, pack(0, NO_PARENT));
+        enqueue(source);
+
+        int bucket = 0;
+        var frontier = new IntList();
+        var removed = new IntList();
+        while (bucket != NOT_QUEUED) {
+
+            removed.clear();
+            while (takeBucket(bucket, frontier, removed)) {
+                pool.invoke(new RelaxStep(frontier, 0, frontier.size(), true));
+                enqueueImproved();
+            }
+            pool.invoke(new RelaxStep(removed, 0, removed.size(), false));
+            enqueueImproved();
+
+            bucket = nextBucket(bucket);
+        }
+
+    }
+
+    int distance(int vertex) {
+        return (int) ((long) STATES.getOpaque(states, vertex) >> 32);
+    }
+
+    int parent(int vertex) {
+        return (int) (long) STATES.getOpaque(states, vertex);
+    }
+
+    /**
+     * Moves vertices of the {bucket} to the {frontier} skipping those which have already moved to a lower bucket,
+     * and records vertices removed from the bucket for the first time to {removed}
+     *
+     * @return {@code true} if the frontier is not empty
+     */
+    private boolean takeBucket(int bucket, IntList frontier, IntList removed) {
+        frontier.clear();
+        var queued = buckets.remove(bucket);
+        if (queued == null) {
+            return false;
+        }
+        for (int i = 0; i < queued.size(); i++) {
+            int vertex = queued.get(i);
+            if (queuedBucket[vertex] == bucket) {
+                queuedBucket[vertex] = NOT_QUEUED;
+                frontier.add(vertex);
+                if (removedBucket[vertex] != bucket) {
+                    removedBucket[vertex] = bucket;
+                    removed.add(vertex);
+                }
+            }
+        }
+        queued.clear();
+        spareBuckets.push(queued);
+        return frontier.size() > 0;
+    }
+
+    /**
+     * @return next non-empty bucket after the {bucket} or {@link DeltaStepping#NOT_QUEUED} if there is none
+     */
+    private int nextBucket(int bucket) {
+        var next = buckets.higherKey(bucket);
+        return next != null ? next : NOT_QUEUED;
+    }
+
+    private void enqueueImproved() {
+        IntList vertices;
+        while ((vertices = improved.poll()) != null) {
+            for (int i = 0; i < vertices.size(); i++) {
+                enqueue(vertices.get(i));
+            }
+        }
+    }
+
+    private void enqueue(int vertex) {
+        int bucket = distance(vertex) / delta;
+        if (queuedBucket[vertex] != bucket) {
+            queuedBucket[vertex] = bucket;
+            var queued = buckets.get(bucket);
+            if (queued == null) {
+                queued = spareBuckets.isEmpty() ? new IntList() : spareBuckets.pop();
+                buckets.put(bucket, queued);
+            }
+            queued.add(vertex);
+        }
+    }
+
+    /**
+     * Sets the distance and the parent of the vertex if the distance is shorter than the known one
+     *
+     * @return {@code true} if the distance was improved
+     */
+    private boolean relax(int vertex, int distance, int parent) {
+        long candidate = pack(distance, parent);
+        long current;
+        do {
+            current = (long) STATES.getOpaque(states, vertex);
+            if ((int) (current >> 32) <= distance) {
+                return false;
+            }
+        } while (!STATES.compareAndSet(states, vertex, current, candidate));
+        return true;
+    }
+
+    private static long pack(int distance, int parent) {
+        return ((long) distance << 32) | (parent & 0xFFFFFFFFL);
+    }
+
+    private static int maxWeight(Adjacency adjacency) {
+        int max = 0;
+        for (int edge = 0; edge < adjacency.edgeCount(); edge++) {
+            max = Math.max(max, adjacency.weight(edge));
+        }
+        return max;
+    }
+
+    /**
+     * Relaxes either light or heavy edges of the {@code [from, to)} range of {vertices}
+     */
+    private final class RelaxStep extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntList vertices;
+        private final int from;
+        private final int to;
+        private final boolean isLight;
+
+        RelaxStep(IntList vertices, int from, int to, boolean isLight) {
+            this.vertices = vertices;
+            this.from = from;
+            this.to = to;
+            this.isLight = isLight;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RelaxStep(vertices, from, middle, isLight), new RelaxStep(vertices, middle, to, isLight));
+                return;
+            }
+            var improvedVertices = new IntList();
+            for (int i = from; i < to; i++) {
+                int current = vertices.get(i);
+                int currentDistance = distance(current);
+                for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                    int weight = adjacency.weight(edge);
+                    if ((weight <= delta) == isLight) {
+                        int distance = currentDistance + weight;
+                        int target = adjacency.target(edge);
+                        if (distance >= 0 && distance < Graph.INFINITY_DISTANCE_VALUE && relax(target, distance, current)) {
+                            improvedVertices.add(target);
+                        }
+                    }
+                }
+            }
+            if (improvedVertices.size() > 0) {
+                improved.add(improvedVertices);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Depth-first preorder of vertex indices reachable from a root, produced lazily: each advance follows edges
+ * of the current path only until the next not visited vertex is found
+ *
+ * The path is kept on an explicit stack together with the position of the next edge to follow from each of its
+ * vertices, so deep graphs do not overflow the thread stack. The order can not be split
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@NotThreadSafe
+final class DfsSpliterator implements Spliterator.OfInt {
+
+    private static final int NO_VERTEX = -1;
+
+    private final Adjacency adjacency;
+    private final VisitedSet visited;
+    private final IntList path = new IntList();
+    private final IntList nextEdges = new IntList();
+    private int root;
+    private long consumedCount;
+
+    DfsSpliterator(@Nonnull Adjacency adjacency, int root) {
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.visited = new VisitedSet(adjacency.vertexCount());
+        this.root = root;
+        visited.add(root);
+    }
+
+    @Override
+    public boolean tryAdvance(@Nonnull IntConsumer action) {
+        requireNonNull(action, "action");
+        int vertex = nextVertex();
+        if (vertex == NO_VERTEX) {
+            return false;
+        }
+        consumedCount++;
+        action.accept(vertex);
+        return true;
+    }
+
+    @Override
+    public OfInt trySplit() {
+        return null;
+    }
+
+    /**
+     * @return upper bound of the count of vertices left, since not all of them may be reachable
+     */
+    @Override
+    public long estimateSize() {
+        return adjacency.vertexCount() - consumedCount;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL;
+    }
+
+    private int nextVertex() {
+        if (root != NO_VERTEX) {
+            int vertex = root;
+            root = NO_VERTEX;
+            push(vertex);
+            return vertex;
+        }
+        while (path.size() > 0) {
+            int top = path.size() - 1;
+            int current = path.get(top);
+            for (int edge = nextEdges.get(top), end = adjacency.end(current); edge < end; edge++) {
+                int target = adjacency.target(edge);
+                if (visited.add(target)) {
+                    nextEdges.set(top, edge + 1);
+                    push(target);
+                    return target;
+                }
+            }
+            path.pop();
+            nextEdges.pop();
+        }
+        return NO_VERTEX;
+    }
+
+    private void push(int vertex) {
+        path.add(vertex);
+        nextEdges.add(adjacency.begin(vertex));
+    }
+
+}
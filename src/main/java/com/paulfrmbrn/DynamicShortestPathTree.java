@@ -0,0 +1,276 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Shortest paths from a single source vertex to all vertices of a {@link ConcurrentGraph}, which follow changes
+ * of the graph, see {@link ConcurrentGraph.Snapshot#shortestPathTree(Vertex)}
+ *
+ * Paths are computed on a snapshot and then repaired to a later one by {@link DynamicShortestPathTree#update(ConcurrentGraph.Snapshot)}
+ * in the manner of the dynamic algorithm of G. Ramalingam and T. Reps: only vertices whose shortest paths
+ * are affected by the changed edges are searched again, which for a few changes is a small part of the graph
+ * <ul>
+ *     <li>removed or heavier edge of the tree cuts off the subtree below it: distances of the subtree are reset
+ *     and each of its vertices starts from the best edge coming from outside the subtree</li>
+ *     <li>added or lighter edge which shortens the path to its target starts from that target</li>
+ *     <li>Dijkstra search from all started vertices then spreads the improved distances, stopping wherever
+ *     they do not improve anything</li>
+ * </ul>
+ * Changes are taken from those remembered by the graph, if the tree is too far behind the snapshot
+ * it is computed again from scratch. Distances are the same as computed from scratch, but when there are
+ * several shortest paths the repaired tree may keep another one of them
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@NotThreadSafe
+public final class DynamicShortestPathTree<T> {
+
+    private static final int INFINITY = Graph.INFINITY_DISTANCE_VALUE;
+    private static final int NO_PARENT = SearchState.NO_PARENT;
+
+    private final ConcurrentGraph<T> graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+    private ConcurrentGraph.Snapshot<T> snapshot;
+
+    private final IndexedHeap heap;
+    private final boolean[] isAffected;
+    private final IntList affected = new IntList();
+    private final IntList changes = new IntList();
+    private final int[] touchedAt;
+    private int updateCount;
+
+    DynamicShortestPathTree(@Nonnull ConcurrentGraph.Snapshot<T> snapshot, int source) {
+        this.snapshot = requireNonNull(snapshot, "snapshot");
+        this.graph = snapshot.graph();
+        this.source = source;
+        int vertexCount = graph.vertexCount();
+        this.distances = new int[vertexCount];
+        this.parents = new int[vertexCount];
+        this.heap = new IndexedHeap(vertexCount);
+        this.isAffected = new boolean[vertexCount];
+        this.touchedAt = new int[vertexCount];
+        recompute();
+    }
+
+    /**
+     * @return vertex the paths start from
+     */
+    public Vertex<T> getSource() {
+        return graph.vertexAt(source);
+    }
+
+    /**
+     * @return version of the snapshot the paths are shortest in
+     */
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    public boolean isReachable(@Nonnull Vertex<T> to) {
+        return distances[graph.indexOf(to)] != INFINITY;
+    }
+
+    /**
+     * @return length of the shortest path from the source to {to}
+     * or {@link Graph#INFINITY_DISTANCE_VALUE} if {to} is not reachable
+     */
+    public int getDistance(@Nonnull Vertex<T> to) {
+        return distances[graph.indexOf(to)];
+    }
+
+    /**
+     * Applies specified action to each Vertex's value on the shortest path from the source to {to}
+     *
+     * @throws IllegalStateException if {to} is not reachable from the source
+     */
+    public void findPath(@Nonnull Vertex<T> to, @Nonnull Consumer<T> consumer) {
+        int toIndex = graph.indexOf(to);
+        requireNonNull(consumer, "consumer");
+        if (distances[toIndex] == INFINITY) {
+            throw new IllegalStateException("Vertex 'to' is not reachable from vertex 'from'");
+        }
+
+        var path = new IntList();
+        for (int vertex = toIndex; vertex != NO_PARENT; vertex = parents[vertex]) {
+            path.add(vertex);
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            consumer.accept(graph.vertexAt(path.get(i)).getValue());
+        }
+    }
+
+    /**
+     * Repairs the paths to the latest snapshot of the graph, same as {@link DynamicShortestPathTree#update(ConcurrentGraph.Snapshot)}
+     */
+    public int update() {
+        return update(graph.snapshot());
+    }
+
+    /**
+     * Repairs the paths to be shortest in the {target} snapshot
+     *
+     * @return count of vertices whose paths were searched again, all vertices if the tree was computed from scratch
+     * @throws IllegalArgumentException if the {target} is a snapshot of another graph or is older than the tree
+     */
+    public int update(@Nonnull ConcurrentGraph.Snapshot<T> target) {
+        requireNonNull(target, "target");
+        if (target.graph() != graph) {
+            throw new IllegalArgumentException("Snapshot belongs to another Graph");
+        }
+        if (target.getVersion() < snapshot.getVersion()) {
+            throw new IllegalArgumentException("Snapshot is older than the tree");
+        }
+
+        changes.clear();
+        boolean isLogged = graph.changesBetween(snapshot.getVersion(), target.getVersion(), changes);
+        snapshot = target;
+        if (!isLogged) {
+            recompute();
+            return distances.length;
+        }
+        return repair();
+    }
+
+    private void recompute() {
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(parents, NO_PARENT);
+        distances[source] = 0;
+        snapshot.pathFinder().shortestPathTreeByDijkstra(source, distances, parents);
+    }
+
+    /**
+     * Repairs the paths after the {@link DynamicShortestPathTree#changes}, which are pairs of edge ends
+     *
+     * @return count of vertices whose paths were searched again
+     */
+    private int repair() {
+
+        var adjacency = snapshot.adjacency();
+        var reverseAdjacency = snapshot.reverseAdjacency();
+        boolean isDirected = graph.isDirected();
+        updateCount++;
+        int touchedCount = 0;
+
+        // tree edges which got removed or heavier cut off their subtrees
+        affected.clear();
+        for (int i = 0; i < changes.size(); i += 2) {
+            cutOff(adjacency, changes.get(i), changes.get(i + 1));
+            if (!isDirected) {
+                cutOff(adjacency, changes.get(i + 1), changes.get(i));
+            }
+        }
+
+        // each vertex of the cut off subtrees starts from its best edge coming from outside of them
+        for (int i = 0; i < affected.size(); i++) {
+            int vertex = affected.get(i);
+            touchedCount += touch(vertex);
+            for (int edge = reverseAdjacency.begin(vertex), end = reverseAdjacency.end(vertex); edge < end; edge++) {
+                int parent = reverseAdjacency.target(edge);
+                if (!isAffected[parent]) {
+                    relax(parent, vertex, reverseAdjacency.weight(edge));
+                }
+            }
+        }
+        for (int i = 0; i < affected.size(); i++) {
+            isAffected[affected.get(i)] = false;
+        }
+
+        // added or lighter edges may shorten paths to their targets
+        for (int i = 0; i < changes.size(); i += 2) {
+            relaxChanged(adjacency, changes.get(i), changes.get(i + 1));
+            if (!isDirected) {
+                relaxChanged(adjacency, changes.get(i + 1), changes.get(i));
+            }
+        }
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            touchedCount += touch(current);
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                relax(current, adjacency.target(edge), adjacency.weight(edge));
+            }
+        }
+        return touchedCount;
+    }
+
+    /**
+     * Resets distances of the subtree below the edge {@code from -> to} if the edge is in the tree
+     * and the path through it got longer or the edge is removed
+     */
+    private void cutOff(VersionedAdjacency adjacency, int from, int to) {
+        if (parents[to] != from || isAffected[to]) {
+            return;
+        }
+        int edge = adjacency.find(from, to);
+        if (edge != VersionedAdjacency.NOT_FOUND && (long) distances[from] + adjacency.weight(edge) <= distances[to]) {
+            return;
+        }
+
+        int start = affected.size();
+        markAffected(to);
+        for (int i = start; i < affected.size(); i++) {
+            int current = affected.get(i);
+            for (int child = adjacency.begin(current), end = adjacency.end(current); child < end; child++) {
+                int target = adjacency.target(child);
+                if (parents[target] == current && !isAffected[target]) {
+                    markAffected(target);
+                }
+            }
+        }
+        // parents are reset only now, since they are what the subtree is found by
+        for (int i = start; i < affected.size(); i++) {
+            int vertex = affected.get(i);
+            distances[vertex] = INFINITY;
+            parents[vertex] = NO_PARENT;
+        }
+    }
+
+    private void markAffected(int vertex) {
+        isAffected[vertex] = true;
+        affected.add(vertex);
+    }
+
+    private void relaxChanged(VersionedAdjacency adjacency, int from, int to) {
+        int edge = adjacency.find(from, to);
+        if (edge != VersionedAdjacency.NOT_FOUND) {
+            relax(from, to, adjacency.weight(edge));
+        }
+    }
+
+    /**
+     * Makes {from} the parent of {to} and queues {to} if the edge between them of the {weight} shortens its path
+     */
+    private void relax(int from, int to, int weight) {
+        if (distances[from] == INFINITY) {
+            return;
+        }
+        int distance = distances[from] + weight;
+        if (distance >= 0 && distance < distances[to]) {
+            distances[to] = distance;
+            parents[to] = from;
+            heap.insertOrDecrease(to, distance);
+        }
+    }
+
+    /**
+     * @return {@code 1} if the vertex is touched for the first time in this update, {@code 0} otherwise
+     */
+    private int touch(int vertex) {
+        if (touchedAt[vertex] == updateCount) {
+            return 0;
+        }
+        touchedAt[vertex] = updateCount;
+        return 1;
+    }
+
+}
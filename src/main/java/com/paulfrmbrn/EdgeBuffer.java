@@ -0,0 +1,156 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Edge list collected in three growable int lists, so no object is created per edge
+ *
+ * Edges are compiled into the CSR layout in bulk: one pass counts edges of each vertex, another one places
+ * them into their rows, and each row is then sorted by target and deduplicated. Of several edges between the same
+ * pair of vertices the first added one is kept, the same way {@link Graph.Builder#addEdge} keeps the first {@link Edge}
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class EdgeBuffer {
+
+    private static final int EDGE_GRAIN = 1 << 16;
+    private static final int VERTEX_GRAIN = 1 << 12;
+
+    private final IntList sources = new IntList();
+    private final IntList targets = new IntList();
+    private final IntList weights = new IntList();
+
+    int size() {
+        return sources.size();
+    }
+
+    /**
+     * Grows the lists so that they can hold {capacity} edges without further copying
+     */
+    void ensureCapacity(int capacity) {
+        sources.ensureCapacity(capacity);
+        targets.ensureCapacity(capacity);
+        weights.ensureCapacity(capacity);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the {weight} is negative
+     */
+    void add(int from, int to, int weight) {
+        validateWeight(weight);
+        sources.add(from);
+        targets.add(to);
+        weights.add(weight);
+    }
+
+    static void validateWeight(int weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight should not be negative");
+        }
+    }
+
+    /**
+     * Copies sources and then targets of all edges to the {destination} starting at the {position}
+     */
+    void copyEndsTo(@Nonnull int[] destination, int position) {
+        for (int edge = 0; edge < sources.size(); edge++) {
+            destination[position++] = sources.get(edge);
+        }
+        for (int edge = 0; edge < targets.size(); edge++) {
+            destination[position++] = targets.get(edge);
+        }
+    }
+
+    /**
+     * Compiles edges into the CSR layout in this thread, see {@link EdgeBuffer#compile(int, IntUnaryOperator, boolean, ForkJoinPool)}
+     */
+    Adjacency compile(int vertexCount, @Nonnull IntUnaryOperator toIndex, boolean isUndirected) {
+        return compile(vertexCount, toIndex, isUndirected, null);
+    }
+
+    /**
+     * Compiles edges into the CSR layout, the buffer itself is not changed
+     *
+     * With a {pool} edges are counted and placed into rows by parallel tasks, which claim slots by atomic increments
+     * of the row cursors, and rows are sorted in parallel. Rows are sorted by target and the order of addition,
+     * so the result does not depend on the order slots are claimed in and is the same as the sequential one
+     *
+     * @param toIndex maps ends of the edges, e.g. vertex ids, to dense indices from {@code 0} to {@code vertexCount - 1},
+     *                is invoked concurrently if there is a {pool}
+     * @param isUndirected {@code true} to add every edge in both directions
+     * @param pool pool to compile edges in parallel or {@code null} to compile them in this thread
+     * @return adjacency whose rows are sorted by target index and have no duplicate targets
+     */
+    Adjacency compile(int vertexCount, @Nonnull IntUnaryOperator toIndex, boolean isUndirected, @Nullable ForkJoinPool pool) {
+
+        requireNonNull(toIndex, "toIndex");
+        int edgeCount = sources.size();
+        var offsets = new int[vertexCount + 1];
+        ParallelRanges.forEach(pool, edgeCount, EDGE_GRAIN, (from, to) -> {
+            for (int edge = from; edge < to; edge++) {
+                ParallelRanges.getAndIncrement(pool, offsets, toIndex.applyAsInt(sources.get(edge)) + 1);
+                if (isUndirected) {
+                    ParallelRanges.getAndIncrement(pool, offsets, toIndex.applyAsInt(targets.get(edge)) + 1);
+                }
+            }
+        });
+        ParallelRanges.prefixSum(pool, offsets);
+
+        // target index in the high half and the order of addition in the low half, so sorting
+        // a row orders it by target and leaves the first added edge first among the duplicates
+        var cursors = Arrays.copyOf(offsets, vertexCount);
+        var keys = new long[offsets[vertexCount]];
+        ParallelRanges.forEach(pool, edgeCount, EDGE_GRAIN, (from, to) -> {
+            for (int edge = from; edge < to; edge++) {
+                int source = toIndex.applyAsInt(sources.get(edge));
+                int target = toIndex.applyAsInt(targets.get(edge));
+                keys[ParallelRanges.getAndIncrement(pool, cursors, source)] = ((long) target << 32) | edge;
+                if (isUndirected) {
+                    keys[ParallelRanges.getAndIncrement(pool, cursors, target)] = ((long) source << 32) | edge;
+                }
+            }
+        });
+
+        // each row is sorted and deduplicated in place, count of its distinct edges goes to the next offset
+        var distinctOffsets = new int[vertexCount + 1];
+        ParallelRanges.forEach(pool, vertexCount, VERTEX_GRAIN, (from, to) -> {
+            for (int vertex = from; vertex < to; vertex++) {
+                int begin = offsets[vertex];
+                int end = offsets[vertex + 1];
+                Arrays.sort(keys, begin, end);
+                int distinctEnd = begin;
+                for (int position = begin; position < end; position++) {
+                    if (distinctEnd == begin || keys[distinctEnd - 1] >>> 32 != keys[position] >>> 32) {
+                        keys[distinctEnd++] = keys[position];
+                    }
+                }
+                distinctOffsets[vertex + 1] = distinctEnd - begin;
+            }
+        });
+        ParallelRanges.prefixSum(pool, distinctOffsets);
+
+        var compiledTargets = new int[distinctOffsets[vertexCount]];
+        var compiledWeights = new int[distinctOffsets[vertexCount]];
+        ParallelRanges.forEach(pool, vertexCount, VERTEX_GRAIN, (from, to) -> {
+            for (int vertex = from; vertex < to; vertex++) {
+                int position = offsets[vertex];
+                for (int edge = distinctOffsets[vertex], end = distinctOffsets[vertex + 1]; edge < end; edge++, position++) {
+                    compiledTargets[edge] = (int) (keys[position] >>> 32);
+                    compiledWeights[edge] = weights.get((int) keys[position]);
+                }
+            }
+        });
+
+        return Adjacency.of(distinctOffsets, compiledTargets, compiledWeights);
+    }
+
+}
@@ -1,16 +1,27 @@
 package com.paulfrmbrn;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -22,8 +33,20 @@ import static java.util.Objects.requireNonNull;
  *
  * Disconnected graph or graph with unreachable vertices can be constructed, but {@link Graph#traverse(Consumer)} and
  * {@link Graph#findPath(Vertex, Vertex, Consumer)} methods could fail with {@link IllegalStateException} in this case.
+ * Such graph can be traversed component by component, see {@link Graph#components()}
  *
- * Max count of vertices is {@link Integer#MAX_VALUE}
+ * Edges are compiled by {@link Builder#build()} into a compressed sparse row layout (see {@link Adjacency}),
+ * so vertices are addressed by dense int indices and no per-edge objects are kept by the instance.
+ * The arrays can be moved out of the heap by {@link Graph#toOffHeap()} or {@link Graph#toMappedFile(Path)}
+ *
+ * Searches keep their state in a {@link SearchContext}. Methods without the context argument create a new one
+ * for every call, create one by {@link Graph#newSearchContext()} and pass it to run many queries without allocations
+ *
+ * Graphs with numeric vertex ids can be kept as {@link IntGraph} instead, which creates no per-vertex objects,
+ * see {@link Graph#toIntGraph()}. Graphs whose edges change while they are searched can be kept
+ * as {@link ConcurrentGraph}, see {@link Graph#toConcurrentGraph()}
+ *
+ * Max count of vertices is {@code 2^29}, or close to {@link Integer#MAX_VALUE} if vertex ids are dense, see {@link IntGraph}
  *
  * @author Dmitry Pavlov
  * @since 30.05.2020
@@ -33,17 +56,27 @@ public final class Graph<T> {
 
     public static final int INFINITY_DISTANCE_VALUE = Integer.MAX_VALUE;
 
-    private final boolean isWeighted;
-    private final Vertex<T> root;
-    private final Set<Vertex<T>> vertices;
-    private final Map<Vertex<T>, Set<Edge<T>>> edgesMap;
+    private static final int NO_PARENT = SearchState.NO_PARENT;
 
-    private Graph(Vertex<T> vertex, Set<Vertex<T>> vertices, Map<Vertex<T>, Set<Edge<T>>> edgesMap, boolean isWeighted) {
-        this.root = requireNonNull(vertex, "vertex");
+    private final boolean isWeighted;
+    private final int root;
+    private final Vertex<T>[] vertices;
+    private final VertexIndex index;
+    private final Adjacency adjacency;
+    private final Adjacency reverseAdjacency;
+    private final PathFinder finder;
+    // computed on demand, racing threads compute equal instances
+    private volatile Components<T> components;
+    private volatile Reachability<T> reachability;
+
+    private Graph(int root, Vertex<T>[] vertices, VertexIndex index, Adjacency adjacency, Adjacency reverseAdjacency, boolean isWeighted) {
+        this.root = root;
         this.vertices = requireNonNull(vertices, "vertices");
-        this.edgesMap = requireNonNull(edgesMap, "edgesMap");
+        this.index = requireNonNull(index, "index");
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.reverseAdjacency = requireNonNull(reverseAdjacency, "reverseAdjacency");
         this.isWeighted = isWeighted;
-        vertices.add(root);
+        this.finder = new PathFinder(adjacency, reverseAdjacency, isWeighted);
     }
 
     /**
@@ -52,39 +85,115 @@ public final class Graph<T> {
      * @throws IllegalStateException if {to} is not reachable from {from}
      */
     public void traverse(@Nonnull Consumer<T> consumer) {
+        traverse(new SearchContext<>(this, vertices.length, false), consumer);
+    }
 
+    /**
+     * Same as {@link Graph#traverse(Consumer)}, but reuses memory of the {context}
+     *
+     * @param context workspace created by {@link Graph#newSearchContext()} of this graph
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if {context} was created by another graph
+     */
+    public void traverse(@Nonnull SearchContext<T> context, @Nonnull Consumer<T> consumer) {
+
+        validateContext(context);
         requireNonNull(consumer, "consumer");
 
-        var visitedSet = new HashSet<Vertex<T>>();
-        var toBeVisitedQueue = new LinkedList<Vertex<T>>();
+        var order = context.path();
+        finder.traverse(root, context, order);
+        emit(order, consumer);
+        if (order.size() < vertices.length) {
+            throw new IllegalStateException("Some vertices are not reachable from the root");
+        }
+    }
 
-        toBeVisitedQueue.add(this.root);
-        while (visitedSet.size() < vertices.size()) {
+    /**
+     * Traverses the graph from the {@link Graph#root} in parallel using {@link ForkJoinPool#commonPool()}
+     * Same as {@link Graph#traverseParallel(ForkJoinPool, Consumer)}
+     *
+     * @throws IllegalStateException if some vertices are not reachable from the root
+     */
+    public void traverseParallel(@Nonnull Consumer<T> consumer) {
+        traverseParallel(ForkJoinPool.commonPool(), consumer);
+    }
 
-            if (toBeVisitedQueue.isEmpty()) {
-                throw new IllegalStateException("Some vertices are not reachable from the root");
-            }
+    /**
+     * Traverses the graph from the {@link Graph#root} breadth-first using all threads of the {pool}
+     * and applies specified action on each vertex. Each level is expanded either top-down from the frontier
+     * or bottom-up from not visited vertices, whichever is expected to scan fewer edges, see {@link ParallelBfs}
+     *
+     * Consumer contract:
+     * <ul>
+     *     <li>consumer is invoked exactly once for each reachable vertex, concurrently from the threads of the {pool},
+     *     so it has to be thread-safe</li>
+     *     <li>root is consumed first, then vertices are consumed level by level: all vertices at distance {@code d}
+     *     from the root are consumed before any vertex at distance {@code d + 1}, order within a level is not defined</li>
+     *     <li>exception thrown by the consumer stops the traversal and is rethrown by this method</li>
+     * </ul>
+     *
+     * @throws IllegalStateException if some vertices are not reachable from the root
+     */
+    public void traverseParallel(@Nonnull ForkJoinPool pool, @Nonnull Consumer<T> consumer) {
 
-            var current = toBeVisitedQueue.remove(0);
-            if (!visitedSet.contains(current)) {
-                visitedSet.add(current);
-                consumer.accept(current.getValue());
-
-                var edges = edgesMap.get(current);
-                if (edges != null) {
-                    edges.forEach(edge -> {
-                        if (!visitedSet.contains(edge.getVertex())) {
-                            toBeVisitedQueue.add(edge.getVertex());
-                        }
-                    });
-                }
-            }
+        requireNonNull(pool, "pool");
+        requireNonNull(consumer, "consumer");
 
+        int reached = new ParallelBfs(adjacency, reverseAdjacency, vertex -> consumer.accept(vertices[vertex].getValue()))
+                .traverse(root, pool);
+        if (reached < vertices.length) {
+            throw new IllegalStateException("Some vertices are not reachable from the root");
         }
     }
 
+    /**
+     * Lazily traverses vertices reachable from {from} breadth-first, starting with {from} itself
+     *
+     * Vertices are visited only as the stream consumes them, so short-circuiting operations such as
+     * {@link Stream#findFirst()}, {@link Stream#limit(long)} or {@link Stream#takeWhile(java.util.function.Predicate)}
+     * scan only a part of the graph. Unlike {@link Graph#traverse(Consumer)} not reachable vertices are simply
+     * not in the stream. Parallel stream consumes vertices of each level in parallel, see {@link BfsSpliterator}
+     *
+     * @throws IllegalArgumentException if vertex does not belong to the graph
+     */
+    public Stream<T> bfs(@Nonnull Vertex<T> from) {
+        return StreamSupport.intStream(new BfsSpliterator(adjacency, indexOf(from)), false)
+                .mapToObj(vertex -> vertices[vertex].getValue());
+    }
+
+    /**
+     * Lazily traverses vertices reachable from {from} depth-first in preorder, starting with {from} itself,
+     * see {@link Graph#bfs(Vertex)}. Parallel stream gets no parallelism from the traversal itself
+     *
+     * @throws IllegalArgumentException if vertex does not belong to the graph
+     */
+    public Stream<T> dfs(@Nonnull Vertex<T> from) {
+        return StreamSupport.intStream(new DfsSpliterator(adjacency, indexOf(from)), false)
+                .mapToObj(vertex -> vertices[vertex].getValue());
+    }
+
+    /**
+     * Same as {@link Graph#bfs(Vertex)}, each vertex is visited by the call of {@link Iterator#next()} which returns it
+     *
+     * @throws IllegalArgumentException if vertex does not belong to the graph
+     */
+    public Iterator<T> bfsIterator(@Nonnull Vertex<T> from) {
+        return bfs(from).iterator();
+    }
+
+    /**
+     * Same as {@link Graph#dfs(Vertex)}, each vertex is visited by the call of {@link Iterator#next()} which returns it
+     *
+     * @throws IllegalArgumentException if vertex does not belong to the graph
+     */
+    public Iterator<T> dfsIterator(@Nonnull Vertex<T> from) {
+        return dfs(from).iterator();
+    }
+
     /**
      * Given a pair of vertices tries to find shortest path between them.
+     * Same as {@link Graph#findPath(Vertex, Vertex, SearchMode, Consumer)} with {@link SearchMode#UNIDIRECTIONAL} mode
      *
      * @param from Vertx from which path is searched. Do not has to be a root vertex of the graph
      * @param to Vertx to which path is searched
@@ -93,124 +202,550 @@ public final class Graph<T> {
      * @throws IllegalStateException if {to} is not reachable from {from}
      */
     public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull Consumer<T> consumer) {
+        findPath(from, to, SearchMode.UNIDIRECTIONAL, consumer);
+    }
 
-        validateVertex(from);
-        validateVertex(to);
+    /**
+     * Same as {@link Graph#findPath(Vertex, Vertex, Consumer)}, but reuses memory of the {context}
+     *
+     * @param context workspace created by {@link Graph#newSearchContext()} of this graph
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if {context} was created by another graph
+     */
+    public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull SearchContext<T> context, @Nonnull Consumer<T> consumer) {
+        findPath(from, to, SearchMode.UNIDIRECTIONAL, context, consumer);
+    }
+
+    /**
+     * Given a pair of vertices tries to find shortest path between them using specified search mode.
+     * Found paths have the same length in every mode, but when there are several shortest paths
+     * different modes may choose different ones
+     *
+     * @param from Vertx from which path is searched. Do not has to be a root vertex of the graph
+     * @param to Vertx to which path is searched
+     * @param mode defines whether the search goes from {from} only or from both ends
+     * @param consumer action to be applied to each Vertex's value on the path from {from} Vertex to {to}
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     */
+    public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull SearchMode mode, @Nonnull Consumer<T> consumer) {
+        findPath(from, to, mode, new SearchContext<>(this, vertices.length, false), consumer);
+    }
+
+    /**
+     * Same as {@link Graph#findPath(Vertex, Vertex, SearchMode, Consumer)}, but reuses memory of the {context}
+     *
+     * @param context workspace created by {@link Graph#newSearchContext()} of this graph
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if {context} was created by another graph
+     */
+    public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull SearchMode mode,
+                         @Nonnull SearchContext<T> context, @Nonnull Consumer<T> consumer) {
+
+        int fromIndex = indexOf(from);
+        int toIndex = indexOf(to);
+        requireNonNull(mode, "mode");
+        validateContext(context);
         requireNonNull(consumer, "consumer");
 
-        if (from.equals(to)) {
-            consumer.accept(from.getValue());
-            return;
+        var path = context.path();
+        if (isKnownNotReachable(fromIndex, toIndex) || !finder.findPath(fromIndex, toIndex, mode, context, path)) {
+            throw new IllegalStateException("Vertex 'to' is not reachable from vertex 'from'");
         }
+        emit(path, consumer);
 
-        var parents = isWeighted ? findPathByDijkstra(from) : findPathByBfs(from, to);
+    }
 
-        var path = new LinkedList<Vertex<T>>();
-        var current = to;
-        do {
-            path.addFirst(current);
-            current = parents.get(current);
-        } while (current != null);
-        if (!path.getFirst().equals(from)) {
+    /**
+     * Given a pair of vertices tries to find shortest path between them using A* search directed by the {heuristic}.
+     * See {@link Heuristic} for the requirements the estimate should meet, {@link Graph#landmarks(int)} provides
+     * a heuristic for graphs whose vertices carry no geometry
+     *
+     * @param from Vertx from which path is searched. Do not has to be a root vertex of the graph
+     * @param to Vertx to which path is searched
+     * @param heuristic lower bound estimate of distance between vertices
+     * @param consumer action to be applied to each Vertex's value on the path from {from} Vertex to {to}
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if {heuristic} returns negative estimate
+     */
+    public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull Heuristic<T> heuristic, @Nonnull Consumer<T> consumer) {
+        findPath(from, to, heuristic, new SearchContext<>(this, vertices.length, false), consumer);
+    }
+
+    /**
+     * Same as {@link Graph#findPath(Vertex, Vertex, Heuristic, Consumer)}, but reuses memory of the {context}
+     *
+     * @param context workspace created by {@link Graph#newSearchContext()} of this graph
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if {heuristic} returns negative estimate or {context} was created by another graph
+     */
+    public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull Heuristic<T> heuristic,
+                         @Nonnull SearchContext<T> context, @Nonnull Consumer<T> consumer) {
+
+        int fromIndex = indexOf(from);
+        int toIndex = indexOf(to);
+        requireNonNull(heuristic, "heuristic");
+        validateContext(context);
+        requireNonNull(consumer, "consumer");
+
+        var landmarks = heuristic instanceof Landmarks && ((Landmarks<T>) heuristic).belongsTo(this)
+                ? (Landmarks<T>) heuristic
+                : null;
+
+        var path = context.path();
+        if (isKnownNotReachable(fromIndex, toIndex) || !findPathByAStar(fromIndex, toIndex, heuristic, landmarks, context, path)) {
             throw new IllegalStateException("Vertex 'to' is not reachable from vertex 'from'");
         }
-        path.forEach(vertex -> consumer.accept(vertex.getValue()));
+        emit(path, consumer);
 
     }
 
     /**
-     * BFS algorithm implementation for finding shortest path between two vertices
-     * Should be used only for instances of {@link Graph} with {@link Graph#isWeighted} equals to {@link Boolean#FALSE}
-     * Otherwise path found may not be the shortest one
+     * Computes shortest paths from {from} to all vertices by a single full search: Dijkstra for weighted graphs
+     * and BFS for unweighted ones. Paths read from the tree are the same as found by
+     * {@link Graph#findPath(Vertex, Vertex, Consumer)}, so the tree replaces many point-to-point queries
+     * from the same vertex
+     */
+    public ShortestPathTree<T> shortestPathTree(@Nonnull Vertex<T> from) {
+
+        int fromIndex = indexOf(from);
+        var distances = new int[vertices.length];
+        var parents = new int[vertices.length];
+        Arrays.fill(distances, INFINITY_DISTANCE_VALUE);
+        Arrays.fill(parents, NO_PARENT);
+
+        distances[fromIndex] = 0;
+        if (isWeighted) {
+            finder.shortestPathTreeByDijkstra(fromIndex, distances, parents);
+        } else {
+            finder.shortestPathTreeByBfs(fromIndex, distances, parents);
+        }
+        return new ShortestPathTree<>(this, fromIndex, distances, parents);
+    }
+
+    /**
+     * Computes lengths of shortest paths from each of the {sources} to each of the {targets}
+     * using {@link ForkJoinPool#commonPool()}. Same as {@link Graph#distanceMatrix(Collection, Collection, ForkJoinPool)}
+     */
+    public int[][] distanceMatrix(@Nonnull Collection<Vertex<T>> sources, @Nonnull Collection<Vertex<T>> targets) {
+        return distanceMatrix(sources, targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes lengths of shortest paths from each of the {sources} to each of the {targets}.
+     * Runs one search per source, which stops once all the targets are settled, searches of different sources
+     * run in parallel on the {pool}. No paths are materialized.
+     * For many queries on large graphs {@link ContractedGraph#distanceMatrix(Collection, Collection, ForkJoinPool)}
+     * is much faster
      *
-     * @return Map representing vertex to it's parent vertex mapping
+     * @return matrix with a row per source and a column per target in the iteration order of the collections,
+     * {@link Graph#INFINITY_DISTANCE_VALUE} for not reachable targets
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
      */
-    private HashMap<Vertex<T>, Vertex<T>> findPathByBfs(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to) {
+    public int[][] distanceMatrix(@Nonnull Collection<Vertex<T>> sources, @Nonnull Collection<Vertex<T>> targets,
+                                  @Nonnull ForkJoinPool pool) {
+
+        var sourceIndices = indicesOf(sources, "sources");
+        var targetIndices = indicesOf(targets, "targets");
+        requireNonNull(pool, "pool");
+
+        var isTarget = new boolean[vertices.length];
+        int targetCount = 0;
+        for (int target : targetIndices) {
+            if (!isTarget[target]) {
+                isTarget[target] = true;
+                targetCount++;
+            }
+        }
 
-        var visitedSet = new HashSet<Vertex<T>>();
-        var toBeVisitedQueue = new LinkedList<Vertex<T>>();
-        var parents = new HashMap<Vertex<T>, Vertex<T>>();
+        int distinctTargetCount = targetCount;
+        var matrix = new int[sourceIndices.length][];
+        ParallelRows.forEach(pool, sourceIndices.length, () -> new SearchContext<>(this, vertices.length, true), (context, row) ->
+                matrix[row] = finder.distancesByDijkstra(sourceIndices[row], targetIndices, isTarget, distinctTargetCount, context));
+        return matrix;
+    }
+
+    /**
+     * Computes hops of shortest paths from each of the {sources} to each of the {targets}
+     * using {@link ForkJoinPool#commonPool()}. Same as {@link Graph#hopMatrix(Collection, Collection, ForkJoinPool)}
+     */
+    public int[][] hopMatrix(@Nonnull Collection<Vertex<T>> sources, @Nonnull Collection<Vertex<T>> targets) {
+        return hopMatrix(sources, targets, ForkJoinPool.commonPool());
+    }
 
-        toBeVisitedQueue.add(from);
-        boolean done = false;
-        while (!toBeVisitedQueue.isEmpty() && !done) {
+    /**
+     * Computes count of edges on shortest paths, ignoring weights, from each of the {sources} to each of the {targets}.
+     * Runs up to 256 breadth-first searches at once by bitwise operations, each level of them in parallel
+     * on the {pool}, see {@link MultiSourceBfs}. Unlike {@link Graph#distanceMatrix(Collection, Collection, ForkJoinPool)}
+     * searches do not stop at the targets, so it pays off for many sources, e.g. for a matrix to all vertices
+     *
+     * @return matrix with a row per source and a column per target in the iteration order of the collections,
+     * {@link Graph#INFINITY_DISTANCE_VALUE} for not reachable targets
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    public int[][] hopMatrix(@Nonnull Collection<Vertex<T>> sources, @Nonnull Collection<Vertex<T>> targets,
+                             @Nonnull ForkJoinPool pool) {
 
-            var current = toBeVisitedQueue.remove(0);
-            if (!visitedSet.contains(current)) {
-                visitedSet.add(current);
+        var sourceIndices = indicesOf(sources, "sources");
+        var targetIndices = indicesOf(targets, "targets");
+        requireNonNull(pool, "pool");
 
-                var edges = edgesMap.get(current);
-                if (edges != null) {
-                    for (var edge : edges) {
-                        if (!visitedSet.contains(edge.getVertex())) {
-                            toBeVisitedQueue.add(edge.getVertex());
-                            parents.compute(edge.getVertex(), (key, value) -> {
-                                if (value != null) {
-                                    return value;
-                                } else {
-                                    return current;
-                                }
-                            });
-                            if (edge.getVertex().equals(to)) {
-                                done = true;
-                            }
-                        }
-                    }
+        // columns of each vertex, the same vertex may be given as many targets
+        var columnOffsets = new int[vertices.length + 1];
+        for (int target : targetIndices) {
+            columnOffsets[target + 1]++;
+        }
+        for (int vertex = 0; vertex < vertices.length; vertex++) {
+            columnOffsets[vertex + 1] += columnOffsets[vertex];
+        }
+        var columns = new int[targetIndices.length];
+        var positions = Arrays.copyOf(columnOffsets, vertices.length);
+        for (int column = 0; column < targetIndices.length; column++) {
+            columns[positions[targetIndices[column]]++] = column;
+        }
+
+        var matrix = new int[sourceIndices.length][targetIndices.length];
+        for (var row : matrix) {
+            Arrays.fill(row, INFINITY_DISTANCE_VALUE);
+        }
+        new MultiSourceBfs(adjacency, reverseAdjacency, sourceIndices, pool, (vertex, firstSource, lanes, hops) -> {
+            for (int i = columnOffsets[vertex], end = columnOffsets[vertex + 1]; i < end; i++) {
+                for (long rest = lanes; rest != 0; rest &= rest - 1) {
+                    matrix[firstSource + Long.numberOfTrailingZeros(rest)][columns[i]] = hops;
                 }
             }
+        }).run();
+        return matrix;
+    }
+
+    /**
+     * Aggregates hops from each of the {sources} to all vertices using {@link ForkJoinPool#commonPool()}.
+     * Same as {@link Graph#hopStatistics(Collection, ForkJoinPool)}
+     */
+    public HopStatistics hopStatistics(@Nonnull Collection<Vertex<T>> sources) {
+        return hopStatistics(sources, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Aggregates count of edges on shortest paths, ignoring weights, from each of the {sources} to all vertices,
+     * e.g. for closeness centrality. Searches run the same way as by {@link Graph#hopMatrix(Collection, Collection, ForkJoinPool)},
+     * but no matrix is kept
+     *
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    public HopStatistics hopStatistics(@Nonnull Collection<Vertex<T>> sources, @Nonnull ForkJoinPool pool) {
+
+        var sourceIndices = indicesOf(sources, "sources");
+        requireNonNull(pool, "pool");
+
+        var search = new MultiSourceBfs(adjacency, reverseAdjacency, sourceIndices, pool, null);
+        search.run();
+        return search.statistics();
+    }
+
+    /**
+     * Computes shortest paths from {from} to all vertices in parallel using {@link ForkJoinPool#commonPool()}
+     * Same as {@link Graph#shortestPathTreeParallel(Vertex, int, ForkJoinPool)} with delta equal to
+     * the max edge weight divided by the average degree
+     */
+    public ShortestPathTree<T> shortestPathTreeParallel(@Nonnull Vertex<T> from) {
+        return shortestPathTreeParallel(from, DeltaStepping.defaultDelta(adjacency), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes shortest paths from {from} to all vertices using all threads of the {pool},
+     * see {@link DeltaStepping} for the algorithm
+     *
+     * @param delta width of the distance buckets processed in parallel. Smaller delta does less redundant work,
+     *              larger delta gives more parallelism, edge weight of a typical edge is a reasonable start
+     * @throws IllegalArgumentException if {delta} is not positive
+     */
+    public ShortestPathTree<T> shortestPathTreeParallel(@Nonnull Vertex<T> from, int delta, @Nonnull ForkJoinPool pool) {
+
+        int fromIndex = indexOf(from);
+        var deltaStepping = new DeltaStepping(adjacency, delta, pool);
+        deltaStepping.run(fromIndex);
+
+        var distances = new int[vertices.length];
+        var parents = new int[vertices.length];
+        for (int vertex = 0; vertex < vertices.length; vertex++) {
+            distances[vertex] = deltaStepping.distance(vertex);
+            parents[vertex] = deltaStepping.parent(vertex);
+        }
+        return new ShortestPathTree<>(this, fromIndex, distances, parents);
+    }
+
+    /**
+     * Creates reusable workspace for {@link Graph#traverse(SearchContext, Consumer)} and the {@code findPath}
+     * overloads taking a context. Context takes a few ints of memory per vertex of the graph,
+     * so it pays off when many queries are run one after another, e.g. one context per worker thread
+     */
+    public SearchContext<T> newSearchContext() {
+        return new SearchContext<>(this, vertices.length, true);
+    }
+
+    /**
+     * Creates thread-safe cache of paths found by {@link Graph#findPath(Vertex, Vertex, Consumer)}, see {@link PathCache}.
+     * Since the graph is immutable cached paths never become stale
+     *
+     * @param maximumSize max count of cached {@code (from, to)} pairs
+     * @throws IllegalArgumentException if {maximumSize} is not positive
+     */
+    public PathCache<T> newPathCache(int maximumSize) {
+        return new PathCache<>(this, maximumSize);
+    }
+
+    /**
+     * Precomputes landmark based heuristic for {@link Graph#findPath(Vertex, Vertex, Heuristic, Consumer)}
+     * Takes {@code 2 * count} full single source searches and {@code 2 * count * vertices} ints of memory
+     *
+     * @param count count of landmarks, more landmarks give tighter estimates
+     * @throws IllegalArgumentException if {count} is not positive or is greater than count of vertices
+     */
+    public Landmarks<T> landmarks(int count) {
+        return new Landmarks<>(this, adjacency, reverseAdjacency, root, count);
+    }
+
+    /**
+     * Finds connected components of the graph ignoring directions of edges, see {@link Components}.
+     * Components are computed on the first call in time almost linear in the count of edges and then kept by the graph,
+     * after that {@code findPath} methods reject vertices of different components at once without searching
+     */
+    public Components<T> components() {
+        var result = components;
+        if (result == null) {
+            result = new Components<>(this, adjacency, reverseAdjacency);
+            components = result;
+        }
+        return result;
+    }
+
+    /**
+     * Computes reachability index of the graph: its strongly connected components and interval labels of the DAG
+     * they form, see {@link Reachability}. Index is computed on the first call in time linear in the count of edges
+     * and then kept by the graph, after that {@code findPath} methods reject most of not reachable vertices
+     * at once without searching
+     */
+    public Reachability<T> reachability() {
+        var result = reachability;
+        if (result == null) {
+            result = new Reachability<>(this, adjacency);
+            reachability = result;
+        }
+        return result;
+    }
+
+    /**
+     * Creates whole graph analytics over the adjacency of the graph: PageRank, degrees and betweenness,
+     * see {@link GraphAnalytics}
+     */
+    public GraphAnalytics<T> analytics() {
+        return new GraphAnalytics<>(this, adjacency, reverseAdjacency, isWeighted);
+    }
 
+    /**
+     * Builds contraction hierarchy of the graph to answer shortest path queries much faster.
+     * Preprocessing takes considerable time, so it pays off only when many queries are run against the same graph
+     */
+    public ContractedGraph<T> contract() {
+        return new ContractedGraph<>(this, adjacency);
+    }
+
+    /**
+     * Copies edges of the graph to direct buffers out of the heap, see {@link Graph#toMappedFile(Path)}.
+     * Copy takes {@code 4 * (vertices + 2 * edges)} bytes of direct memory, or twice as much for directed graphs,
+     * limited by {@code -XX:MaxDirectMemorySize}
+     *
+     * @return graph with the same vertices, edges and root
+     */
+    public Graph<T> toOffHeap() {
+        var offHeap = BufferAdjacency.copyOf(adjacency);
+        var reverseOffHeap = reverseAdjacency == adjacency ? offHeap : BufferAdjacency.copyOf(reverseAdjacency);
+        return new Graph<>(root, vertices, index, offHeap, reverseOffHeap, isWeighted);
+    }
+
+    /**
+     * Writes edges of the graph to the {file} and maps it read-only into memory.
+     * Searches of the returned graph read edges straight from the mapped pages, which are loaded on demand,
+     * kept by the operating system out of the heap and shared by all processes mapping the same file,
+     * so edges may take more memory than the heap has. Vertices are still kept in the heap
+     *
+     * @param file file to write, its content is replaced
+     * @return graph with the same vertices, edges and root
+     * @throws IOException if the file can not be written or mapped
+     */
+    public Graph<T> toMappedFile(@Nonnull Path file) throws IOException {
+        var mapped = BufferAdjacency.writeAndMap(file, adjacency, reverseAdjacency);
+        return new Graph<>(root, vertices, index, mapped[0], mapped[1], isWeighted);
+    }
+
+    /**
+     * Writes the graph to the {file} in a binary format: vertex ids, edges in the CSR layout
+     * and vertex values written by the {codec}, see {@link GraphFile} for the layout
+     *
+     * @param file file to write, its content is replaced
+     * @throws IOException if the file can not be written or the codec fails
+     */
+    public void writeTo(@Nonnull Path file, @Nonnull ValueCodec<T> codec) throws IOException {
+        requireNonNull(codec, "codec");
+        var ids = new int[vertices.length];
+        for (int vertex = 0; vertex < vertices.length; vertex++) {
+            ids[vertex] = vertices[vertex].getId();
+        }
+        GraphFile.write(file, ids, root, adjacency, reverseAdjacency, isWeighted, vertex -> vertices[vertex].getValue(), codec);
+    }
+
+    /**
+     * Loads the graph written by {@link Graph#writeTo(Path, ValueCodec)}. Edges are not read but mapped read-only
+     * into memory the same way as {@link Graph#toMappedFile(Path)} does, so loading takes time proportional
+     * to the count of vertices only. The file should not be modified while the graph is in use
+     *
+     * Vertices of the loaded graph are new {@link Vertex} instances with the values read by the {codec}
+     * and new ids, the order of the ids is kept
+     *
+     * @throws IOException if the file can not be read or mapped, or the codec fails
+     * @throws IllegalArgumentException if the file is not a graph file of a supported version
+     */
+    public static <T> Graph<T> load(@Nonnull Path file, @Nonnull ValueCodec<T> codec) throws IOException {
+        requireNonNull(codec, "codec");
+        var graphFile = GraphFile.read(file, codec);
+        var values = graphFile.values();
+        @SuppressWarnings("unchecked")
+        Vertex<T>[] vertices = (Vertex<T>[]) new Vertex<?>[values.size()];
+        for (int vertex = 0; vertex < vertices.length; vertex++) {
+            vertices[vertex] = Vertex.of(values.get(vertex));
+        }
+        return of(vertices, graphFile.root(), graphFile.adjacency(), graphFile.reverseAdjacency(), graphFile.isWeighted());
+    }
+
+    /**
+     * Converts the graph to the primitive one with the same vertex ids, edges and root, see {@link IntGraph}.
+     * Edge arrays are shared, so the conversion takes memory only for the ids
+     */
+    public IntGraph toIntGraph() {
+        var ids = new int[vertices.length];
+        for (int vertex = 0; vertex < vertices.length; vertex++) {
+            ids[vertex] = vertices[vertex].getId();
         }
-        return parents;
+        return new IntGraph(ids, root, adjacency, reverseAdjacency, isWeighted);
+    }
+
+    /**
+     * Copies the graph into the mutable one with the same vertices, edges and root, whose edges can be changed
+     * while other threads search it, see {@link ConcurrentGraph}
+     */
+    public ConcurrentGraph<T> toConcurrentGraph() {
+        return new ConcurrentGraph<>(root, vertices, index, adjacency, reverseAdjacency, isWeighted);
     }
 
     /**
-     * Dijkstra algorithm implementation for finding shortest path between two vertices
-     * Should be used only for instances of {@link Graph} with {@link Graph#isWeighted} equals to {@link Boolean#TRUE}
-     * Otherwise {@link Graph#findPathByBfs(Vertex, Vertex)} is preferable due to its lower time complexity
+     * Creates the graph over already compiled edges
      *
-     * @return Map representing vertex to it's parent vertex mapping
+     * @param vertices vertices in index order, their ids should be ascending
+     */
+    static <T> Graph<T> of(@Nonnull Vertex<T>[] vertices, int root, @Nonnull Adjacency adjacency,
+                           @Nonnull Adjacency reverseAdjacency, boolean isWeighted) {
+        return new Graph<>(root, vertices, new VertexIndex(vertices), adjacency, reverseAdjacency, isWeighted);
+    }
+
+    PathFinder pathFinder() {
+        return finder;
+    }
+
+    /**
+     * @return {@code true} if {@link Graph#components()} or {@link Graph#reachability()} computed before
+     * prove that {to} is not reachable from {from}
      */
-    private HashMap<Vertex<T>, Vertex<T>> findPathByDijkstra(@Nonnull Vertex<T> from) {
+    private boolean isKnownNotReachable(int from, int to) {
+        var knownComponents = components;
+        var knownReachability = reachability;
+        return knownComponents != null && !knownComponents.isConnected(from, to)
+                || knownReachability != null && knownReachability.isNotReachable(from, to);
+    }
 
-        var minHeap = new PriorityQueue<Distance<T>>();
-        var distances = new HashMap<Vertex<T>, Distance<T>>();
-        vertices.forEach(vertex -> {
-            int value = vertex.equals(from) ? 0 : INFINITY_DISTANCE_VALUE;
-            var distance = new Distance<>(vertex, value);
-            minHeap.add(distance);
-            distances.put(vertex, distance);
-        });
-        var notVisitedSet = new HashSet<>(vertices);
-        var parents = new HashMap<Vertex<T>, Vertex<T>>();
+    private void validateContext(@Nonnull SearchContext<T> context) {
+        requireNonNull(context, "context");
+        if (!context.belongsTo(this)) {
+            throw new IllegalArgumentException("Search context belongs to another Graph");
+        }
+    }
 
-        while (!minHeap.isEmpty()) {
+    private void emit(IntList path, Consumer<T> consumer) {
+        for (int i = 0; i < path.size(); i++) {
+            consumer.accept(vertices[path.get(i)].getValue());
+        }
+    }
 
-            var current = minHeap.remove();
-            notVisitedSet.remove(current.getVertex());
+    /**
+     * Restores path into {path} by walking parents from {to} back to {from}
+     *
+     * @return {@code false} if {to} is not reachable
+     */
+    static boolean toPath(SearchState state, int from, int to, IntList path) {
+        for (int vertex = to; vertex != NO_PARENT; vertex = state.parent(vertex)) {
+            path.add(vertex);
+        }
+        path.reverse();
+        return path.get(0) == from;
+    }
 
-            var edges = edgesMap.get(current.getVertex());
-            if (edges != null) {
-                for (var edge : edges) {
-                    if (notVisitedSet.contains(edge.getVertex())) {
+    /**
+     * Restores path found by a bidirectional search into {path}: {from} to {meeting} via forward parents
+     * and then {meeting} to {to} via backward parents
+     */
+    static void toPath(SearchState forward, SearchState backward, int meeting, IntList path) {
+        for (int vertex = meeting; vertex != NO_PARENT; vertex = forward.parent(vertex)) {
+            path.add(vertex);
+        }
+        path.reverse();
+        for (int vertex = backward.parent(meeting); vertex != NO_PARENT; vertex = backward.parent(vertex)) {
+            path.add(vertex);
+        }
+    }
 
-                        var currentDistance = distances.get(current.getVertex());
-                        var edgeDistance = distances.get(edge.getVertex());
-                        int weight = edge.getWeight();
-                        if (edgeDistance.getValue() > (currentDistance.getValue() + weight)) {
-                            edgeDistance.setValue((currentDistance.getValue() + weight));
-                            parents.put(edge.getVertex(), current.getVertex());
+    /**
+     * A* algorithm implementation for finding shortest path between two vertices
+     * Same as {@link PathFinder#findPathByDijkstra(int, int, SearchContext, IntList)}, but vertices are taken from the heap
+     * in order of distance from {from} plus estimated distance to {to}, so the search is directed towards {to}
+     *
+     * @param landmarks the {heuristic} itself if it is {@link Landmarks} of this graph, estimated by indices then
+     * @return {@code false} if {to} is not reachable
+     */
+    private boolean findPathByAStar(int from, int to, Heuristic<T> heuristic, Landmarks<T> landmarks,
+                                    SearchContext<T> context, IntList path) {
 
-                            minHeap.remove(edgeDistance);
-                            minHeap.add(edgeDistance);
-                        }
+        var state = context.forward();
 
-                    }
+        state.relax(from, 0, NO_PARENT);
+        while (state.hasNext()) {
 
+            int current = state.settleNext();
+            if (current == to) {
+                break;
+            }
+
+            int currentDistance = state.distance(current);
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                int target = adjacency.target(edge);
+                int distance = currentDistance + adjacency.weight(edge);
+                if (distance >= 0 && distance < state.distance(target) && !state.isSettled(target)) {
+                    int remaining = landmarks != null
+                            ? landmarks.estimate(target, to)
+                            : heuristic.estimate(vertices[target], vertices[to]);
+                    if (remaining < 0) {
+                        throw new IllegalArgumentException("Heuristic estimate can not be negative");
+                    }
+                    int priority = distance + remaining;
+                    state.relax(target, distance, priority >= 0 ? priority : INFINITY_DISTANCE_VALUE, current);
                 }
             }
 
         }
-        return parents;
+        return toPath(state, from, to, path);
 
     }
 
@@ -219,35 +754,65 @@ public final class Graph<T> {
      * @return all vertices of the graph
      */
     public Set<Vertex<T>> getVertices() {
-        return new HashSet<>(this.vertices);
+        return new HashSet<>(Arrays.asList(this.vertices));
     }
 
     /**
      * @return all edges for the specified vertex
      */
     public Set<Edge<T>> getEdges(Vertex<T> from) {
-        validateVertex(from);
-        return edgesMap.get(from) == null
-                ? Collections.emptySet()
-                : new HashSet<>(edgesMap.get(from));
+        int fromIndex = indexOf(from);
+        var edges = new HashSet<Edge<T>>();
+        for (int edge = adjacency.begin(fromIndex), end = adjacency.end(fromIndex); edge < end; edge++) {
+            edges.add(new Edge<>(vertices[adjacency.target(edge)], adjacency.weight(edge)));
+        }
+        return edges;
+
+    }
+
+    int vertexCount() {
+        return vertices.length;
+    }
 
+    Vertex<T> vertexAt(int index) {
+        return vertices[index];
     }
 
-    private void validateVertex(@Nonnull Vertex<T> vertex) {
+    /**
+     * @return dense indices of the vertices in the iteration order of the collection
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    int[] indicesOf(@Nonnull Collection<Vertex<T>> vertices, @Nonnull String name) {
+        requireNonNull(vertices, name);
+        var indices = new int[vertices.size()];
+        int position = 0;
+        for (var vertex : vertices) {
+            indices[position++] = indexOf(vertex);
+        }
+        return indices;
+    }
+
+    /**
+     * @return dense index of the vertex
+     * @throws IllegalArgumentException if vertex does not belong to the graph
+     */
+    int indexOf(@Nonnull Vertex<T> vertex) {
         requireNonNull(vertex, "vertex");
-        if (!vertices.contains(vertex)) {
+        int vertexIndex = index.indexOf(vertex);
+        if (vertexIndex == VertexIndex.ABSENT) {
             throw new IllegalArgumentException("Vertex does not belong to the Graph");
         }
+        return vertexIndex;
     }
 
     @Override
     public String toString() {
-        return vertices.stream()
-                .sorted()
-                .map(it -> "'" + it.getValue() + (edgesMap.get(it) == null ? "'" :
-                        "'->" + edgesMap.get(it).stream()
-                                .sorted()
-                                .map(edge -> "'" + edge.getVertex().getValue() + "'" + "{" + edge.getWeight() + "}")
+        return IntStream.range(0, vertices.length)
+                .mapToObj(vertex -> "'" + vertices[vertex].getValue() + (adjacency.degree(vertex) == 0 ? "'" :
+                        "'->" + IntStream.range(adjacency.begin(vertex), adjacency.end(vertex))
+                                .boxed()
+                                .sorted(Comparator.comparingInt(adjacency::target))
+                                .map(edge -> "'" + vertices[adjacency.target(edge)].getValue() + "'" + "{" + adjacency.weight(edge) + "}")
                                 .collect(Collectors.joining(","))))
                 .collect(Collectors.joining(" | ", "[", "]"));
     }
@@ -272,24 +837,103 @@ public final class Graph<T> {
 
         protected static final int UNWEIGHTED_WEIGHT = 1;
 
+        private static final int VERTEX_GRAIN = 1 << 12;
+
         private final boolean isWeighted;
+        private final boolean isDirected;
         private final Vertex<T> root;
-        private final Set<Vertex<T>> vertices;
-        private final Map<Vertex<T>, Set<Edge<T>>> edgesMap;
+        private Set<Vertex<T>> vertices;
+        private Map<Vertex<T>, Set<Edge<T>>> edgesMap;
+        private final EdgeBuffer bulkEdges = new EdgeBuffer();
+        private int expectedEdgeCount;
+        // vertex table of the last bulk addition and ids of its vertices added so far
+        private List<Vertex<T>> bulkVertices;
+        private final IntList bulkIds = new IntList();
 
         protected Builder(@Nonnull Vertex<T> root, boolean isWeighted) {
+            this(root, isWeighted, true);
+        }
+
+        /**
+         * @param isDirected {@code false} only if every edge is added via {@link Builder#addUndirectedEdge(Vertex, Vertex, int)},
+         *                   so that the graph can use its adjacency as the reverse one
+         */
+        protected Builder(@Nonnull Vertex<T> root, boolean isWeighted, boolean isDirected) {
             this.root = requireNonNull(root, "root");
             this.vertices = new HashSet<>();
             this.edgesMap = new HashMap<>();
            this.isWeighted = isWeighted;
+            this.isDirected = isDirected;
             vertices.add(root);
         }
 
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, so that collecting them
+         * does not rehash or copy growing collections. Memory for edges is reserved on the first bulk addition
+         */
+        public Builder<T> ensureCapacity(int vertexCount, int edgeCount) {
+            if (vertexCount > vertices.size()) {
+                var resizedVertices = new HashSet<Vertex<T>>(2 * vertexCount);
+                resizedVertices.addAll(vertices);
+                vertices = resizedVertices;
+                var resizedEdgesMap = new HashMap<Vertex<T>, Set<Edge<T>>>(2 * vertexCount);
+                resizedEdgesMap.putAll(edgesMap);
+                edgesMap = resizedEdgesMap;
+            }
+            expectedEdgeCount = Math.max(expectedEdgeCount, edgeCount);
+            return this;
+        }
+
         public Builder<T> addVertex(@Nonnull Vertex<T> vertex) {
             vertices.add(requireNonNull(vertex, "vertex"));
             return this;
         }
 
+        /**
+         * Adds all the {vertices} and the edge {@code vertices[from[i]] -> vertices[to[i]]} of the {@code weights[i]}
+         * for each {@code i}, or of the {@link Builder#UNWEIGHTED_WEIGHT} if {weights} is {@code null}.
+         * Edges are added in both directions if the builder is not directed
+         *
+         * Unlike {@link Builder#addEdge(Vertex, Vertex, int)} edges are kept as three ints each and are not checked
+         * for duplicates until {@link Builder#build()}, which sorts and deduplicates them all at once.
+         * Of the same table passed again only vertices appended to it since are added, so edges can be loaded
+         * in chunks against one table, which should not have its vertices replaced or removed between the calls
+         *
+         * @param vertices table of vertices referred by positions in {from} and {to}
+         * @throws IllegalArgumentException if arrays differ in length, refer to a position out of the table
+         * or contain a negative weight, nothing is added then
+         */
+        protected Builder<T> addEdges(@Nonnull List<Vertex<T>> vertices, @Nonnull int[] from, @Nonnull int[] to, int[] weights) {
+            requireNonNull(vertices, "vertices");
+            requireNonNull(from, "from");
+            requireNonNull(to, "to");
+            if (from.length != to.length || (weights != null && weights.length != from.length)) {
+                throw new IllegalArgumentException("Edge arrays should have the same length");
+            }
+            for (int i = 0; i < from.length; i++) {
+                if (from[i] < 0 || from[i] >= vertices.size() || to[i] < 0 || to[i] >= vertices.size()) {
+                    throw new IllegalArgumentException("Edge refers to a vertex out of the table");
+                }
+                if (weights != null) {
+                    EdgeBuffer.validateWeight(weights[i]);
+                }
+            }
+            if (vertices != bulkVertices || vertices.size() < bulkIds.size()) {
+                bulkVertices = vertices;
+                bulkIds.clear();
+            }
+            for (var it = vertices.listIterator(bulkIds.size()); it.hasNext(); ) {
+                var vertex = it.next();
+                addVertex(vertex);
+                bulkIds.add(vertex.getId());
+            }
+            bulkEdges.ensureCapacity(Math.max(expectedEdgeCount, bulkEdges.size() + from.length));
+            for (int i = 0; i < from.length; i++) {
+                bulkEdges.add(bulkIds.get(from[i]), bulkIds.get(to[i]), weights == null ? UNWEIGHTED_WEIGHT : weights[i]);
+            }
+            return this;
+        }
+
         protected Builder<T> addEdge(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, int weight) {
             validateVertex(from);
             validateVertex(to);
@@ -329,8 +973,112 @@ public final class Graph<T> {
             }
         }
 
+        /**
+         * Compiles collected vertices and edges into the CSR layout in two passes: the first one counts edges
+         * of each vertex, the second one fills them in. Vertices are indexed in order of their ids.
+         * Edges of each vertex added one by one keep the order they are collected in and go first,
+         * edges added in bulk follow them sorted by target, skipping those already added one by one
+         *
+         * @throws IllegalArgumentException if an edge added in bulk refers to a vertex which does not belong to the graph
+         */
         public Graph<T> build() {
-            return new Graph<>(this.root, this.vertices, this.edgesMap, isWeighted);
+            return build(null);
+        }
+
+        /**
+         * Same as {@link Builder#build()}, but runs in parallel using {@link ForkJoinPool#commonPool()}
+         */
+        public Graph<T> buildParallel() {
+            return buildParallel(ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Same as {@link Builder#build()}, but sorts vertices, counts, places and sorts edges, and builds the reverse
+         * adjacency by tasks run on the {pool}. Built graph is the same as the one built by {@link Builder#build()}
+         */
+        public Graph<T> buildParallel(@Nonnull ForkJoinPool pool) {
+            return build(requireNonNull(pool, "pool"));
+        }
+
+        private Graph<T> build(@Nullable ForkJoinPool pool) {
+
+            @SuppressWarnings("unchecked")
+            Vertex<T>[] indexed = (Vertex<T>[]) this.vertices.toArray(new Vertex<?>[0]);
+            if (pool == null) {
+                Arrays.sort(indexed);
+            } else {
+                pool.invoke(ForkJoinTask.adapt(() -> Arrays.parallelSort(indexed)));
+            }
+            var index = new VertexIndex(indexed);
+            var bulk = bulkEdges.compile(indexed.length, id -> {
+                int vertex = index.indexOf(id);
+                if (vertex == VertexIndex.ABSENT) {
+                    throw new IllegalArgumentException("Vertex does not belong to the Graph");
+                }
+                return vertex;
+            }, !isDirected, pool);
+
+            var offsets = new int[indexed.length + 1];
+            ParallelRanges.forEach(pool, indexed.length, VERTEX_GRAIN, (from, to) -> {
+                for (int vertex = from; vertex < to; vertex++) {
+                    offsets[vertex + 1] = fillRow(vertex, indexed, index, bulk, null, null, 0);
+                }
+            });
+            ParallelRanges.prefixSum(pool, offsets);
+
+            var targets = new int[offsets[indexed.length]];
+            var weights = new int[offsets[indexed.length]];
+            ParallelRanges.forEach(pool, indexed.length, VERTEX_GRAIN, (from, to) -> {
+                for (int vertex = from; vertex < to; vertex++) {
+                    fillRow(vertex, indexed, index, bulk, targets, weights, offsets[vertex]);
+                }
+            });
+
+            var adjacency = Adjacency.of(offsets, targets, weights);
+            var reverseAdjacency = isDirected ? adjacency.transpose(pool) : adjacency;
+            return new Graph<>(index.indexOf(root), indexed, index, adjacency, reverseAdjacency, isWeighted);
+        }
+
+        /**
+         * Writes edges of the {vertex} to {targets} and {weights} from the {position}, or only counts them
+         * if {targets} is {@code null}: edges added one by one and then those of the {bulk} edges which were not added one by one
+         *
+         * @return count of edges of the vertex
+         */
+        private int fillRow(int vertex, Vertex<T>[] indexed, VertexIndex index, Adjacency bulk,
+                            @Nullable int[] targets, @Nullable int[] weights, int position) {
+            var edges = edgesMap.getOrDefault(indexed[vertex], Collections.emptySet());
+            int count = 0;
+            int[] edgeTargets = bulk.degree(vertex) > 0 && !edges.isEmpty() ? new int[edges.size()] : null;
+            if (targets != null || edgeTargets != null) {
+                for (var it : edges) {
+                    int target = index.indexOf(it.getVertex());
+                    if (targets != null) {
+                        targets[position + count] = target;
+                        weights[position + count] = it.getWeight();
+                    }
+                    if (edgeTargets != null) {
+                        edgeTargets[count] = target;
+                    }
+                    count++;
+                }
+            } else {
+                count = edges.size();
+            }
+            if (edgeTargets != null) {
+                Arrays.sort(edgeTargets);
+            }
+            for (int edge = bulk.begin(vertex), end = bulk.end(vertex); edge < end; edge++) {
+                int target = bulk.target(edge);
+                if (edgeTargets == null || Arrays.binarySearch(edgeTargets, target) < 0) {
+                    if (targets != null) {
+                        targets[position + count] = target;
+                        weights[position + count] = bulk.weight(edge);
+                    }
+                    count++;
+                }
+            }
+            return count;
         }
 
     }
@@ -340,7 +1088,15 @@ public final class Graph<T> {
         private final Builder<T> builder;
 
         public UndirectedUnweightedBuilder(Vertex<T> root) {
-            builder = new Builder<T>(root, false);
+            builder = new Builder<T>(root, false, false);
+        }
+
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, see {@link Builder#ensureCapacity(int, int)}
+         */
+        public UndirectedUnweightedBuilder<T> ensureCapacity(int vertexCount, int edgeCount) {
+            builder.ensureCapacity(vertexCount, edgeCount);
+            return this;
         }
 
         public UndirectedUnweightedBuilder<T> addVertex(@Nonnull Vertex<T> vertex) {
@@ -353,10 +1109,33 @@ public final class Graph<T> {
             return this;
         }
 
+        /**
+         * Adds all the {vertices} and the edge {@code vertices[from[i]] - vertices[to[i]]} for each {@code i},
+         * see {@link Builder#addEdges(List, int[], int[], int[])}
+         */
+        public UndirectedUnweightedBuilder<T> addEdges(@Nonnull List<Vertex<T>> vertices, @Nonnull int[] from, @Nonnull int[] to) {
+            builder.addEdges(vertices, from, to, null);
+            return this;
+        }
+
         public Graph<T> build() {
             return builder.build();
         }
 
+        /**
+         * Same as {@link Builder#buildParallel()}
+         */
+        public Graph<T> buildParallel() {
+            return builder.buildParallel();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel(ForkJoinPool)}
+         */
+        public Graph<T> buildParallel(@Nonnull ForkJoinPool pool) {
+            return builder.buildParallel(pool);
+        }
+
     }
 
     public static class DirectedUnweightedBuilder<T>  {
@@ -367,6 +1146,14 @@ public final class Graph<T> {
             builder = new Builder<>(root, false);
         }
 
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, see {@link Builder#ensureCapacity(int, int)}
+         */
+        public DirectedUnweightedBuilder<T> ensureCapacity(int vertexCount, int edgeCount) {
+            builder.ensureCapacity(vertexCount, edgeCount);
+            return this;
+        }
+
         public DirectedUnweightedBuilder<T> addVertex(@Nonnull Vertex<T> vertex) {
             builder.addVertex(vertex);
             return this;
@@ -377,10 +1164,33 @@ public final class Graph<T> {
             return this;
         }
 
+        /**
+         * Adds all the {vertices} and the edge {@code vertices[from[i]] -> vertices[to[i]]} for each {@code i},
+         * see {@link Builder#addEdges(List, int[], int[], int[])}
+         */
+        public DirectedUnweightedBuilder<T> addEdges(@Nonnull List<Vertex<T>> vertices, @Nonnull int[] from, @Nonnull int[] to) {
+            builder.addEdges(vertices, from, to, null);
+            return this;
+        }
+
         public Graph<T> build() {
             return builder.build();
         }
 
+        /**
+         * Same as {@link Builder#buildParallel()}
+         */
+        public Graph<T> buildParallel() {
+            return builder.buildParallel();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel(ForkJoinPool)}
+         */
+        public Graph<T> buildParallel(@Nonnull ForkJoinPool pool) {
+            return builder.buildParallel(pool);
+        }
+
     }
 
     public static class UndirectedWeightedBuilder<T> {
@@ -388,7 +1198,15 @@ public final class Graph<T> {
         private final Builder<T> builder;
 
         public UndirectedWeightedBuilder(Vertex<T> root) {
-            builder = new Builder<>(root, true);
+            builder = new Builder<>(root, true, false);
+        }
+
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, see {@link Builder#ensureCapacity(int, int)}
+         */
+        public UndirectedWeightedBuilder<T> ensureCapacity(int vertexCount, int edgeCount) {
+            builder.ensureCapacity(vertexCount, edgeCount);
+            return this;
         }
 
         public UndirectedWeightedBuilder<T> addVertex(@Nonnull Vertex<T> vertex) {
@@ -401,10 +1219,33 @@ public final class Graph<T> {
             return this;
         }
 
+        /**
+         * Adds all the {vertices} and the edge {@code vertices[from[i]] - vertices[to[i]]} of the {@code weights[i]}
+         * for each {@code i}, see {@link Builder#addEdges(List, int[], int[], int[])}
+         */
+        public UndirectedWeightedBuilder<T> addEdges(@Nonnull List<Vertex<T>> vertices, @Nonnull int[] from, @Nonnull int[] to, @Nonnull int[] weights) {
+            builder.addEdges(vertices, from, to, requireNonNull(weights, "weights"));
+            return this;
+        }
+
         public Graph<T> build() {
             return builder.build();
         }
 
+        /**
+         * Same as {@link Builder#buildParallel()}
+         */
+        public Graph<T> buildParallel() {
+            return builder.buildParallel();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel(ForkJoinPool)}
+         */
+        public Graph<T> buildParallel(@Nonnull ForkJoinPool pool) {
+            return builder.buildParallel(pool);
+        }
+
     }
 
     public static class DirectedWeightedBuilder<T>  {
@@ -415,6 +1256,14 @@ public final class Graph<T> {
             builder = new Builder<>(root, true);
         }
 
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, see {@link Builder#ensureCapacity(int, int)}
+         */
+        public DirectedWeightedBuilder<T> ensureCapacity(int vertexCount, int edgeCount) {
+            builder.ensureCapacity(vertexCount, edgeCount);
+            return this;
+        }
+
         public DirectedWeightedBuilder<T> addVertex(@Nonnull Vertex<T> vertex) {
             builder.addVertex(vertex);
             return this;
@@ -425,10 +1274,33 @@ public final class Graph<T> {
             return this;
         }
 
+        /**
+         * Adds all the {vertices} and the edge {@code vertices[from[i]] -> vertices[to[i]]} of the {@code weights[i]}
+         * for each {@code i}, see {@link Builder#addEdges(List, int[], int[], int[])}
+         */
+        public DirectedWeightedBuilder<T> addEdges(@Nonnull List<Vertex<T>> vertices, @Nonnull int[] from, @Nonnull int[] to, @Nonnull int[] weights) {
+            builder.addEdges(vertices, from, to, requireNonNull(weights, "weights"));
+            return this;
+        }
+
         public Graph<T> build() {
             return builder.build();
         }
 
+        /**
+         * Same as {@link Builder#buildParallel()}
+         */
+        public Graph<T> buildParallel() {
+            return builder.buildParallel();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel(ForkJoinPool)}
+         */
+        public Graph<T> buildParallel(@Nonnull ForkJoinPool pool) {
+            return builder.buildParallel(pool);
+        }
+
     }
 
 }
@@ -0,0 +1,339 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Whole graph analytics computed over the adjacency of a {@link Graph}, created by {@link Graph#analytics()}
+ *
+ * Results are primitive arrays indexed by dense vertex index, see {@link GraphAnalytics#indexOf(Vertex)}
+ * and {@link GraphAnalytics#vertexAt(int)}. Parallel kernels split vertices or sources into ranges
+ * run on a {@link ForkJoinPool}
+ *
+ * Instance is immutable and can be safely shared between threads
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+public final class GraphAnalytics<T> {
+
+    public static final double DEFAULT_DAMPING = 0.85;
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    private static final int INFINITY = Graph.INFINITY_DISTANCE_VALUE;
+    private static final int VERTEX_GRAIN = 1 << 12;
+
+    private final Graph<T> graph;
+    private final Adjacency adjacency;
+    private final Adjacency reverseAdjacency;
+    private final boolean isWeighted;
+
+    GraphAnalytics(@Nonnull Graph<T> graph, @Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency, boolean isWeighted) {
+        this.graph = requireNonNull(graph, "graph");
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.reverseAdjacency = requireNonNull(reverseAdjacency, "reverseAdjacency");
+        this.isWeighted = isWeighted;
+    }
+
+    /**
+     * @return index of the {vertex} in the arrays computed by the analytics
+     * @throws IllegalArgumentException if vertex does not belong to the graph
+     */
+    public int indexOf(@Nonnull Vertex<T> vertex) {
+        return graph.indexOf(vertex);
+    }
+
+    /**
+     * @return vertex of the {index} in the arrays computed by the analytics
+     * @throws IllegalArgumentException if there is no such index
+     */
+    public Vertex<T> vertexAt(int index) {
+        if (index < 0 || index >= adjacency.vertexCount()) {
+            throw new IllegalArgumentException("There is no vertex " + index);
+        }
+        return graph.vertexAt(index);
+    }
+
+    /**
+     * @return count of outgoing edges of each vertex, same as count of incident edges for undirected graph
+     */
+    public int[] outDegrees() {
+        return degrees(adjacency);
+    }
+
+    /**
+     * @return count of incoming edges of each vertex, same as count of incident edges for undirected graph
+     */
+    public int[] inDegrees() {
+        return degrees(reverseAdjacency);
+    }
+
+    /**
+     * Computes PageRank with {@link GraphAnalytics#DEFAULT_DAMPING}, {@link GraphAnalytics#DEFAULT_TOLERANCE}
+     * and {@link GraphAnalytics#DEFAULT_MAX_ITERATIONS} using {@link ForkJoinPool#commonPool()}.
+     * Same as {@link GraphAnalytics#pageRank(double, double, int, ForkJoinPool)}
+     */
+    public double[] pageRank() {
+        return pageRank(DEFAULT_DAMPING, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes PageRank of each vertex by power iteration, weights of the edges are ignored. Each iteration
+     * pulls the ranks over incoming edges of every vertex, so ranges of vertices are updated in parallel
+     * on the {pool} without synchronization. Rank of vertices without outgoing edges is spread over all vertices
+     *
+     * @param damping probability to follow an edge rather than to jump to a random vertex
+     * @param tolerance iterations stop once the sum of absolute rank changes is not greater than it
+     * @param maxIterations iterations stop after this count even if the ranks did not converge
+     * @return ranks which sum up to {@code 1}
+     * @throws IllegalArgumentException if {damping} is not from {@code 0} inclusive to {@code 1} exclusive
+     * or {tolerance} or {maxIterations} is not positive
+     */
+    public double[] pageRank(double damping, double tolerance, int maxIterations, @Nonnull ForkJoinPool pool) {
+
+        if (!(damping >= 0 && damping < 1)) {
+            throw new IllegalArgumentException("Damping should be from 0 inclusive to 1 exclusive");
+        }
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("Tolerance should be positive");
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Max iterations should be positive");
+        }
+        requireNonNull(pool, "pool");
+
+        int vertexCount = adjacency.vertexCount();
+        var ranks = new double[vertexCount];
+        var nextRanks = new double[vertexCount];
+        // rank each vertex passes along each of its edges
+        var shares = new double[vertexCount];
+        Arrays.fill(ranks, 1.0 / vertexCount);
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            var current = ranks;
+            var next = nextRanks;
+            var danglingRank = new DoubleAdder();
+            ParallelRanges.forEach(pool, vertexCount, VERTEX_GRAIN, (from, to) -> {
+                double dangling = 0;
+                for (int vertex = from; vertex < to; vertex++) {
+                    int degree = adjacency.degree(vertex);
+                    if (degree == 0) {
+                        dangling += current[vertex];
+                    } else {
+                        shares[vertex] = current[vertex] / degree;
+                    }
+                }
+                danglingRank.add(dangling);
+            });
+
+            double base = (1 - damping) / vertexCount + damping * danglingRank.sum() / vertexCount;
+            var change = new DoubleAdder();
+            ParallelRanges.forEach(pool, vertexCount, VERTEX_GRAIN, (from, to) -> {
+                double rangeChange = 0;
+                for (int vertex = from; vertex < to; vertex++) {
+                    double pulled = 0;
+                    for (int edge = reverseAdjacency.begin(vertex), end = reverseAdjacency.end(vertex); edge < end; edge++) {
+                        pulled += shares[reverseAdjacency.target(edge)];
+                    }
+                    next[vertex] = base + damping * pulled;
+                    rangeChange += Math.abs(next[vertex] - current[vertex]);
+                }
+                change.add(rangeChange);
+            });
+
+            ranks = next;
+            nextRanks = current;
+            if (change.sum() <= tolerance) {
+                break;
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Estimates betweenness centrality from {sampleCount} sources using {@link ForkJoinPool#commonPool()}.
+     * Same as {@link GraphAnalytics#betweenness(int, long, ForkJoinPool)}
+     */
+    public double[] betweenness(int sampleCount, long seed) {
+        return betweenness(sampleCount, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Estimates betweenness centrality of each vertex: count of shortest paths between other vertices which pass
+     * through it, each path weighted by the share of shortest paths between its ends it is one of.
+     * Dependencies of all vertices on a source are accumulated by Brandes' algorithm after a single search from
+     * the source, Dijkstra for weighted graphs and BFS for unweighted ones. Only {sampleCount} distinct random sources
+     * are searched, searches of different sources run in parallel on the {pool}, and the sums are scaled
+     * by {@code vertices / sampleCount}, so all vertices as sources give exact values.
+     * For undirected graphs each path is counted once, not in both directions
+     *
+     * @param seed seed of the random sources, the same seed chooses the same sources
+     * @throws IllegalArgumentException if {sampleCount} is not from {@code 1} to count of vertices
+     */
+    public double[] betweenness(int sampleCount, long seed, @Nonnull ForkJoinPool pool) {
+
+        int vertexCount = adjacency.vertexCount();
+        if (sampleCount < 1 || sampleCount > vertexCount) {
+            throw new IllegalArgumentException("Sample count should be from 1 to count of vertices");
+        }
+        requireNonNull(pool, "pool");
+
+        // first {sampleCount} vertices of a random permutation
+        var sources = new int[vertexCount];
+        var random = new SplittableRandom(seed);
+        for (int i = 0; i < vertexCount; i++) {
+            int j = random.nextInt(i + 1);
+            sources[i] = sources[j];
+            sources[j] = i;
+        }
+
+        var workspaces = new ConcurrentLinkedQueue<Dependencies>();
+        ParallelRows.forEach(pool, sampleCount, () -> {
+            var workspace = new Dependencies(vertexCount);
+            workspaces.add(workspace);
+            return workspace;
+        }, (workspace, row) -> workspace.accumulate(sources[row]));
+
+        var centrality = new double[vertexCount];
+        for (var workspace : workspaces) {
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                centrality[vertex] += workspace.centrality[vertex];
+            }
+        }
+        double scale = (double) vertexCount / sampleCount / (reverseAdjacency == adjacency ? 2 : 1);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            centrality[vertex] *= scale;
+        }
+        return centrality;
+    }
+
+    private static int[] degrees(Adjacency adjacency) {
+        var degrees = new int[adjacency.vertexCount()];
+        for (int vertex = 0; vertex < degrees.length; vertex++) {
+            degrees[vertex] = adjacency.degree(vertex);
+        }
+        return degrees;
+    }
+
+    /**
+     * Workspace of a thread computing betweenness, which sums dependencies of all vertices on the sources it searched
+     */
+    private final class Dependencies {
+
+        private final double[] centrality;
+        private final int[] distances;
+        private final double[] pathCounts;
+        private final double[] dependencies;
+        // parents of a vertex on shortest paths from the source, kept in the slots of its incoming edges
+        private final int[] predecessors;
+        private final int[] predecessorCounts;
+        // vertices in the order of non-decreasing distance from the source
+        private final IntList order = new IntList();
+        private final IntQueue queue = new IntQueue();
+        private final IndexedHeap heap;
+
+        Dependencies(int vertexCount) {
+            this.centrality = new double[vertexCount];
+            this.distances = new int[vertexCount];
+            this.pathCounts = new double[vertexCount];
+            this.dependencies = new double[vertexCount];
+            this.predecessors = new int[reverseAdjacency.edgeCount()];
+            this.predecessorCounts = new int[vertexCount];
+            this.heap = new IndexedHeap(vertexCount);
+            Arrays.fill(distances, INFINITY);
+        }
+
+        void accumulate(int source) {
+            distances[source] = 0;
+            pathCounts[source] = 1;
+            if (isWeighted) {
+                searchByDijkstra(source);
+            } else {
+                searchByBfs(source);
+            }
+
+            // each vertex passes its dependency to its parents on shortest paths, farthest vertices first
+            for (int i = order.size() - 1; i >= 0; i--) {
+                int current = order.get(i);
+                for (int slot = reverseAdjacency.begin(current), end = slot + predecessorCounts[current]; slot < end; slot++) {
+                    int parent = predecessors[slot];
+                    dependencies[parent] += pathCounts[parent] / pathCounts[current] * (1 + dependencies[current]);
+                }
+                if (current != source) {
+                    centrality[current] += dependencies[current];
+                }
+            }
+
+            for (int i = 0; i < order.size(); i++) {
+                int vertex = order.get(i);
+                distances[vertex] = INFINITY;
+                pathCounts[vertex] = 0;
+                dependencies[vertex] = 0;
+                predecessorCounts[vertex] = 0;
+            }
+            order.clear();
+        }
+
+        private void searchByBfs(int source) {
+            queue.add(source);
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                order.add(current);
+                for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                    int target = adjacency.target(edge);
+                    if (distances[target] == INFINITY) {
+                        distances[target] = distances[current] + 1;
+                        queue.add(target);
+                    }
+                    if (distances[target] == distances[current] + 1) {
+                        addPredecessor(target, current);
+                    }
+                }
+            }
+        }
+
+        private void searchByDijkstra(int source) {
+            heap.insert(source, 0);
+            while (!heap.isEmpty()) {
+                int current = heap.poll();
+                order.add(current);
+                for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                    int target = adjacency.target(edge);
+                    int distance = distances[current] + adjacency.weight(edge);
+                    if (distance < 0 || target == current) {
+                        continue;
+                    }
+                    if (distance < distances[target]) {
+                        distances[target] = distance;
+                        pathCounts[target] = 0;
+                        predecessorCounts[target] = 0;
+                        addPredecessor(target, current);
+                        heap.insertOrDecrease(target, distance);
+                    } else if (distance == distances[target] && heap.contains(target)) {
+                        // a polled target is already settled, e.g. the other end of a zero-weight edge
+                        addPredecessor(target, current);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Adds the {parent} to the shortest paths to the {vertex}
+         */
+        private void addPredecessor(int vertex, int parent) {
+            pathCounts[vertex] += pathCounts[parent];
+            predecessors[reverseAdjacency.begin(vertex) + predecessorCounts[vertex]++] = parent;
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binary file format of a built {@link Graph} or {@link IntGraph}, see {@link Graph#writeTo(Path, ValueCodec)}
+ *
+ * Layout, all numbers are little-endian:
+ * <pre>
+ *     header:             int magic, int version, int flags, int root, int vertexCount, int edgeCount,
+ *                         long idsPosition, long adjacencyPosition, long reverseAdjacencyPosition, long valuesPosition
+ *     vertex table:       int[vertexCount] ids in index order
+ *     adjacency:          see {@link BufferAdjacency}
+ *     reverse adjacency:  present only for directed graphs, see {@link BufferAdjacency}
+ *     values:             present only for {@link Graph}, vertex values in index order written by the {@link ValueCodec}
+ * </pre>
+ *
+ * Header is written last, so a partially written file is never recognized as a graph.
+ * Adjacencies are mapped on load instead of being read, values are read through the codec
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class GraphFile<T> {
+
+    static final int MAGIC = 0x52474650;
+    static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 64;
+    private static final int WEIGHTED = 1;
+    private static final int DIRECTED = 1 << 1;
+    private static final int WITH_VALUES = 1 << 2;
+
+    private final int[] ids;
+    private final int root;
+    private final boolean isWeighted;
+    private final Adjacency adjacency;
+    private final Adjacency reverseAdjacency;
+    private final List<T> values;
+
+    private GraphFile(int[] ids, int root, boolean isWeighted, Adjacency adjacency, Adjacency reverseAdjacency, List<T> values) {
+        this.ids = ids;
+        this.root = root;
+        this.isWeighted = isWeighted;
+        this.adjacency = adjacency;
+        this.reverseAdjacency = reverseAdjacency;
+        this.values = values;
+    }
+
+    /**
+     * Writes the graph to the {file} replacing its content
+     *
+     * @param ids vertex ids in index order
+     * @param valueAt value of the vertex by its index, ignored if {codec} is {@code null}
+     * @param codec codec of the values or {@code null} to write no values
+     */
+    static <T> void write(@Nonnull Path file, @Nonnull int[] ids, int root, @Nonnull Adjacency adjacency,
+                          @Nonnull Adjacency reverseAdjacency, boolean isWeighted,
+                          @Nonnull IntFunction<T> valueAt, @Nullable ValueCodec<T> codec) throws IOException {
+        requireNonNull(file, "file");
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            long idsAt = HEADER_BYTES;
+            var writer = new BufferAdjacency.Writer(channel, idsAt);
+            for (int id : ids) {
+                writer.putInt(id);
+            }
+            long adjacencyAt = writer.flush();
+            long reverseAt = BufferAdjacency.write(adjacency, channel, adjacencyAt);
+            long valuesAt = reverseAdjacency == adjacency ? reverseAt : BufferAdjacency.write(reverseAdjacency, channel, reverseAt);
+
+            if (codec != null) {
+                channel.position(valuesAt);
+                var output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                for (int vertex = 0; vertex < ids.length; vertex++) {
+                    codec.write(valueAt.apply(vertex), output);
+                }
+                output.flush();
+            }
+
+            int flags = (isWeighted ? WEIGHTED : 0) | (reverseAdjacency != adjacency ? DIRECTED : 0) | (codec != null ? WITH_VALUES : 0);
+            var header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(flags)
+                    .putInt(root)
+                    .putInt(ids.length)
+                    .putInt(adjacency.edgeCount())
+                    .putLong(idsAt)
+                    .putLong(adjacencyAt)
+                    .putLong(reverseAt)
+                    .putLong(valuesAt);
+            header.clear();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    /**
+     * Reads the graph written by {@link GraphFile#write}, adjacencies are mapped read-only
+     *
+     * @param codec codec of the values or {@code null} to skip them
+     * @throws IllegalArgumentException if the file is not a graph file of a supported version,
+     * or has no values while the {codec} is given
+     */
+    static <T> GraphFile<T> read(@Nonnull Path file, @Nullable ValueCodec<T> codec) throws IOException {
+        requireNonNull(file, "file");
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            var header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IllegalArgumentException("File is not a graph file");
+                }
+            }
+            if (header.getInt(0) != MAGIC) {
+                throw new IllegalArgumentException("File is not a graph file");
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IllegalArgumentException("Unsupported graph file version " + header.getInt(4));
+            }
+            int flags = header.getInt(8);
+            int root = header.getInt(12);
+            int vertexCount = header.getInt(16);
+            long idsAt = header.getLong(24);
+            long adjacencyAt = header.getLong(32);
+            long reverseAt = header.getLong(40);
+            long valuesAt = header.getLong(48);
+            if (codec != null && (flags & WITH_VALUES) == 0) {
+                throw new IllegalArgumentException("File has no vertex values");
+            }
+            if (vertexCount < 1 || root < 0 || root >= vertexCount || idsAt + (long) Integer.BYTES * vertexCount > channel.size()) {
+                throw new IllegalArgumentException("File is not a valid graph file");
+            }
+
+            var ids = new int[vertexCount];
+            channel.map(FileChannel.MapMode.READ_ONLY, idsAt, (long) Integer.BYTES * vertexCount)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer()
+                    .get(ids);
+            var adjacency = BufferAdjacency.map(channel, adjacencyAt);
+            var reverseAdjacency = (flags & DIRECTED) != 0 ? BufferAdjacency.map(channel, reverseAt) : adjacency;
+            if (adjacency.vertexCount() != vertexCount || reverseAdjacency.vertexCount() != vertexCount) {
+                throw new IllegalArgumentException("File is not a valid graph file");
+            }
+
+            List<T> values = null;
+            if (codec != null) {
+                channel.position(valuesAt);
+                var input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                values = new ArrayList<>(vertexCount);
+                for (int vertex = 0; vertex < vertexCount; vertex++) {
+                    values.add(requireNonNull(codec.read(input), "value"));
+                }
+            }
+            return new GraphFile<>(ids, root, (flags & WEIGHTED) != 0, adjacency, reverseAdjacency, values);
+        }
+    }
+
+    int[] ids() {
+        return ids;
+    }
+
+    int root() {
+        return root;
+    }
+
+    boolean isWeighted() {
+        return isWeighted;
+    }
+
+    Adjacency adjacency() {
+        return adjacency;
+    }
+
+    Adjacency reverseAdjacency() {
+        return reverseAdjacency;
+    }
+
+    /**
+     * @return values in index order, {@code null} if they were not read
+     */
+    List<T> values() {
+        return values;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import java.util.function.ToIntBiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Estimate of the distance between two vertices of the {@link Graph} used to direct A* search
+ * in {@link Graph#findPath(Vertex, Vertex, Heuristic, java.util.function.Consumer)}
+ *
+ * Estimate should be admissible (never greater than the real distance) and consistent, i.e. for every edge
+ * {@code u -> v} of weight {@code w} {@code estimate(u, target) <= w + estimate(v, target)}.
+ * Otherwise path found may not be the shortest one. Estimate can not be negative
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface Heuristic<T> {
+
+    /**
+     * @return lower bound of the distance from {vertex} to {target}
+     */
+    int estimate(@Nonnull Vertex<T> vertex, @Nonnull Vertex<T> target);
+
+    /**
+     * Creates heuristic based on vertices values only, e.g. on coordinates they carry
+     */
+    static <T> Heuristic<T> ofValues(@Nonnull ToIntBiFunction<T, T> function) {
+        requireNonNull(function, "function");
+        return (vertex, target) -> function.applyAsInt(vertex.getValue(), target.getValue());
+    }
+
+}
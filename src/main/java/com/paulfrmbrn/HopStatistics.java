@@ -0,0 +1,83 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hop distances from each of the sources to all vertices of a {@link Graph} aggregated per source,
+ * computed by {@link Graph#hopStatistics(java.util.Collection)}
+ *
+ * Sources are numbered in the iteration order of the collection they were given in
+ *
+ * Instance is immutable and can be safely shared between threads
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+public final class HopStatistics {
+
+    private final long[] reachedCounts;
+    private final long[] distanceSums;
+    private final int[] eccentricities;
+
+    HopStatistics(@Nonnull long[] reachedCounts, @Nonnull long[] distanceSums, @Nonnull int[] eccentricities) {
+        this.reachedCounts = requireNonNull(reachedCounts, "reachedCounts");
+        this.distanceSums = requireNonNull(distanceSums, "distanceSums");
+        this.eccentricities = requireNonNull(eccentricities, "eccentricities");
+    }
+
+    /**
+     * @return count of sources
+     */
+    public int getSourceCount() {
+        return reachedCounts.length;
+    }
+
+    /**
+     * @return count of vertices reachable from the {source}, including the source itself
+     * @throws IllegalArgumentException if there is no such source
+     */
+    public long getReachedCount(int source) {
+        validateSource(source);
+        return reachedCounts[source];
+    }
+
+    /**
+     * @return sum of hops from the {source} to all vertices reachable from it
+     * @throws IllegalArgumentException if there is no such source
+     */
+    public long getDistanceSum(int source) {
+        validateSource(source);
+        return distanceSums[source];
+    }
+
+    /**
+     * @return hops from the {source} to the farthest vertex reachable from it
+     * @throws IllegalArgumentException if there is no such source
+     */
+    public int getEccentricity(int source) {
+        validateSource(source);
+        return eccentricities[source];
+    }
+
+    /**
+     * Closeness centrality of the {source} among the vertices reachable from it: count of the other reachable vertices
+     * divided by the sum of hops to them, {@code 0} if no other vertex is reachable
+     *
+     * @throws IllegalArgumentException if there is no such source
+     */
+    public double getCloseness(int source) {
+        validateSource(source);
+        return distanceSums[source] == 0 ? 0 : (double) (reachedCounts[source] - 1) / distanceSums[source];
+    }
+
+    private void validateSource(int source) {
+        if (source < 0 || source >= reachedCounts.length) {
+            throw new IllegalArgumentException("There is no source " + source);
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.paulfrmbrn;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Index-addressable d-ary min-heap of int items with int keys
+ *
+ * Items are dense non-negative indices, each item can be present in the heap at most once.
+ * Position of every item is tracked, so {@link IndexedHeap#decreaseKey(int, int)} takes O(log n) time
+ * instead of the linear scan required by {@link java.util.PriorityQueue#remove(Object)}
+ *
+ * Items are inserted lazily, only capacity is allocated upfront. Capacity grows on demand when an item
+ * beyond it is inserted, so the heap can be started small when only few items are expected to be touched
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class IndexedHeap {
+
+    static final int DEFAULT_ARITY = 4;
+
+    private static final int ABSENT = -1;
+
+    private final int arity;
+    private int[] items;
+    private int[] keys;
+    private int[] positions;
+    private int size;
+
+    IndexedHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    IndexedHeap(int capacity, int arity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity can not be negative");
+        }
+        if (arity < 2) {
+            throw new IllegalArgumentException("arity should be at least 2");
+        }
+        this.arity = arity;
+        this.items = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int item) {
+        return item < positions.length && positions[item] != ABSENT;
+    }
+
+    /**
+     * @return key of the minimal item
+     * @throws NoSuchElementException if heap is empty
+     */
+    int peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * @throws IllegalStateException if item is already in the heap
+     */
+    void insert(int item, int key) {
+        ensureCapacity(item);
+        if (positions[item] != ABSENT) {
+            throw new IllegalStateException("Item is already in the heap");
+        }
+        siftUp(size++, item, key);
+    }
+
+    /**
+     * @throws IllegalStateException if item is not in the heap or new key is greater than the current one
+     */
+    void decreaseKey(int item, int key) {
+        int position = item < positions.length ? positions[item] : ABSENT;
+        if (position == ABSENT) {
+            throw new IllegalStateException("Item is not in the heap");
+        }
+        if (key > keys[position]) {
+            throw new IllegalStateException("Key can not be increased");
+        }
+        siftUp(position, item, key);
+    }
+
+    /**
+     * Inserts the item or decreases its key if the item is already in the heap
+     */
+    void insertOrDecrease(int item, int key) {
+        ensureCapacity(item);
+        int position = positions[item];
+        if (position == ABSENT) {
+            siftUp(size++, item, key);
+        } else if (key < keys[position]) {
+            siftUp(position, item, key);
+        }
+    }
+
+    /**
+     * Removes minimal item from the heap
+     *
+     * @return removed item
+     * @throws NoSuchElementException if heap is empty
+     */
+    int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("heap is empty");
+        }
+        int min = items[0];
+        positions[min] = ABSENT;
+        int last = --size;
+        if (last > 0) {
+            siftDown(0, items[last], keys[last]);
+        }
+        return min;
+    }
+
+    /**
+     * Removes all items, takes time proportional to the current size rather than to the capacity
+     */
+    void clear() {
+        for (int position = 0; position < size; position++) {
+            positions[items[position]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void ensureCapacity(int item) {
+        if (item >= positions.length) {
+            int oldCapacity = positions.length;
+            int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(item + 1L, oldCapacity * 2L));
+            items = Arrays.copyOf(items, newCapacity);
+            keys = Arrays.copyOf(keys, newCapacity);
+            positions = Arrays.copyOf(positions, newCapacity);
+            Arrays.fill(positions, oldCapacity, newCapacity, ABSENT);
+        }
+    }
+
+    private void siftUp(int position, int item, int key) {
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(items[parent], keys[parent], position);
+            position = parent;
+        }
+        move(item, key, position);
+    }
+
+    private void siftDown(int position, int item, int key) {
+        int firstChild;
+        while ((firstChild = position * arity + 1) < size) {
+            int minChild = firstChild;
+            int minKey = keys[firstChild];
+            for (int child = firstChild + 1, end = Math.min(firstChild + arity, size); child < end; child++) {
+                if (keys[child] < minKey) {
+                    minChild = child;
+                    minKey = keys[child];
+                }
+            }
+            if (key <= minKey) {
+                break;
+            }
+            move(items[minChild], minKey, position);
+            position = minChild;
+        }
+        move(item, key, position);
+    }
+
+    private void move(int item, int key, int position) {
+        items[position] = item;
+        keys[position] = key;
+        positions[item] = position;
+    }
+
+}
@@ -0,0 +1,674 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represent a graph whose vertices are plain int ids
+ * Use one of the available builders to construct an immutable instance of the class
+ *
+ * Same as {@link Graph}, but neither the builders nor the searches create {@link Vertex} or {@link Edge} objects:
+ * vertices are kept as a sorted array of ids, edges are compiled into the {@link Adjacency} arrays
+ * and consumers receive the ids. Negative weighted graphs are not supported.
+ *
+ * Use {@link IntGraph#toGraph()} and {@link Graph#toIntGraph()} to convert between the two representations
+ *
+ * Max count of vertices is {@code 2^29}, or close to {@link Integer#MAX_VALUE} if ids are dense, i.e. all of them
+ * fall into a range shorter than an array can be and at most twice as wide as their count. Any int except {@link Integer#MIN_VALUE} can be a vertex id
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+public final class IntGraph {
+
+    private final boolean isWeighted;
+    private final int root;
+    private final int[] ids;
+    private final VertexIndex index;
+    private final Adjacency adjacency;
+    private final Adjacency reverseAdjacency;
+    private final PathFinder finder;
+
+    /**
+     * @param ids vertex ids in index order, should be ascending
+     */
+    IntGraph(@Nonnull int[] ids, int root, @Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency, boolean isWeighted) {
+        this.ids = requireNonNull(ids, "ids");
+        this.root = root;
+        this.index = new VertexIndex(ids);
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.reverseAdjacency = requireNonNull(reverseAdjacency, "reverseAdjacency");
+        this.isWeighted = isWeighted;
+        this.finder = new PathFinder(adjacency, reverseAdjacency, isWeighted);
+    }
+
+    /**
+     * Traverses the graph from the root and applies specified action on each vertex id
+     *
+     * @throws IllegalStateException if some vertices are not reachable from the root
+     */
+    public void traverse(@Nonnull IntConsumer consumer) {
+        traverse(new SearchContext<>(this, ids.length, false), consumer);
+    }
+
+    /**
+     * Same as {@link IntGraph#traverse(IntConsumer)}, but reuses memory of the {context}
+     *
+     * @param context workspace created by {@link IntGraph#newSearchContext()} of this graph
+     *
+     * @throws IllegalStateException if some vertices are not reachable from the root
+     * @throws IllegalArgumentException if {context} was created by another graph
+     */
+    public void traverse(@Nonnull SearchContext<Integer> context, @Nonnull IntConsumer consumer) {
+
+        validateContext(context);
+        requireNonNull(consumer, "consumer");
+
+        var order = context.path();
+        finder.traverse(root, context, order);
+        emit(order, consumer);
+        if (order.size() < ids.length) {
+            throw new IllegalStateException("Some vertices are not reachable from the root");
+        }
+    }
+
+    /**
+     * Lazily traverses vertex ids reachable from {from} breadth-first, see {@link Graph#bfs(Vertex)}
+     *
+     * @throws IllegalArgumentException if the id does not belong to the graph
+     */
+    public IntStream bfs(int from) {
+        return StreamSupport.intStream(new BfsSpliterator(adjacency, indexOf(from)), false).map(vertex -> ids[vertex]);
+    }
+
+    /**
+     * Lazily traverses vertex ids reachable from {from} depth-first in preorder, see {@link Graph#dfs(Vertex)}
+     *
+     * @throws IllegalArgumentException if the id does not belong to the graph
+     */
+    public IntStream dfs(int from) {
+        return StreamSupport.intStream(new DfsSpliterator(adjacency, indexOf(from)), false).map(vertex -> ids[vertex]);
+    }
+
+    /**
+     * Same as {@link IntGraph#bfs(int)}, each vertex is visited by the call of {@link PrimitiveIterator.OfInt#nextInt()} which returns it
+     *
+     * @throws IllegalArgumentException if the id does not belong to the graph
+     */
+    public PrimitiveIterator.OfInt bfsIterator(int from) {
+        return bfs(from).iterator();
+    }
+
+    /**
+     * Same as {@link IntGraph#dfs(int)}, each vertex is visited by the call of {@link PrimitiveIterator.OfInt#nextInt()} which returns it
+     *
+     * @throws IllegalArgumentException if the id does not belong to the graph
+     */
+    public PrimitiveIterator.OfInt dfsIterator(int from) {
+        return dfs(from).iterator();
+    }
+
+    /**
+     * Given a pair of vertex ids tries to find shortest path between them.
+     * Same as {@link IntGraph#findPath(int, int, SearchMode, IntConsumer)} with {@link SearchMode#UNIDIRECTIONAL} mode
+     *
+     * @param consumer action to be applied to each vertex id on the path from {from} to {to}
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if any of the ids does not belong to the graph
+     */
+    public void findPath(int from, int to, @Nonnull IntConsumer consumer) {
+        findPath(from, to, SearchMode.UNIDIRECTIONAL, consumer);
+    }
+
+    /**
+     * Same as {@link IntGraph#findPath(int, int, IntConsumer)}, but reuses memory of the {context}
+     *
+     * @param context workspace created by {@link IntGraph#newSearchContext()} of this graph
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if any of the ids does not belong to the graph or {context} was created by another graph
+     */
+    public void findPath(int from, int to, @Nonnull SearchContext<Integer> context, @Nonnull IntConsumer consumer) {
+        findPath(from, to, SearchMode.UNIDIRECTIONAL, context, consumer);
+    }
+
+    /**
+     * Given a pair of vertex ids tries to find shortest path between them using specified search mode,
+     * see {@link Graph#findPath(Vertex, Vertex, SearchMode, java.util.function.Consumer)}
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if any of the ids does not belong to the graph
+     */
+    public void findPath(int from, int to, @Nonnull SearchMode mode, @Nonnull IntConsumer consumer) {
+        findPath(from, to, mode, new SearchContext<>(this, ids.length, false), consumer);
+    }
+
+    /**
+     * Same as {@link IntGraph#findPath(int, int, SearchMode, IntConsumer)}, but reuses memory of the {context}
+     *
+     * @param context workspace created by {@link IntGraph#newSearchContext()} of this graph
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if any of the ids does not belong to the graph or {context} was created by another graph
+     */
+    public void findPath(int from, int to, @Nonnull SearchMode mode,
+                         @Nonnull SearchContext<Integer> context, @Nonnull IntConsumer consumer) {
+
+        int fromIndex = indexOf(from);
+        int toIndex = indexOf(to);
+        requireNonNull(mode, "mode");
+        validateContext(context);
+        requireNonNull(consumer, "consumer");
+
+        var path = context.path();
+        if (!finder.findPath(fromIndex, toIndex, mode, context, path)) {
+            throw new IllegalStateException("Vertex 'to' is not reachable from vertex 'from'");
+        }
+        emit(path, consumer);
+
+    }
+
+    /**
+     * Creates reusable workspace for {@link IntGraph#traverse(SearchContext, IntConsumer)} and the {@code findPath}
+     * overloads taking a context, see {@link Graph#newSearchContext()}
+     */
+    public SearchContext<Integer> newSearchContext() {
+        return new SearchContext<>(this, ids.length, true);
+    }
+
+    /**
+     * Converts the graph to the {@link Graph} whose vertex values are the ids of this graph.
+     * Edge arrays are shared, so the conversion takes memory only for the new {@link Vertex} objects
+     */
+    public Graph<Integer> toGraph() {
+        @SuppressWarnings("unchecked")
+        Vertex<Integer>[] vertices = (Vertex<Integer>[]) new Vertex<?>[ids.length];
+        for (int vertex = 0; vertex < ids.length; vertex++) {
+            vertices[vertex] = Vertex.of(ids[vertex]);
+        }
+        return Graph.of(vertices, root, adjacency, reverseAdjacency, isWeighted);
+    }
+
+    /**
+     * Copies edges of the graph to direct buffers out of the heap, see {@link Graph#toOffHeap()}
+     *
+     * @return graph with the same vertices, edges and root
+     */
+    public IntGraph toOffHeap() {
+        var offHeap = BufferAdjacency.copyOf(adjacency);
+        var reverseOffHeap = reverseAdjacency == adjacency ? offHeap : BufferAdjacency.copyOf(reverseAdjacency);
+        return new IntGraph(ids, root, offHeap, reverseOffHeap, isWeighted);
+    }
+
+    /**
+     * Writes edges of the graph to the {file} and maps it read-only into memory, see {@link Graph#toMappedFile(Path)}
+     *
+     * @param file file to write, its content is replaced
+     * @return graph with the same vertices, edges and root
+     * @throws IOException if the file can not be written or mapped
+     */
+    public IntGraph toMappedFile(@Nonnull Path file) throws IOException {
+        var mapped = BufferAdjacency.writeAndMap(file, adjacency, reverseAdjacency);
+        return new IntGraph(ids, root, mapped[0], mapped[1], isWeighted);
+    }
+
+    /**
+     * Writes the graph to the {file} in the binary format of {@link Graph#writeTo(Path, ValueCodec)} without values
+     *
+     * @param file file to write, its content is replaced
+     * @throws IOException if the file can not be written
+     */
+    public void writeTo(@Nonnull Path file) throws IOException {
+        GraphFile.write(file, ids, root, adjacency, reverseAdjacency, isWeighted, vertex -> null, null);
+    }
+
+    /**
+     * Loads the graph written by {@link IntGraph#writeTo(Path)} or {@link Graph#writeTo(Path, ValueCodec)},
+     * in the latter case vertex ids are the ids of the written {@link Vertex} objects and values are skipped.
+     * Edges are mapped read-only the same way as {@link IntGraph#toMappedFile(Path)} does,
+     * so only the ids are read into the heap. The file should not be modified while the graph is in use
+     *
+     * @throws IOException if the file can not be read or mapped
+     * @throws IllegalArgumentException if the file is not a graph file of a supported version
+     */
+    public static IntGraph load(@Nonnull Path file) throws IOException {
+        var graphFile = GraphFile.<Void>read(file, null);
+        var ids = graphFile.ids();
+        for (int vertex = 1; vertex < ids.length; vertex++) {
+            if (ids[vertex - 1] >= ids[vertex]) {
+                throw new IllegalArgumentException("File is not a valid graph file");
+            }
+        }
+        return new IntGraph(ids, graphFile.root(), graphFile.adjacency(), graphFile.reverseAdjacency(), graphFile.isWeighted());
+    }
+
+    /**
+     * @return ids of all vertices of the graph in ascending order
+     */
+    public int[] getVertices() {
+        return ids.clone();
+    }
+
+    public int getVertexCount() {
+        return ids.length;
+    }
+
+    public boolean containsVertex(int id) {
+        return index.indexOf(id) != VertexIndex.ABSENT;
+    }
+
+    private void validateContext(@Nonnull SearchContext<Integer> context) {
+        requireNonNull(context, "context");
+        if (!context.belongsTo(this)) {
+            throw new IllegalArgumentException("Search context belongs to another Graph");
+        }
+    }
+
+    private void emit(IntList path, IntConsumer consumer) {
+        for (int i = 0; i < path.size(); i++) {
+            consumer.accept(ids[path.get(i)]);
+        }
+    }
+
+    private int indexOf(int id) {
+        int vertexIndex = index.indexOf(id);
+        if (vertexIndex == VertexIndex.ABSENT) {
+            throw new IllegalArgumentException("Vertex does not belong to the Graph");
+        }
+        return vertexIndex;
+    }
+
+    @Override
+    public String toString() {
+        return IntStream.range(0, ids.length)
+                .mapToObj(vertex -> "'" + ids[vertex] + (adjacency.degree(vertex) == 0 ? "'" :
+                        "'->" + IntStream.range(adjacency.begin(vertex), adjacency.end(vertex))
+                                .mapToObj(edge -> "'" + ids[adjacency.target(edge)] + "'" + "{" + adjacency.weight(edge) + "}")
+                                .collect(Collectors.joining(","))))
+                .collect(Collectors.joining(" | ", "[", "]"));
+    }
+
+    public static UndirectedUnweightedBuilder undirectedUnweightedBuilder(int root) {
+        return new UndirectedUnweightedBuilder(root);
+    }
+
+    public static DirectedUnweightedBuilder directedUnweightedBuilder(int root) {
+        return new DirectedUnweightedBuilder(root);
+    }
+
+    public static UndirectedWeightedBuilder undirectedWeightedBuilder(int root) {
+        return new UndirectedWeightedBuilder(root);
+    }
+
+    public static DirectedWeightedBuilder directedWeightedBuilder(int root) {
+        return new DirectedWeightedBuilder(root);
+    }
+
+    /**
+     * Collects vertex ids and edges into growable int arrays, so no object is created per vertex or edge.
+     * Ends of added edges are added as vertices implicitly
+     */
+    public static class Builder {
+
+        protected static final int UNWEIGHTED_WEIGHT = 1;
+
+        private final boolean isWeighted;
+        private final boolean isDirected;
+        private final int root;
+        private final IntList vertices = new IntList();
+        private final EdgeBuffer edges = new EdgeBuffer();
+
+        /**
+         * @param isDirected {@code false} only if every edge is added via {@link Builder#addUndirectedEdge(int, int, int)},
+         *                   so that each edge is kept once and the graph can use its adjacency as the reverse one
+         */
+        protected Builder(int root, boolean isWeighted, boolean isDirected) {
+            this.root = root;
+            this.isWeighted = isWeighted;
+            this.isDirected = isDirected;
+            vertices.add(root);
+        }
+
+        /**
+         * Reserves memory for the {vertexCount} vertices added explicitly and the {edgeCount} edges,
+         * so that collecting them does not copy the growing arrays
+         */
+        public Builder ensureCapacity(int vertexCount, int edgeCount) {
+            vertices.ensureCapacity(vertexCount);
+            edges.ensureCapacity(edgeCount);
+            return this;
+        }
+
+        public Builder addVertex(int id) {
+            vertices.add(id);
+            return this;
+        }
+
+        protected Builder addEdge(int from, int to, int weight) {
+            EdgeBuffer.validateWeight(weight);
+            edges.add(from, to, weight);
+            return this;
+        }
+
+        protected Builder addUndirectedEdge(int from, int to, int weight) {
+            EdgeBuffer.validateWeight(weight);
+            edges.add(from, to, weight);
+            if (isDirected) {
+                edges.add(to, from, weight);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the edge {@code from[i] -> to[i]} of the {@code weights[i]} for each {@code i},
+         * or of the {@link Builder#UNWEIGHTED_WEIGHT} if {weights} is {@code null}
+         *
+         * @throws IllegalArgumentException if arrays differ in length or contain a negative weight, nothing is added then
+         */
+        protected Builder addEdges(@Nonnull int[] from, @Nonnull int[] to, int[] weights, boolean isUndirected) {
+            requireNonNull(from, "from");
+            requireNonNull(to, "to");
+            if (from.length != to.length || (weights != null && weights.length != from.length)) {
+                throw new IllegalArgumentException("Edge arrays should have the same length");
+            }
+            if (weights != null) {
+                for (int weight : weights) {
+                    EdgeBuffer.validateWeight(weight);
+                }
+            }
+            edges.ensureCapacity(edges.size() + (isUndirected && isDirected ? 2 : 1) * from.length);
+            for (int i = 0; i < from.length; i++) {
+                int weight = weights == null ? UNWEIGHTED_WEIGHT : weights[i];
+                if (isUndirected) {
+                    addUndirectedEdge(from[i], to[i], weight);
+                } else {
+                    addEdge(from[i], to[i], weight);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Compiles collected vertices and edges into the CSR layout, see {@link EdgeBuffer}.
+         * Vertices are indexed in ascending order of their ids, edges of each vertex are sorted by target index.
+         * Of several edges between the same pair of vertices the first added one is kept, as {@link Graph.Builder} does
+         */
+        public IntGraph build() {
+            return build(null);
+        }
+
+        /**
+         * Same as {@link Builder#build()}, but runs in parallel using {@link ForkJoinPool#commonPool()}
+         */
+        public IntGraph buildParallel() {
+            return buildParallel(ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Same as {@link Builder#build()}, but sorts ids, counts, places and sorts edges, and builds the reverse
+         * adjacency by tasks run on the {pool}. Built graph is the same as the one built by {@link Builder#build()}
+         */
+        public IntGraph buildParallel(@Nonnull ForkJoinPool pool) {
+            return build(requireNonNull(pool, "pool"));
+        }
+
+        private IntGraph build(@Nullable ForkJoinPool pool) {
+
+            var allIds = Arrays.copyOf(vertices.toArray(), vertices.size() + 2 * edges.size());
+            edges.copyEndsTo(allIds, vertices.size());
+            var ids = distinctSorted(allIds, pool);
+            var index = new VertexIndex(ids);
+            var adjacency = edges.compile(ids.length, index::indexOf, !isDirected, pool);
+            var reverseAdjacency = isDirected ? adjacency.transpose(pool) : adjacency;
+            return new IntGraph(ids, index.indexOf(root), adjacency, reverseAdjacency, isWeighted);
+        }
+
+        private static int[] distinctSorted(int[] values, @Nullable ForkJoinPool pool) {
+            if (pool == null) {
+                Arrays.sort(values);
+            } else {
+                pool.invoke(ForkJoinTask.adapt(() -> Arrays.parallelSort(values)));
+            }
+            int count = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (i == 0 || values[i] != values[i - 1]) {
+                    values[count++] = values[i];
+                }
+            }
+            return Arrays.copyOf(values, count);
+        }
+
+    }
+
+    public static class UndirectedUnweightedBuilder {
+
+        private final Builder builder;
+
+        public UndirectedUnweightedBuilder(int root) {
+            builder = new Builder(root, false, false);
+        }
+
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, see {@link Builder#ensureCapacity(int, int)}
+         */
+        public UndirectedUnweightedBuilder ensureCapacity(int vertexCount, int edgeCount) {
+            builder.ensureCapacity(vertexCount, edgeCount);
+            return this;
+        }
+
+        public UndirectedUnweightedBuilder addVertex(int id) {
+            builder.addVertex(id);
+            return this;
+        }
+
+        public UndirectedUnweightedBuilder addEdge(int from, int to) {
+            builder.addUndirectedEdge(from, to, Builder.UNWEIGHTED_WEIGHT);
+            return this;
+        }
+
+        /**
+         * Adds the edge {@code from[i] - to[i]} for each {@code i}
+         */
+        public UndirectedUnweightedBuilder addEdges(@Nonnull int[] from, @Nonnull int[] to) {
+            builder.addEdges(from, to, null, true);
+            return this;
+        }
+
+        public IntGraph build() {
+            return builder.build();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel()}
+         */
+        public IntGraph buildParallel() {
+            return builder.buildParallel();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel(ForkJoinPool)}
+         */
+        public IntGraph buildParallel(@Nonnull ForkJoinPool pool) {
+            return builder.buildParallel(pool);
+        }
+
+    }
+
+    public static class DirectedUnweightedBuilder {
+
+        private final Builder builder;
+
+        public DirectedUnweightedBuilder(int root) {
+            builder = new Builder(root, false, true);
+        }
+
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, see {@link Builder#ensureCapacity(int, int)}
+         */
+        public DirectedUnweightedBuilder ensureCapacity(int vertexCount, int edgeCount) {
+            builder.ensureCapacity(vertexCount, edgeCount);
+            return this;
+        }
+
+        public DirectedUnweightedBuilder addVertex(int id) {
+            builder.addVertex(id);
+            return this;
+        }
+
+        public DirectedUnweightedBuilder addEdge(int from, int to) {
+            builder.addEdge(from, to, Builder.UNWEIGHTED_WEIGHT);
+            return this;
+        }
+
+        /**
+         * Adds the edge {@code from[i] -> to[i]} for each {@code i}
+         */
+        public DirectedUnweightedBuilder addEdges(@Nonnull int[] from, @Nonnull int[] to) {
+            builder.addEdges(from, to, null, false);
+            return this;
+        }
+
+        public IntGraph build() {
+            return builder.build();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel()}
+         */
+        public IntGraph buildParallel() {
+            return builder.buildParallel();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel(ForkJoinPool)}
+         */
+        public IntGraph buildParallel(@Nonnull ForkJoinPool pool) {
+            return builder.buildParallel(pool);
+        }
+
+    }
+
+    public static class UndirectedWeightedBuilder {
+
+        private final Builder builder;
+
+        public UndirectedWeightedBuilder(int root) {
+            builder = new Builder(root, true, false);
+        }
+
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, see {@link Builder#ensureCapacity(int, int)}
+         */
+        public UndirectedWeightedBuilder ensureCapacity(int vertexCount, int edgeCount) {
+            builder.ensureCapacity(vertexCount, edgeCount);
+            return this;
+        }
+
+        public UndirectedWeightedBuilder addVertex(int id) {
+            builder.addVertex(id);
+            return this;
+        }
+
+        public UndirectedWeightedBuilder addEdge(int from, int to, int weight) {
+            builder.addUndirectedEdge(from, to, weight);
+            return this;
+        }
+
+        /**
+         * Adds the edge {@code from[i] - to[i]} of the {@code weights[i]} for each {@code i}
+         */
+        public UndirectedWeightedBuilder addEdges(@Nonnull int[] from, @Nonnull int[] to, @Nonnull int[] weights) {
+            builder.addEdges(from, to, requireNonNull(weights, "weights"), true);
+            return this;
+        }
+
+        public IntGraph build() {
+            return builder.build();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel()}
+         */
+        public IntGraph buildParallel() {
+            return builder.buildParallel();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel(ForkJoinPool)}
+         */
+        public IntGraph buildParallel(@Nonnull ForkJoinPool pool) {
+            return builder.buildParallel(pool);
+        }
+
+    }
+
+    public static class DirectedWeightedBuilder {
+
+        private final Builder builder;
+
+        public DirectedWeightedBuilder(int root) {
+            builder = new Builder(root, true, true);
+        }
+
+        /**
+         * Reserves memory for the {vertexCount} vertices and the {edgeCount} edges, see {@link Builder#ensureCapacity(int, int)}
+         */
+        public DirectedWeightedBuilder ensureCapacity(int vertexCount, int edgeCount) {
+            builder.ensureCapacity(vertexCount, edgeCount);
+            return this;
+        }
+
+        public DirectedWeightedBuilder addVertex(int id) {
+            builder.addVertex(id);
+            return this;
+        }
+
+        public DirectedWeightedBuilder addEdge(int from, int to, int weight) {
+            builder.addEdge(from, to, weight);
+            return this;
+        }
+
+        /**
+         * Adds the edge {@code from[i] -> to[i]} of the {@code weights[i]} for each {@code i}
+         */
+        public DirectedWeightedBuilder addEdges(@Nonnull int[] from, @Nonnull int[] to, @Nonnull int[] weights) {
+            builder.addEdges(from, to, requireNonNull(weights, "weights"), false);
+            return this;
+        }
+
+        public IntGraph build() {
+            return builder.build();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel()}
+         */
+        public IntGraph buildParallel() {
+            return builder.buildParallel();
+        }
+
+        /**
+         * Same as {@link Builder#buildParallel(ForkJoinPool)}
+         */
+        public IntGraph buildParallel(@Nonnull ForkJoinPool pool) {
+            return builder.buildParallel(pool);
+        }
+
+    }
+
+}
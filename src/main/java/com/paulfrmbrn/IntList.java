@@ -0,0 +1,90 @@
+package com.paulfrmbrn;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive ints, also used as a stack
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class IntList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    IntList(int capacity) {
+        this.elements = new int[Math.max(1, capacity)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return elements[index];
+    }
+
+    void set(int index, int element) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        elements[index] = element;
+    }
+
+    /**
+     * Grows the list so that it can hold {capacity} elements without further copying
+     */
+    void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
+    void add(int element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Removes the last element
+     *
+     * @return removed element
+     */
+    int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("List is empty");
+        }
+        return elements[--size];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void reverse() {
+        for (int left = 0, right = size - 1; left < right; left++, right--) {
+            int element = elements[left];
+            elements[left] = elements[right];
+            elements[right] = element;
+        }
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.paulfrmbrn;
+
+/**
+ * FIFO queue of primitive ints backed by a ring buffer, which grows twice when it is full
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class IntQueue {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int mask;
+    private int head;
+    private int size;
+
+    IntQueue() {
+        this.elements = new int[DEFAULT_CAPACITY];
+        this.mask = DEFAULT_CAPACITY - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(int element) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & mask] = element;
+        size++;
+    }
+
+    int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        int element = elements[head];
+        head = (head + 1) & mask;
+        size--;
+        return element;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        var grown = new int[elements.length * 2];
+        int tail = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, tail);
+        System.arraycopy(elements, 0, grown, tail, head);
+        elements = grown;
+        mask = grown.length - 1;
+        head = 0;
+    }
+
+}
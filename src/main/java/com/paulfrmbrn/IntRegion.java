@@ -0,0 +1,95 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Fixed size array of ints kept out of the heap in direct or memory-mapped buffers
+ *
+ * A single buffer can not be larger than 2 GB, so the region is split into chunks of {@code 2^chunkShift} ints
+ * and an element is addressed by the chunk number in the high bits of its index and the position in the low bits.
+ * Ints are stored in little-endian order, so mapped files are the same on every platform
+ *
+ * Instance is not thread-safe while it is being filled, and can be shared between threads afterwards
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class IntRegion {
+
+    static final int DEFAULT_CHUNK_SHIFT = 28;
+
+    private final IntBuffer[] chunks;
+    private final int length;
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private IntRegion(IntBuffer[] chunks, int length, int chunkShift) {
+        this.chunks = chunks;
+        this.length = length;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    /**
+     * Allocates zero filled region of direct buffers
+     */
+    static IntRegion allocateDirect(int length, int chunkShift) {
+        var chunks = new IntBuffer[chunkCount(length, chunkShift)];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            chunks[chunk] = ByteBuffer.allocateDirect(Integer.BYTES * chunkLength(length, chunkShift, chunk))
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+        }
+        return new IntRegion(chunks, length, chunkShift);
+    }
+
+    /**
+     * Maps {length} ints of the file starting at the {position} byte
+     */
+    static IntRegion map(@Nonnull FileChannel channel, @Nonnull FileChannel.MapMode mode, long position, int length,
+                         int chunkShift) throws IOException {
+        requireNonNull(channel, "channel");
+        requireNonNull(mode, "mode");
+        var chunks = new IntBuffer[chunkCount(length, chunkShift)];
+        long chunkPosition = position;
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            long size = (long) Integer.BYTES * chunkLength(length, chunkShift, chunk);
+            chunks[chunk] = channel.map(mode, chunkPosition, size)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+            chunkPosition += size;
+        }
+        return new IntRegion(chunks, length, chunkShift);
+    }
+
+    int length() {
+        return length;
+    }
+
+    int get(int index) {
+        return chunks[index >>> chunkShift].get(index & chunkMask);
+    }
+
+    void put(int index, int value) {
+        chunks[index >>> chunkShift].put(index & chunkMask, value);
+    }
+
+    private static int chunkCount(int length, int chunkShift) {
+        if (length < 0 || chunkShift < 1 || chunkShift > 28) {
+            throw new IllegalArgumentException("Invalid region length or chunk size");
+        }
+        return (int) (((long) length + (1 << chunkShift) - 1) >>> chunkShift);
+    }
+
+    private static int chunkLength(int length, int chunkShift, int chunk) {
+        return (int) Math.min(1L << chunkShift, length - ((long) chunk << chunkShift));
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * ALT (A*, landmarks, triangle inequality) {@link Heuristic} for graphs whose vertices carry no geometry
+ *
+ * Precomputes exact distances from and to each of the landmark vertices. For a vertex {@code v}, a target {@code t}
+ * and a landmark {@code L} the triangle inequality gives lower bounds {@code d(L, t) - d(L, v)} and
+ * {@code d(v, L) - d(t, L)} of {@code d(v, t)}, the estimate is the maximum of them over all landmarks.
+ * Such estimate is admissible and consistent
+ *
+ * Landmarks are chosen greedily, each next one is the vertex farthest from the already chosen ones
+ *
+ * Instance is bound to the {@link Graph} it was computed for and takes {@code 2 * count * vertices} ints of memory
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+public final class Landmarks<T> implements Heuristic<T> {
+
+    private static final int INFINITY = Graph.INFINITY_DISTANCE_VALUE;
+
+    private final Graph<T> graph;
+    private final int count;
+    private final int[] landmarks;
+    private final int[] distancesFrom;
+    private final int[] distancesTo;
+
+    Landmarks(@Nonnull Graph<T> graph, @Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency, int root, int count) {
+        this.graph = requireNonNull(graph, "graph");
+        int vertexCount = adjacency.vertexCount();
+        if (count < 1 || count > vertexCount) {
+            throw new IllegalArgumentException("Count of landmarks should be from 1 to count of vertices");
+        }
+        if ((long) count * vertexCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many landmarks for the graph of such size");
+        }
+        this.count = count;
+        this.landmarks = new int[count];
+        this.distancesFrom = new int[vertexCount * count];
+        this.distancesTo = new int[vertexCount * count];
+
+        var closest = new int[vertexCount];
+        Arrays.fill(closest, INFINITY);
+        int landmark = root;
+        for (int i = 0; i < count; i++) {
+            landmarks[i] = landmark;
+            var from = distances(adjacency, landmark);
+            var to = distances(reverseAdjacency, landmark);
+            int farthest = landmark;
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                distancesFrom[vertex * count + i] = from[vertex];
+                distancesTo[vertex * count + i] = to[vertex];
+                closest[vertex] = Math.min(closest[vertex], Math.min(from[vertex], to[vertex]));
+                if (closest[vertex] > closest[farthest]) {
+                    farthest = vertex;
+                }
+            }
+            landmark = farthest;
+        }
+    }
+
+    /**
+     * @return count of landmarks
+     */
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int estimate(@Nonnull Vertex<T> vertex, @Nonnull Vertex<T> target) {
+        return estimate(graph.indexOf(vertex), graph.indexOf(target));
+    }
+
+    boolean belongsTo(Graph<?> graph) {
+        return this.graph == graph;
+    }
+
+    int estimate(int vertex, int target) {
+        int estimate = 0;
+        int vertexBase = vertex * count;
+        int targetBase = target * count;
+        for (int i = 0; i < count; i++) {
+            int fromToVertex = distancesFrom[vertexBase + i];
+            int fromToTarget = distancesFrom[targetBase + i];
+            if (fromToVertex != INFINITY && fromToTarget != INFINITY) {
+                estimate = Math.max(estimate, fromToTarget - fromToVertex);
+            }
+            int vertexToLandmark = distancesTo[vertexBase + i];
+            int targetToLandmark = distancesTo[targetBase + i];
+            if (vertexToLandmark != INFINITY && targetToLandmark != INFINITY) {
+                estimate = Math.max(estimate, vertexToLandmark - targetToLandmark);
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * @return distances from the {source} to all vertices, {@link Graph#INFINITY_DISTANCE_VALUE} for unreachable ones
+     */
+    private static int[] distances(Adjacency adjacency, int source) {
+        var distances = new int[adjacency.vertexCount()];
+        Arrays.fill(distances, INFINITY);
+        var heap = new IndexedHeap(distances.length);
+        distances[source] = 0;
+        heap.insert(source, 0);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                int target = adjacency.target(edge);
+                int distance = distances[current] + adjacency.weight(edge);
+                if (distance >= 0 && distance < distances[target]) {
+                    distances[target] = distance;
+                    heap.insertOrDecrease(target, distance);
+                }
+            }
+        }
+        return distances;
+    }
+
+}
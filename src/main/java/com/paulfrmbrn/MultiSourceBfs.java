@@ -0,0 +1,371 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Breadth-first searches from many sources at once, as described in "The More the Merrier: Efficient Multi-Source
+ * Graph Traversal" by M. Then, M. Kaufmann, F. Chirigati et al.
+ *
+ * Each source owns a bit, a lane, in words of {@code long}: a vertex keeps words of the lanes which have already
+ * seen it and of the lanes which reached it on the last level, so one scan of edges advances up to 64 searches
+ * by one hop. A batch runs up to {@link MultiSourceBfs#MAX_WORDS} words of lanes level by level, more sources
+ * are searched in successive batches. Words of the same lanes are kept together for all vertices, so a word
+ * without lanes at a vertex costs nothing and neighbours share cache lines
+ *
+ * Levels switch between two steps the same way as {@link ParallelBfs} does. Vertices reached on the last level
+ * by any lane, the frontier, are marked in a bitset. While the frontier is sparse, top-down step goes over
+ * the marked vertices, pushes their non-empty words along the outgoing edges with atomic OR and marks the targets
+ * for the next level, which then get the pushed lanes as seen. Once pushing would scan more edges than pulling,
+ * i.e. the non-empty words of the frontier have more outgoing edges than the not yet full words have incoming ones,
+ * bottom-up step pulls the frontier words along the incoming edges of every vertex, and each vertex is updated
+ * by a single task without atomic instructions. It switches back when the shrinking frontier has less than
+ * {@code 1 / BETA} of the vertices
+ *
+ * Steps are split into ranges of vertices run on the {@link ForkJoinPool}. A batch takes {@code 3 * 8 * words}
+ * bytes and {@code 2 * words} bits per vertex
+ *
+ * Hops count edges of paths, weights of the edges are ignored
+ *
+ * Instance is mutable and can be used only once
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class MultiSourceBfs {
+
+    static final int MAX_WORDS = 4;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int BETA = 24;
+    // grain is counted in words of the bitsets, i.e. by 64 vertices
+    private static final int GRAIN = 1 << 4;
+
+    @FunctionalInterface
+    interface HopConsumer {
+
+        /**
+         * Receives the {vertex} reached at {hops} by the searches of the set bits of {lanes},
+         * bit {@code i} stands for the source {@code firstSource + i}. Is invoked concurrently for different vertices
+         */
+        void accept(int vertex, int firstSource, long lanes, int hops);
+
+    }
+
+    private final Adjacency adjacency;
+    private final Adjacency reverseAdjacency;
+    private final int vertexCount;
+    private final int bitsetWords;
+    private final int[] sources;
+    @Nullable
+    private final ForkJoinPool pool;
+    @Nullable
+    private final HopConsumer consumer;
+
+    private final long[] reachedCounts;
+    private final long[] distanceSums;
+    private final int[] eccentricities;
+
+    // word {@code w} of the vertex {@code v} is at {@code w * vertexCount + v}, its bit in the bitsets of vertices
+    // with non-empty words is in the word {@code w * bitsetWords + v / 64}
+    private int words;
+    private long[] seen;
+    private long[] frontier;
+    private long[] next;
+    // vertices with non-empty words in frontier and in next, the latter are left from the previous frontier
+    // after bottom-up step until the next level is cleared or overwritten
+    private long[] frontierVertices;
+    private long[] nextVertices;
+    private final AtomicLong nextSize = new AtomicLong();
+    private final AtomicLong nextEdges = new AtomicLong();
+    private final AtomicLong exhaustedEdges = new AtomicLong();
+
+    /**
+     * @param adjacency outgoing edges of the vertices
+     * @param reverseAdjacency incoming edges of the vertices
+     * @param pool pool to run levels in parallel or {@code null} to run them in this thread
+     * @param consumer action applied to each reached vertex or {@code null} to collect statistics only
+     */
+    MultiSourceBfs(@Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency, @Nonnull int[] sources,
+                   @Nullable ForkJoinPool pool, @Nullable HopConsumer consumer) {
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.reverseAdjacency = requireNonNull(reverseAdjacency, "reverseAdjacency");
+        this.vertexCount = reverseAdjacency.vertexCount();
+        this.bitsetWords = (vertexCount + Long.SIZE - 1) / Long.SIZE;
+        this.sources = requireNonNull(sources, "sources");
+        this.pool = pool;
+        this.consumer = consumer;
+        this.reachedCounts = new long[sources.length];
+        this.distanceSums = new long[sources.length];
+        this.eccentricities = new int[sources.length];
+    }
+
+    void run() {
+        int maxWords = Math.max(1, Math.min(MAX_WORDS, Integer.MAX_VALUE / Math.max(1, vertexCount)));
+        int batchSize = maxWords * Long.SIZE;
+        for (int batch = 0; batch < sources.length; batch += batchSize) {
+            runBatch(batch, Math.min(batchSize, sources.length - batch));
+        }
+    }
+
+    /**
+     * @return statistics of the sources collected by {@link MultiSourceBfs#run()}
+     */
+    HopStatistics statistics() {
+        return new HopStatistics(reachedCounts, distanceSums, eccentricities);
+    }
+
+    private void runBatch(int firstSource, int laneCount) {
+        int batchWords = (laneCount + Long.SIZE - 1) / Long.SIZE;
+        if (seen == null || batchWords != words) {
+            words = batchWords;
+            seen = new long[vertexCount * words];
+            frontier = new long[vertexCount * words];
+            next = new long[vertexCount * words];
+            frontierVertices = new long[bitsetWords * words];
+            nextVertices = new long[bitsetWords * words];
+        } else {
+            Arrays.fill(seen, 0);
+            Arrays.fill(frontier, 0);
+            Arrays.fill(next, 0);
+            Arrays.fill(frontierVertices, 0);
+            Arrays.fill(nextVertices, 0);
+        }
+
+        // lanes without a source are seen everywhere, so a word seen by all its sources has all bits set
+        if (laneCount % Long.SIZE != 0) {
+            Arrays.fill(seen, (words - 1) * vertexCount, words * vertexCount, -1L << laneCount);
+        }
+        long frontierSize = 0;
+        long frontierEdges = 0;
+        long unexploredEdges = (long) words * reverseAdjacency.edgeCount();
+        for (int lane = 0; lane < laneCount; lane++) {
+            int source = sources[firstSource + lane];
+            int position = lane / Long.SIZE * vertexCount + source;
+            long bit = 1L << lane;
+            if (frontier[position] == 0) {
+                frontierEdges += adjacency.degree(source);
+            }
+            seen[position] |= bit;
+            frontier[position] |= bit;
+            if (seen[position] == -1L) {
+                unexploredEdges -= reverseAdjacency.degree(source);
+            }
+            reachedCounts[firstSource + lane] = 1;
+            if (consumer != null) {
+                consumer.accept(source, firstSource + lane / Long.SIZE * Long.SIZE, bit, 0);
+            }
+            int mark = lane / Long.SIZE * bitsetWords + (source >>> 6);
+            if ((frontierVertices[mark] & (1L << source)) == 0) {
+                frontierVertices[mark] |= 1L << source;
+                frontierSize++;
+            }
+        }
+
+        long previousSize = 0;
+        boolean isBottomUp = false;
+        for (int hops = 1; frontierSize > 0; hops++) {
+
+            // top-down step clears the frontier it pushes, bottom-up one leaves it to be cleared before pushing
+            boolean isNextCleared = !isBottomUp;
+            boolean isGrowing = frontierSize > previousSize;
+            if (!isBottomUp && isGrowing && frontierEdges > unexploredEdges) {
+                isBottomUp = true;
+            } else if (isBottomUp && !isGrowing && frontierSize < (long) words * vertexCount / BETA) {
+                isBottomUp = false;
+            }
+            previousSize = frontierSize;
+
+            int level = hops;
+            nextSize.set(0);
+            nextEdges.set(0);
+            exhaustedEdges.set(0);
+            // words are independent, so each of them is run over all vertices in turn to keep less memory in use
+            for (int word = 0; word < words; word++) {
+                int current = word;
+                int firstLane = firstSource + word * Long.SIZE;
+                if (isBottomUp) {
+                    ParallelRanges.forEach(pool, bitsetWords, GRAIN, (from, to) -> pull(current, from, to, firstLane, level));
+                } else {
+                    if (!isNextCleared) {
+                        ParallelRanges.forEach(pool, bitsetWords, GRAIN, (from, to) -> clearNext(current, from, to));
+                    }
+                    ParallelRanges.forEach(pool, bitsetWords, GRAIN, (from, to) -> push(current, from, to));
+                    ParallelRanges.forEach(pool, bitsetWords, GRAIN, (from, to) -> settle(current, from, to, firstLane, level));
+                }
+            }
+
+            var swap = frontier;
+            frontier = next;
+            next = swap;
+            var swapVertices = frontierVertices;
+            frontierVertices = nextVertices;
+            nextVertices = swapVertices;
+            frontierSize = nextSize.get();
+            frontierEdges = nextEdges.get();
+            unexploredEdges -= exhaustedEdges.get();
+        }
+    }
+
+    /**
+     * Clears the {word} and its bits of the next level left at the vertices of the bitset words {@code [from, to)}
+     */
+    private void clearNext(int word, int from, int to) {
+        int offset = word * vertexCount;
+        int bitsetOffset = word * bitsetWords;
+        for (int index = from; index < to; index++) {
+            for (long bits = nextVertices[bitsetOffset + index]; bits != 0; bits &= bits - 1) {
+                next[offset + index * Long.SIZE + Long.numberOfTrailingZeros(bits)] = 0;
+            }
+            nextVertices[bitsetOffset + index] = 0;
+        }
+    }
+
+    /**
+     * Pushes the {word} of the frontier vertices of the bitset words {@code [from, to)} to the targets
+     * of their outgoing edges and marks the targets which got new lanes for the next level. Clears the pushed
+     * words, so the frontier is left empty for the level after the next one
+     */
+    private void push(int word, int from, int to) {
+        int offset = word * vertexCount;
+        int bitsetOffset = word * bitsetWords;
+        for (int index = from; index < to; index++) {
+            for (long bits = frontierVertices[bitsetOffset + index]; bits != 0; bits &= bits - 1) {
+                int current = index * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                long parentLanes = frontier[offset + current];
+                frontier[offset + current] = 0;
+                for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                    int target = adjacency.target(edge);
+                    long lanes = parentLanes & ~seen[offset + target];
+                    if (lanes != 0 && (next[offset + target] & lanes) != lanes) {
+                        or(next, offset + target, lanes);
+                        int mark = bitsetOffset + (target >>> 6);
+                        if ((nextVertices[mark] & (1L << target)) == 0) {
+                            or(nextVertices, mark, 1L << target);
+                        }
+                    }
+                }
+            }
+            frontierVertices[bitsetOffset + index] = 0;
+        }
+    }
+
+    /**
+     * Marks lanes of the {word} pushed to the vertices of the bitset words {@code [from, to)} as seen
+     * and collects statistics of the lanes which reached them
+     */
+    private void settle(int word, int from, int to, int firstLane, int hops) {
+        int offset = word * vertexCount;
+        int bitsetOffset = word * bitsetWords;
+        var counts = new int[Long.SIZE];
+        long size = 0;
+        long edges = 0;
+        long exhausted = 0;
+        for (int index = from; index < to; index++) {
+            for (long bits = nextVertices[bitsetOffset + index]; bits != 0; bits &= bits - 1) {
+                int vertex = index * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                size++;
+                edges += adjacency.degree(vertex);
+                exhausted += accept(vertex, offset + vertex, next[offset + vertex], firstLane, hops, counts);
+            }
+        }
+        collect(firstLane, counts, hops, size, edges, exhausted);
+    }
+
+    /**
+     * Pulls the {word} of the frontier into the vertices of the bitset words {@code [from, to)}, marks those reached
+     * for the next level and collects statistics of the lanes which reached them
+     */
+    private void pull(int word, int from, int to, int firstLane, int hops) {
+        int offset = word * vertexCount;
+        int bitsetOffset = word * bitsetWords;
+        var counts = new int[Long.SIZE];
+        long size = 0;
+        long edges = 0;
+        long exhausted = 0;
+        for (int index = from; index < to; index++) {
+            long marks = 0;
+            for (int vertex = index * Long.SIZE, last = Math.min(vertex + Long.SIZE, vertexCount); vertex < last; vertex++) {
+                if (seen[offset + vertex] == -1L) {
+                    next[offset + vertex] = 0;
+                    continue;
+                }
+                long pulled = 0;
+                for (int edge = reverseAdjacency.begin(vertex), end = reverseAdjacency.end(vertex); edge < end; edge++) {
+                    int parent = reverseAdjacency.target(edge);
+                    if ((frontierVertices[bitsetOffset + (parent >>> 6)] & (1L << parent)) != 0) {
+                        pulled |= frontier[offset + parent];
+                    }
+                }
+                long reached = pulled & ~seen[offset + vertex];
+                next[offset + vertex] = reached;
+                if (reached != 0) {
+                    marks |= 1L << vertex;
+                    edges += adjacency.degree(vertex);
+                    exhausted += accept(vertex, offset + vertex, reached, firstLane, hops, counts);
+                }
+            }
+            size += Long.bitCount(marks);
+            nextVertices[bitsetOffset + index] = marks;
+        }
+        collect(firstLane, counts, hops, size, edges, exhausted);
+    }
+
+    /**
+     * Marks the {reached} lanes of the word at the {position} of the {vertex} as seen and counts them
+     *
+     * @return count of incoming edges of the vertex if the word became seen by all its lanes, {@code 0} otherwise
+     */
+    private int accept(int vertex, int position, long reached, int firstLane, int hops, int[] counts) {
+        long lanes = seen[position] | reached;
+        seen[position] = lanes;
+        if (consumer != null) {
+            consumer.accept(vertex, firstLane, reached, hops);
+        }
+        for (long rest = reached; rest != 0; rest &= rest - 1) {
+            counts[Long.numberOfTrailingZeros(rest)]++;
+        }
+        return lanes == -1L ? reverseAdjacency.degree(vertex) : 0;
+    }
+
+    /**
+     * Sets the {bits} in the {@code values[index]}, atomically if there is a pool
+     */
+    private void or(long[] values, int index, long bits) {
+        if (pool == null) {
+            values[index] |= bits;
+        } else {
+            LONGS.getAndBitwiseOr(values, index, bits);
+        }
+    }
+
+    /**
+     * Adds statistics of a task to the totals of the level
+     */
+    private void collect(int firstLane, int[] counts, int hops, long size, long edges, long exhausted) {
+        if (size == 0) {
+            return;
+        }
+        nextSize.addAndGet(size);
+        nextEdges.addAndGet(edges);
+        exhaustedEdges.addAndGet(exhausted);
+        synchronized (this) {
+            for (int lane = 0; lane < counts.length; lane++) {
+                if (counts[lane] > 0) {
+                    reachedCounts[firstLane + lane] += counts[lane];
+                    distanceSums[firstLane + lane] += (long) counts[lane] * hops;
+                    eccentricities[firstLane + lane] = hops;
+                }
+            }
+        }
+    }
+
+}
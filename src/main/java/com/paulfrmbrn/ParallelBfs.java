@@ -0,0 +1,213 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Level-synchronous parallel breadth-first traversal which switches between top-down and bottom-up steps per level,
+ * as described in "Direction-Optimizing Breadth-First Search" by S. Beamer, K. Asanovic and D. Patterson
+ *
+ * Top-down step scans outgoing edges of the frontier and claims not visited targets by CAS on their level.
+ * Bottom-up step scans incoming edges of every not visited vertex until a parent in the frontier is found,
+ * which is much cheaper once the frontier covers a large part of the graph. Step switches to bottom-up when
+ * the growing frontier has more than {@code 1 / ALPHA} of the edges of not visited vertices, and back to top-down
+ * when the shrinking frontier has less than {@code 1 / BETA} of the vertices
+ *
+ * Both steps split their work into {@link RecursiveAction}s run by the {@link ForkJoinPool}, the next frontier
+ * is gathered from per-task buffers into a shared array
+ *
+ * Instance is mutable and can be used only once
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class ParallelBfs {
+
+    private static final VarHandle LEVELS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private static final int UNVISITED = -1;
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int TOP_DOWN_GRAIN = 256;
+    private static final int BOTTOM_UP_GRAIN = 4096;
+
+    private final Adjacency adjacency;
+    private final Adjacency reverseAdjacency;
+    private final IntConsumer consumer;
+    private final int[] levels;
+
+    private int[] frontier;
+    private int frontierSize;
+    private int[] next;
+    private final AtomicInteger nextSize = new AtomicInteger();
+    private final AtomicLong nextEdges = new AtomicLong();
+    private int depth;
+
+    /**
+     * @param consumer action applied to the index of every reached vertex, is invoked concurrently
+     */
+    ParallelBfs(@Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency, @Nonnull IntConsumer consumer) {
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.reverseAdjacency = requireNonNull(reverseAdjacency, "reverseAdjacency");
+        this.consumer = requireNonNull(consumer, "consumer");
+        this.levels = new int[adjacency.vertexCount()];
+        Arrays.fill(levels, UNVISITED);
+        this.frontier = new int[adjacency.vertexCount()];
+        this.next = new int[adjacency.vertexCount()];
+    }
+
+    /**
+     * Traverses all vertices reachable from the {root}
+     *
+     * @return count of reached vertices
+     */
+    int traverse(int root, @Nonnull ForkJoinPool pool) {
+        requireNonNull(pool, "pool");
+
+        int vertexCount = levels.length;
+        levels[root] = 0;
+        consumer.accept(root);
+        frontier[0] = root;
+        frontierSize = 1;
+        long frontierEdges = adjacency.degree(root);
+        long unexploredEdges = adjacency.edgeCount() - frontierEdges;
+        int reached = 1;
+        int previousSize = 0;
+        boolean isBottomUp = false;
+
+        while (frontierSize > 0) {
+
+            boolean isGrowing = frontierSize > previousSize;
+            if (!isBottomUp && isGrowing && frontierEdges > unexploredEdges / ALPHA) {
+                isBottomUp = true;
+            } else if (isBottomUp && !isGrowing && frontierSize < vertexCount / BETA) {
+                isBottomUp = false;
+            }
+            previousSize = frontierSize;
+
+            nextSize.set(0);
+            nextEdges.set(0);
+            pool.invoke(isBottomUp ? new BottomUpStep(0, vertexCount) : new TopDownStep(0, frontierSize));
+
+            var swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize.get();
+            frontierEdges = nextEdges.get();
+            unexploredEdges -= frontierEdges;
+            reached += frontierSize;
+            depth++;
+        }
+        return reached;
+    }
+
+    /**
+     * Copies vertices discovered by a task into the next frontier
+     */
+    private void publish(IntList discovered, long edges) {
+        if (discovered.size() == 0) {
+            return;
+        }
+        int position = nextSize.getAndAdd(discovered.size());
+        for (int i = 0; i < discovered.size(); i++) {
+            next[position + i] = discovered.get(i);
+        }
+        nextEdges.addAndGet(edges);
+    }
+
+    /**
+     * Scans outgoing edges of the frontier vertices {@code [from, to)}
+     */
+    private final class TopDownStep extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        TopDownStep(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > TOP_DOWN_GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TopDownStep(from, middle), new TopDownStep(middle, to));
+                return;
+            }
+            int nextDepth = depth + 1;
+            var discovered = new IntList();
+            long edges = 0;
+            for (int i = from; i < to; i++) {
+                int current = frontier[i];
+                for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                    int target = adjacency.target(edge);
+                    if (levels[target] == UNVISITED && LEVELS.compareAndSet(levels, target, UNVISITED, nextDepth)) {
+                        consumer.accept(target);
+                        discovered.add(target);
+                        edges += adjacency.degree(target);
+                    }
+                }
+            }
+            publish(discovered, edges);
+        }
+
+    }
+
+    /**
+     * Looks for a parent in the frontier for every not visited vertex of {@code [from, to)}
+     * Each vertex is owned by a single task, so its level is written without CAS
+     */
+    private final class BottomUpStep extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        BottomUpStep(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BOTTOM_UP_GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BottomUpStep(from, middle), new BottomUpStep(middle, to));
+                return;
+            }
+            int currentDepth = depth;
+            var discovered = new IntList();
+            long edges = 0;
+            for (int vertex = from; vertex < to; vertex++) {
+                if (levels[vertex] != UNVISITED) {
+                    continue;
+                }
+                for (int edge = reverseAdjacency.begin(vertex), end = reverseAdjacency.end(vertex); edge < end; edge++) {
+                    if (levels[reverseAdjacency.target(edge)] == currentDepth) {
+                        levels[vertex] = currentDepth + 1;
+                        consumer.accept(vertex);
+                        discovered.add(vertex);
+                        edges += adjacency.degree(vertex);
+                        break;
+                    }
+                }
+            }
+            publish(discovered, edges);
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs loops over {@code [0, count)}, e.g. over edges or vertices while building a graph, either in the calling thread
+ * or split into ranges of about {@code grain} elements on a {@link ForkJoinPool}
+ *
+ * The same code builds a graph sequentially and in parallel: it passes {@code null} instead of the pool
+ * to run sequentially, and then counters are updated without atomic instructions
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class ParallelRanges {
+
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private ParallelRanges() {
+    }
+
+    @FunctionalInterface
+    interface RangeAction {
+
+        /**
+         * Processes elements {@code [from, to)}
+         */
+        void apply(int from, int to);
+
+    }
+
+    /**
+     * Applies the {action} to ranges covering {@code [0, count)} and waits for all of them to complete
+     *
+     * @param pool pool to run ranges in parallel or {@code null} to apply the action to the whole range in this thread
+     */
+    static void forEach(@Nullable ForkJoinPool pool, int count, int grain, @Nonnull RangeAction action) {
+        requireNonNull(action, "action");
+        if (pool == null || count <= grain) {
+            action.apply(0, count);
+        } else {
+            pool.invoke(new RangeTask(0, count, grain, action));
+        }
+    }
+
+    /**
+     * Replaces each of the {values} with the sum of itself and all the preceding values
+     */
+    static void prefixSum(@Nullable ForkJoinPool pool, @Nonnull int[] values) {
+        requireNonNull(values, "values");
+        if (pool == null) {
+            for (int i = 1; i < values.length; i++) {
+                values[i] += values[i - 1];
+            }
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> Arrays.parallelPrefix(values, Integer::sum)));
+        }
+    }
+
+    /**
+     * Increments the {@code counters[index]}, atomically if there is a {pool}
+     *
+     * @return value of the counter before the increment
+     */
+    static int getAndIncrement(@Nullable ForkJoinPool pool, @Nonnull int[] counters, int index) {
+        return pool == null ? counters[index]++ : (int) COUNTERS.getAndAdd(counters, index, 1);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final RangeAction action;
+
+        RangeTask(int from, int to, int grain, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > grain) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(from, middle, grain, action), new RangeTask(middle, to, grain, action));
+                return;
+            }
+            action.apply(from, to);
+        }
+
+    }
+
+}
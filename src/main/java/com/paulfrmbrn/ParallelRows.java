@@ -0,0 +1,81 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs independent heavy computations, e.g. one search per row of a distance matrix, on a {@link ForkJoinPool}
+ *
+ * Each computation gets a workspace borrowed from a shared free list and returned after the computation,
+ * so only about as many workspaces are created as there are threads working at the same time
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class ParallelRows<W> {
+
+    private final ConcurrentLinkedQueue<W> workspaces = new ConcurrentLinkedQueue<>();
+    private final Supplier<W> workspaceFactory;
+    private final ObjIntConsumer<W> action;
+
+    private ParallelRows(Supplier<W> workspaceFactory, ObjIntConsumer<W> action) {
+        this.workspaceFactory = workspaceFactory;
+        this.action = action;
+    }
+
+    /**
+     * Applies the {action} to each row from {@code 0} to {@code count - 1} and waits for all of them to complete
+     *
+     * @param workspaceFactory creates a new workspace when there is no free one
+     * @param action computes the row using the workspace given
+     */
+    static <W> void forEach(@Nonnull ForkJoinPool pool, int count,
+                            @Nonnull Supplier<W> workspaceFactory, @Nonnull ObjIntConsumer<W> action) {
+        requireNonNull(pool, "pool");
+        requireNonNull(workspaceFactory, "workspaceFactory");
+        requireNonNull(action, "action");
+        if (count > 0) {
+            var rows = new ParallelRows<>(workspaceFactory, action);
+            pool.invoke(rows.new RowsTask(0, count));
+        }
+    }
+
+    private final class RowsTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        RowsTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowsTask(from, middle), new RowsTask(middle, to));
+                return;
+            }
+            var workspace = workspaces.poll();
+            if (workspace == null) {
+                workspace = workspaceFactory.get();
+            }
+            try {
+                action.accept(workspace, from);
+            } finally {
+                workspaces.offer(workspace);
+            }
+        }
+
+    }
+
+}
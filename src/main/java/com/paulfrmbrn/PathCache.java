@@ -0,0 +1,178 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded cache of shortest paths of a {@link Graph}, see {@link Graph#newPathCache(int)}
+ *
+ * Serves {@link PathCache#findPath(Vertex, Vertex, Consumer)} from memory for repeated {@code (from, to)} pairs
+ * and runs {@link Graph#findPath(Vertex, Vertex, Consumer)} search for the rest. Paths are kept as arrays of
+ * vertex indices, pairs with no path are cached too. When the cache is full the least recently used pair is evicted
+ *
+ * Pairs are spread over a few independently locked segments, each of them is LRU ordered on its own,
+ * so threads querying different pairs rarely wait for each other. Searches run outside of the locks
+ * with search contexts reused between calls, so two threads missing the same pair at once both run the search
+ *
+ * Instance is thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@ThreadSafe
+public final class PathCache<T> {
+
+    private static final int MAX_SEGMENT_COUNT = 64;
+    private static final int[] NO_PATH = new int[0];
+
+    private final Graph<T> graph;
+    private final int maximumSize;
+    private final Segment[] segments;
+    private final ConcurrentLinkedQueue<SearchContext<T>> contexts = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    PathCache(@Nonnull Graph<T> graph, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size should be positive");
+        }
+        this.graph = requireNonNull(graph, "graph");
+        this.maximumSize = maximumSize;
+
+        int segmentCount = Integer.highestOneBit(Math.min(maximumSize,
+                Math.min(MAX_SEGMENT_COUNT, 4 * Runtime.getRuntime().availableProcessors())));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(evictionCount, maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Same as {@link Graph#findPath(Vertex, Vertex, Consumer)}, but takes the path from the cache if it is there
+     *
+     * @throws IllegalStateException if {to} is not reachable from {from}
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    public void findPath(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to, @Nonnull Consumer<T> consumer) {
+        int fromIndex = graph.indexOf(from);
+        int toIndex = graph.indexOf(to);
+        requireNonNull(consumer, "consumer");
+
+        long key = ((long) fromIndex << 32) | (toIndex & 0xFFFFFFFFL);
+        var segment = segmentOf(key);
+        int[] path;
+        synchronized (segment) {
+            path = segment.get(key);
+        }
+        if (path != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            path = search(fromIndex, toIndex);
+            synchronized (segment) {
+                segment.put(key, path);
+            }
+        }
+
+        if (path == NO_PATH) {
+            throw new IllegalStateException("Vertex 'to' is not reachable from vertex 'from'");
+        }
+        for (int vertex : path) {
+            consumer.accept(graph.vertexAt(vertex).getValue());
+        }
+    }
+
+    /**
+     * @return count of calls answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return count of calls which had to run the search
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return count of pairs evicted to keep the size within the maximum
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return current count of cached pairs
+     */
+    public int size() {
+        int size = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    private int[] search(int from, int to) {
+        var context = contexts.poll();
+        if (context == null) {
+            context = graph.newSearchContext();
+        }
+        try {
+            var path = context.path();
+            return graph.pathFinder().findPath(from, to, SearchMode.UNIDIRECTIONAL, context, path) ? path.toArray() : NO_PATH;
+        } finally {
+            contexts.offer(context);
+        }
+    }
+
+    private Segment segmentOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return segments[(int) (hash >>> 32) & (segments.length - 1)];
+    }
+
+    /**
+     * Access ordered map which evicts and counts its eldest entry when it grows over the {capacity}
+     * Guarded by its own monitor
+     */
+    private static final class Segment extends LinkedHashMap<Long, int[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final LongAdder evictionCount;
+        private final int capacity;
+
+        Segment(LongAdder evictionCount, int capacity) {
+            super(16, 0.75f, true);
+            this.evictionCount = evictionCount;
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+            if (size() > capacity) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+}
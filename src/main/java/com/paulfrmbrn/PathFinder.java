@@ -0,0 +1,351 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Search algorithms over dense vertex indices shared by {@link Graph} and {@link IntGraph}
+ *
+ * Works on the {@link Adjacency} only and keeps all its state in a {@link SearchContext},
+ * so callers translate their vertices to indices and back and nothing else
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+final class PathFinder {
+
+    private static final int INFINITY_DISTANCE_VALUE = Graph.INFINITY_DISTANCE_VALUE;
+    private static final int NO_PARENT = SearchState.NO_PARENT;
+
+    private final Adjacency adjacency;
+    private final Adjacency reverseAdjacency;
+    private final boolean isWeighted;
+
+    PathFinder(@Nonnull Adjacency adjacency, @Nonnull Adjacency reverseAdjacency, boolean isWeighted) {
+        this.adjacency = requireNonNull(adjacency, "adjacency");
+        this.reverseAdjacency = requireNonNull(reverseAdjacency, "reverseAdjacency");
+        this.isWeighted = isWeighted;
+    }
+
+    /**
+     * Breadth-first traversal from the {root} writing indices of reached vertices into {order} in the order of visiting
+     */
+    void traverse(int root, @Nonnull SearchContext<?> context, @Nonnull IntList order) {
+
+        var visited = context.visited();
+        var queue = context.queue();
+
+        visited.add(root);
+        queue.add(root);
+        while (!queue.isEmpty()) {
+
+            int current = queue.poll();
+            order.add(current);
+
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                int target = adjacency.target(edge);
+                if (visited.add(target)) {
+                    queue.add(target);
+                }
+            }
+
+        }
+    }
+
+    /**
+     * Finds shortest path between vertices given by indices the same way as
+     * {@link Graph#findPath(Vertex, Vertex, SearchMode, SearchContext, java.util.function.Consumer)}
+     * and writes its indices into {path}
+     *
+     * @return {@code false} if {to} is not reachable
+     */
+    boolean findPath(int from, int to, @Nonnull SearchMode mode, @Nonnull SearchContext<?> context, @Nonnull IntList path) {
+        if (from == to) {
+            path.add(from);
+            return true;
+        }
+        if (mode == SearchMode.BIDIRECTIONAL) {
+            return isWeighted
+                    ? findPathByBidirectionalDijkstra(from, to, context, path)
+                    : findPathByBidirectionalBfs(from, to, context, path);
+        }
+        return isWeighted
+                ? findPathByDijkstra(from, to, context, path)
+                : findPathByBfs(from, to, context, path);
+    }
+
+    /**
+     * BFS algorithm implementation for finding shortest path between two vertices
+     * Should be used only for unweighted graphs
+     * Otherwise path found may not be the shortest one
+     *
+     * Vertex is marked visited when it is enqueued, so every vertex is enqueued at most once.
+     * Visited marks are kept in a {@link VisitedSet}, parents are recorded in the {@link SearchState}
+     *
+     * @return {@code false} if {to} is not reachable
+     */
+    private boolean findPathByBfs(int from, int to, SearchContext<?> context, IntList path) {
+
+        var visited = context.visited();
+        var parents = context.forward();
+        var queue = context.queue();
+
+        visited.add(from);
+        parents.reach(from, 0, NO_PARENT);
+        queue.add(from);
+        while (!queue.isEmpty()) {
+
+            int current = queue.poll();
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                int target = adjacency.target(edge);
+                if (visited.add(target)) {
+                    parents.reach(target, 0, current);
+                    if (target == to) {
+                        return Graph.toPath(parents, from, to, path);
+                    }
+                    queue.add(target);
+                }
+            }
+
+        }
+        return false;
+    }
+
+    /**
+     * BFS over the whole graph filling dense {distances} and {parents} arrays, {distances} of {from} should be set
+     */
+    void shortestPathTreeByBfs(int from, int[] distances, int[] parents) {
+        var queue = new IntQueue();
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                int target = adjacency.target(edge);
+                if (distances[target] == INFINITY_DISTANCE_VALUE) {
+                    distances[target] = distances[current] + 1;
+                    parents[target] = current;
+                    queue.add(target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dijkstra algorithm over the whole graph filling dense {distances} and {parents} arrays,
+     * {distances} of {from} should be set. Ties are resolved the same way as in {@link PathFinder#findPathByDijkstra}
+     */
+    void shortestPathTreeByDijkstra(int from, int[] distances, int[] parents) {
+        var heap = new IndexedHeap(adjacency.vertexCount());
+        heap.insert(from, 0);
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                int target = adjacency.target(edge);
+                int distance = distances[current] + adjacency.weight(edge);
+                if (distance >= 0 && distance < distances[target]) {
+                    distances[target] = distance;
+                    parents[target] = current;
+                    heap.insertOrDecrease(target, distance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dijkstra algorithm implementation for finding shortest path between two vertices
+     * Should be used only for weighted graphs
+     * Otherwise {@link PathFinder#findPathByBfs(int, int, SearchContext, IntList)} is preferable due to its lower time complexity
+     *
+     * Search stops as soon as {to} vertex is settled, so only the part of the graph closer to {from} than {to}
+     * is explored
+     *
+     * @return {@code false} if {to} is not reachable
+     */
+    private boolean findPathByDijkstra(int from, int to, SearchContext<?> context, IntList path) {
+
+        var state = context.forward();
+
+        state.relax(from, 0, NO_PARENT);
+        while (state.hasNext()) {
+
+            int current = state.settleNext();
+            if (current == to) {
+                break;
+            }
+
+            int currentDistance = state.distance(current);
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                int distance = currentDistance + adjacency.weight(edge);
+                if (distance >= 0) {
+                    state.relax(adjacency.target(edge), distance, current);
+                }
+            }
+
+        }
+        return Graph.toPath(state, from, to, path);
+
+    }
+
+    /**
+     * Dijkstra algorithm implementation for finding distances from one vertex to many
+     * Search stops as soon as all {targetCount} vertices marked in {isTarget} are settled
+     *
+     * @return distances to {targets} in the same order
+     */
+    int[] distancesByDijkstra(int from, int[] targets, boolean[] isTarget, int targetCount, SearchContext<?> context) {
+
+        var state = context.forward();
+        int remaining = targetCount;
+
+        state.relax(from, 0, NO_PARENT);
+        while (remaining > 0 && state.hasNext()) {
+
+            int current = state.settleNext();
+            if (isTarget[current]) {
+                remaining--;
+            }
+
+            int currentDistance = state.distance(current);
+            for (int edge = adjacency.begin(current), end = adjacency.end(current); edge < end; edge++) {
+                int distance = currentDistance + adjacency.weight(edge);
+                if (distance >= 0) {
+                    state.relax(adjacency.target(edge), distance, current);
+                }
+            }
+
+        }
+
+        var distances = new int[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            distances[i] = state.isSettled(targets[i]) ? state.distance(targets[i]) : INFINITY_DISTANCE_VALUE;
+        }
+        return distances;
+
+    }
+
+    /**
+     * Bidirectional BFS implementation for finding shortest path between two vertices in unweighted graph
+     * On each step the smaller of two frontiers is expanded by a whole level. First vertex discovered
+     * by both searches lies on a shortest path, because no meeting was found on the previous levels
+     *
+     * Each queue keeps all vertices discovered by its side, the current level is its tail starting at {@code start}
+     *
+     * @return {@code false} if {to} is not reachable
+     */
+    private boolean findPathByBidirectionalBfs(int from, int to, SearchContext<?> context, IntList path) {
+
+        var forward = context.forward();
+        var backward = context.backward();
+        var forwardQueue = context.forwardQueue();
+        var backwardQueue = context.backwardQueue();
+
+        forward.reach(from, 0, NO_PARENT);
+        forwardQueue.add(from);
+        backward.reach(to, 0, NO_PARENT);
+        backwardQueue.add(to);
+        int forwardStart = 0;
+        int backwardStart = 0;
+        while (forwardStart < forwardQueue.size() && backwardStart < backwardQueue.size()) {
+            int meeting;
+            if (forwardQueue.size() - forwardStart <= backwardQueue.size() - backwardStart) {
+                int end = forwardQueue.size();
+                meeting = expandLevel(adjacency, forward, forwardQueue, forwardStart, backward);
+                forwardStart = end;
+            } else {
+                int end = backwardQueue.size();
+                meeting = expandLevel(reverseAdjacency, backward, backwardQueue, backwardStart, forward);
+                backwardStart = end;
+            }
+            if (meeting != NO_PARENT) {
+                Graph.toPath(forward, backward, meeting, path);
+                return true;
+            }
+        }
+        return false;
+
+    }
+
+    /**
+     * Appends the next level of one side of the bidirectional BFS to its {queue}
+     *
+     * @return first discovered vertex which is already reached by the {other} side
+     * or {@link PathFinder#NO_PARENT} if there is no such vertex
+     */
+    private static int expandLevel(Adjacency adjacency, SearchState state, IntList queue, int start, SearchState other) {
+        for (int i = start, end = queue.size(); i < end; i++) {
+            int current = queue.get(i);
+            int distance = state.distance(current) + 1;
+            for (int edge = adjacency.begin(current), edgeEnd = adjacency.end(current); edge < edgeEnd; edge++) {
+                int target = adjacency.target(edge);
+                if (state.reach(target, distance, current)) {
+                    if (other.isReached(target)) {
+                        return target;
+                    }
+                    queue.add(target);
+                }
+            }
+        }
+        return NO_PARENT;
+    }
+
+    /**
+     * Bidirectional Dijkstra algorithm implementation for finding shortest path between two vertices
+     * Forward search runs over {@link PathFinder#adjacency} from {from}, backward search runs over
+     * {@link PathFinder#reverseAdjacency} from {to}, each step advances the one with the closer top vertex.
+     *
+     * Every scanned edge updates the best known path length {@code mu} via the vertex both searches have reached.
+     * Search stops when the sum of the top distances of both heaps is not less than {@code mu}
+     *
+     * @return {@code false} if {to} is not reachable
+     */
+    private boolean findPathByBidirectionalDijkstra(int from, int to, SearchContext<?> context, IntList path) {
+
+        var forward = context.forward();
+        var backward = context.backward();
+        long bestDistance = INFINITY_DISTANCE_VALUE;
+        int meeting = NO_PARENT;
+
+        forward.relax(from, 0, NO_PARENT);
+        backward.relax(to, 0, NO_PARENT);
+        while (true) {
+
+            long forwardTop = forward.hasNext() ? forward.peekDistance() : INFINITY_DISTANCE_VALUE;
+            long backwardTop = backward.hasNext() ? backward.peekDistance() : INFINITY_DISTANCE_VALUE;
+            if (forwardTop + backwardTop >= bestDistance) {
+                break;
+            }
+
+            boolean isForward = forwardTop <= backwardTop;
+            var state = isForward ? forward : backward;
+            var other = isForward ? backward : forward;
+            var edges = isForward ? adjacency : reverseAdjacency;
+
+            int current = state.settleNext();
+            int currentDistance = state.distance(current);
+            for (int edge = edges.begin(current), end = edges.end(current); edge < end; edge++) {
+                int target = edges.target(edge);
+                int distance = currentDistance + edges.weight(edge);
+                if (distance >= 0) {
+                    state.relax(target, distance, current);
+                    long candidate = (long) state.distance(target) + other.distance(target);
+                    if (candidate < bestDistance) {
+                        bestDistance = candidate;
+                        meeting = target;
+                    }
+                }
+            }
+
+        }
+
+        if (meeting == NO_PARENT) {
+            return false;
+        }
+        Graph.toPath(forward, backward, meeting, path);
+        return true;
+
+    }
+
+}
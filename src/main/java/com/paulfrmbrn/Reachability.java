@@ -0,0 +1,311 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reachability index of a {@link Graph}, computed by {@link Graph#reachability()}
+ *
+ * Vertices are grouped into strongly connected components by an iterative Tarjan's algorithm, so the depth of the graph
+ * is not limited by the thread stack. Components are numbered in the order Tarjan's algorithm completes them,
+ * which is a reverse topological order: each edge between components goes from a greater number to a smaller one.
+ * Edges between components form the condensation, which is a DAG
+ *
+ * Each component of the condensation gets {@link Reachability#LABEL_COUNT} intervals in the manner of GRAIL
+ * (H. Yildirim, V. Chaoji, M. Zaki): a depth-first traversal ranks components in post order, and the interval
+ * of a component spans from the lowest rank of the components reachable from it to its own rank. Traversals
+ * visit children in different orders, so a component not reachable from another one is very likely to have
+ * an interval not nested into the interval of that one in some of them. Nested numbers and intervals are
+ * necessary for reachability, so a query which fails them is answered in O(1), and the rest is answered by
+ * a search over the condensation pruned by the same test
+ *
+ * Instance is immutable and can be safely shared between threads
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+public final class Reachability<T> {
+
+    static final int LABEL_COUNT = 2;
+
+    private static final int NOT_VISITED = -1;
+
+    private final Graph<T> graph;
+    private final int[] components;
+    private final int componentCount;
+    // edges of the condensation, rows are ascending and have no duplicates
+    private final int[] offsets;
+    private final int[] targets;
+    // lowest rank and own rank of the component {@code c} in the traversal {@code i}
+    // are {@code labels[2 * (c * LABEL_COUNT + i)]} and the next one
+    private final int[] labels;
+
+    Reachability(@Nonnull Graph<T> graph, @Nonnull Adjacency adjacency) {
+        this.graph = requireNonNull(graph, "graph");
+        requireNonNull(adjacency, "adjacency");
+        this.components = new int[adjacency.vertexCount()];
+        this.componentCount = findComponents(adjacency, components);
+
+        this.offsets = new int[componentCount + 1];
+        this.targets = condense(adjacency, components, offsets);
+
+        if (2L * componentCount * LABEL_COUNT > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many strongly connected components to label");
+        }
+        this.labels = new int[2 * componentCount * LABEL_COUNT];
+        for (int traversal = 0; traversal < LABEL_COUNT; traversal++) {
+            rank(traversal);
+        }
+    }
+
+    /**
+     * @return count of strongly connected components
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * @return number of the strongly connected component the {vertex} belongs to, edges between components
+     * go from greater numbers to smaller ones
+     * @throws IllegalArgumentException if vertex does not belong to the graph
+     */
+    public int componentOf(@Nonnull Vertex<T> vertex) {
+        return components[graph.indexOf(vertex)];
+    }
+
+    /**
+     * @return {@code true} if there is a path from {from} to {to}, every vertex is reachable from itself
+     * @throws IllegalArgumentException if any of the vertices does not belong to the graph
+     */
+    public boolean isReachable(@Nonnull Vertex<T> from, @Nonnull Vertex<T> to) {
+        int source = components[graph.indexOf(from)];
+        int target = components[graph.indexOf(to)];
+        if (source == target) {
+            return true;
+        }
+        if (!mayReach(source, target)) {
+            return false;
+        }
+
+        var visited = new VisitedSet(componentCount);
+        var stack = new IntList();
+        visited.add(source);
+        stack.add(source);
+        while (stack.size() > 0) {
+            int current = stack.pop();
+            for (int edge = offsets[current], end = offsets[current + 1]; edge < end; edge++) {
+                int next = targets[edge];
+                if (next == target) {
+                    return true;
+                }
+                if (mayReach(next, target) && visited.add(next)) {
+                    stack.add(next);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the index proves that there is no path from the vertex {@code from} to {@code to}
+     * without any search, {@code false} if there may be a path
+     */
+    boolean isNotReachable(int from, int to) {
+        int source = components[from];
+        int target = components[to];
+        return source != target && !mayReach(source, target);
+    }
+
+    /**
+     * @return {@code false} if the component {@code target} is certainly not reachable from {@code source}
+     */
+    private boolean mayReach(int source, int target) {
+        if (source < target) {
+            return false;
+        }
+        int sourceLabels = 2 * source * LABEL_COUNT;
+        int targetLabels = 2 * target * LABEL_COUNT;
+        for (int i = 0; i < 2 * LABEL_COUNT; i += 2) {
+            if (labels[sourceLabels + i] > labels[targetLabels + i]
+                    || labels[targetLabels + i + 1] > labels[sourceLabels + i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the component of each vertex into {components} by iterative Tarjan's algorithm
+     *
+     * @return count of components
+     */
+    private static int findComponents(Adjacency adjacency, int[] components) {
+        int vertexCount = adjacency.vertexCount();
+        var discovered = new int[vertexCount];
+        var lows = new int[vertexCount];
+        Arrays.fill(discovered, NOT_VISITED);
+        Arrays.fill(components, NOT_VISITED);
+        // vertices of not completed components, and the path of the search with the next edge of each of its vertices
+        var open = new IntList();
+        var path = new IntList();
+        var nextEdges = new IntList();
+        int discoveredCount = 0;
+        int componentCount = 0;
+
+        for (int root = 0; root < vertexCount; root++) {
+            if (discovered[root] != NOT_VISITED) {
+                continue;
+            }
+            discovered[root] = lows[root] = discoveredCount++;
+            open.add(root);
+            path.add(root);
+            nextEdges.add(adjacency.begin(root));
+            while (path.size() > 0) {
+                int top = path.size() - 1;
+                int current = path.get(top);
+                int edge = nextEdges.get(top);
+                if (edge < adjacency.end(current)) {
+                    nextEdges.set(top, edge + 1);
+                    int target = adjacency.target(edge);
+                    if (discovered[target] == NOT_VISITED) {
+                        discovered[target] = lows[target] = discoveredCount++;
+                        open.add(target);
+                        path.add(target);
+                        nextEdges.add(adjacency.begin(target));
+                    } else if (components[target] == NOT_VISITED) {
+                        lows[current] = Math.min(lows[current], discovered[target]);
+                    }
+                    continue;
+                }
+
+                path.pop();
+                nextEdges.pop();
+                if (lows[current] == discovered[current]) {
+                    int member;
+                    do {
+                        member = open.pop();
+                        components[member] = componentCount;
+                    } while (member != current);
+                    componentCount++;
+                }
+                if (path.size() > 0) {
+                    int parent = path.get(path.size() - 1);
+                    lows[parent] = Math.min(lows[parent], lows[current]);
+                }
+            }
+        }
+        return componentCount;
+    }
+
+    /**
+     * Writes offsets of the condensation rows into {offsets}
+     *
+     * @return targets of the condensation edges
+     */
+    private static int[] condense(Adjacency adjacency, int[] components, int[] offsets) {
+        int vertexCount = adjacency.vertexCount();
+        int componentCount = offsets.length - 1;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int edge = adjacency.begin(vertex), end = adjacency.end(vertex); edge < end; edge++) {
+                if (components[adjacency.target(edge)] != components[vertex]) {
+                    offsets[components[vertex] + 1]++;
+                }
+            }
+        }
+        for (int component = 0; component < componentCount; component++) {
+            offsets[component + 1] += offsets[component];
+        }
+        var targets = new int[offsets[componentCount]];
+        var positions = Arrays.copyOf(offsets, componentCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int edge = adjacency.begin(vertex), end = adjacency.end(vertex); edge < end; edge++) {
+                int target = components[adjacency.target(edge)];
+                if (target != components[vertex]) {
+                    targets[positions[components[vertex]]++] = target;
+                }
+            }
+        }
+
+        // rows are sorted and compacted in place, each row moves only towards the beginning
+        int position = 0;
+        for (int component = 0; component < componentCount; component++) {
+            int begin = offsets[component];
+            int end = offsets[component + 1];
+            Arrays.sort(targets, begin, end);
+            offsets[component] = position;
+            for (int edge = begin; edge < end; edge++) {
+                if (edge == begin || targets[edge] != targets[edge - 1]) {
+                    targets[position++] = targets[edge];
+                }
+            }
+        }
+        offsets[componentCount] = position;
+        return Arrays.copyOf(targets, position);
+    }
+
+    /**
+     * Ranks components by a depth-first traversal of the condensation, even traversals visit roots and children
+     * in ascending order and odd ones in descending order
+     */
+    private void rank(int traversal) {
+        boolean isAscending = traversal % 2 == 0;
+        var isVisited = new boolean[componentCount];
+        var path = new IntList();
+        var nextEdges = new IntList();
+        int rankCount = 0;
+
+        for (int i = 0; i < componentCount; i++) {
+            int root = isAscending ? i : componentCount - 1 - i;
+            if (isVisited[root]) {
+                continue;
+            }
+            isVisited[root] = true;
+            setLow(root, traversal, Integer.MAX_VALUE);
+            path.add(root);
+            nextEdges.add(0);
+            while (path.size() > 0) {
+                int top = path.size() - 1;
+                int current = path.get(top);
+                int step = nextEdges.get(top);
+                if (step < offsets[current + 1] - offsets[current]) {
+                    nextEdges.set(top, step + 1);
+                    int child = targets[isAscending ? offsets[current] + step : offsets[current + 1] - 1 - step];
+                    if (!isVisited[child]) {
+                        isVisited[child] = true;
+                        setLow(child, traversal, Integer.MAX_VALUE);
+                        path.add(child);
+                        nextEdges.add(0);
+                    } else {
+                        // condensation has no cycles, so a visited child is already ranked
+                        setLow(current, traversal, Math.min(low(current, traversal), low(child, traversal)));
+                    }
+                    continue;
+                }
+
+                path.pop();
+                nextEdges.pop();
+                int rank = rankCount++;
+                labels[2 * (current * LABEL_COUNT + traversal) + 1] = rank;
+                setLow(current, traversal, Math.min(low(current, traversal), rank));
+                if (path.size() > 0) {
+                    int parent = path.get(path.size() - 1);
+                    setLow(parent, traversal, Math.min(low(parent, traversal), low(current, traversal)));
+                }
+            }
+        }
+    }
+
+    private int low(int component, int traversal) {
+        return labels[2 * (component * LABEL_COUNT + traversal)];
+    }
+
+    private void setLow(int component, int traversal, int low) {
+        labels[2 * (component * LABEL_COUNT + traversal)] = low;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reusable workspace for repeated searches over the same {@link Graph}, see {@link Graph#newSearchContext()},
+ * the same {@link IntGraph}, see {@link IntGraph#newSearchContext()}, or snapshots of the same {@link ConcurrentGraph},
+ * see {@link ConcurrentGraph#newSearchContext()}
+ *
+ * Holds distances, parents and visited marks for every vertex of the graph together with the heap, the queues
+ * and the path buffer. All of them are allocated on first use and then reset between queries in time proportional
+ * to the count of vertices touched by the previous query, so once warmed up queries run with a context
+ * allocate no memory besides what the consumer does
+ *
+ * Instance is mutable and is not thread-safe, use one context per thread
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+public final class SearchContext<T> {
+
+    private final Object graph;
+    private final int vertexCount;
+    private final boolean isStamped;
+
+    private SearchState forward;
+    private SearchState backward;
+    private VisitedSet visited;
+    private final IntQueue queue = new IntQueue();
+    private final IntList forwardQueue = new IntList();
+    private final IntList backwardQueue = new IntList();
+    private final IntList path = new IntList();
+    private final IntList stack = new IntList();
+
+    /**
+     * @param graph graph the context is created by
+     * @param vertexCount count of vertices of the graph
+     * @param isStamped {@code true} for the reusable context sized to the whole graph,
+     *                  {@code false} for a throwaway one which grows with the count of touched vertices
+     */
+    SearchContext(@Nonnull Object graph, int vertexCount, boolean isStamped) {
+        this.graph = requireNonNull(graph, "graph");
+        this.vertexCount = vertexCount;
+        this.isStamped = isStamped;
+    }
+
+    boolean belongsTo(Object graph) {
+        return this.graph == graph;
+    }
+
+    /**
+     * @return state of the search from the source, reset for a new query
+     */
+    SearchState forward() {
+        if (forward == null) {
+            forward = newState();
+        } else {
+            forward.reset();
+        }
+        return forward;
+    }
+
+    /**
+     * @return state of the backward search from the target, reset for a new query
+     */
+    SearchState backward() {
+        if (backward == null) {
+            backward = newState();
+        } else {
+            backward.reset();
+        }
+        return backward;
+    }
+
+    /**
+     * @return empty set of visited vertices for breadth-first searches
+     */
+    VisitedSet visited() {
+        if (visited == null) {
+            visited = new VisitedSet(vertexCount);
+        } else {
+            visited.clear();
+        }
+        return visited;
+    }
+
+    IntQueue queue() {
+        queue.clear();
+        return queue;
+    }
+
+    IntList forwardQueue() {
+        forwardQueue.clear();
+        return forwardQueue;
+    }
+
+    IntList backwardQueue() {
+        backwardQueue.clear();
+        return backwardQueue;
+    }
+
+    IntList path() {
+        path.clear();
+        return path;
+    }
+
+    IntList stack() {
+        stack.clear();
+        return stack;
+    }
+
+    private SearchState newState() {
+        return isStamped ? new StampedSearchState(vertexCount) : new SparseSearchState();
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.paulfrmbrn;
+
+/**
+ * Defines how {@link Graph#findPath(Vertex, Vertex, SearchMode, java.util.function.Consumer)} explores the graph
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+public enum SearchMode {
+
+    /**
+     * Search goes forward from the {from} vertex only
+     */
+    UNIDIRECTIONAL,
+
+    /**
+     * Search goes forward from the {from} vertex and backward from the {to} vertex at the same time
+     * and stops once the two searches meet. Usually explores far fewer vertices on long distance queries
+     */
+    BIDIRECTIONAL
+
+}
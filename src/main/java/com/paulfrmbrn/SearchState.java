@@ -0,0 +1,78 @@
+package com.paulfrmbrn;
+
+/**
+ * Per-query state of a search over dense vertex indices: tentative distances, parents, settled marks
+ * and the heap of scheduled vertices
+ *
+ * {@link SparseSearchState} allocates memory only for vertices touched by the search and suits one-off queries,
+ * {@link StampedSearchState} is sized to the whole graph once and is reused by {@link SearchContext} between queries
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+abstract class SearchState {
+
+    static final int NO_PARENT = -1;
+
+    /**
+     * @return distance to the vertex or {@link Graph#INFINITY_DISTANCE_VALUE} if vertex was not reached
+     */
+    abstract int distance(int vertex);
+
+    /**
+     * @return parent of the vertex or {@link SearchState#NO_PARENT} if vertex was not reached or is the source
+     */
+    abstract int parent(int vertex);
+
+    abstract boolean isSettled(int vertex);
+
+    boolean isReached(int vertex) {
+        return distance(vertex) != Graph.INFINITY_DISTANCE_VALUE;
+    }
+
+    /**
+     * Records distance and parent of the vertex reached for the first time without scheduling it in the heap,
+     * as breadth-first searches do
+     *
+     * @return {@code true} if the vertex was not reached before
+     */
+    abstract boolean reach(int vertex, int distance, int parent);
+
+    /**
+     * Records new tentative distance and parent for the vertex if it is shorter than the known one
+     * and schedules the vertex in the heap
+     *
+     * @return {@code true} if the distance was improved
+     */
+    boolean relax(int vertex, int distance, int parent) {
+        return relax(vertex, distance, distance, parent);
+    }
+
+    /**
+     * Same as {@link SearchState#relax(int, int, int)}, but the vertex is ordered in the heap by {priority}
+     * instead of the distance. Priority of the vertex should not grow while its distance decreases
+     */
+    abstract boolean relax(int vertex, int distance, int priority, int parent);
+
+    abstract boolean hasNext();
+
+    /**
+     * @return priority (the distance unless specified otherwise) of the vertex to be settled next
+     */
+    abstract int peekDistance();
+
+    /**
+     * Removes the closest scheduled vertex from the heap and marks it settled
+     *
+     * @return settled vertex
+     */
+    abstract int settleNext();
+
+    /**
+     * Forgets all reached vertices, so the instance can be used for the next query
+     */
+    abstract void reset();
+
+}
@@ -0,0 +1,78 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Shortest paths from a single source vertex to all vertices of the {@link Graph}, computed by
+ * {@link Graph#shortestPathTree(Vertex)} or {@link Graph#shortestPathTreeParallel(Vertex)}
+ *
+ * Keeps only two int arrays indexed by vertex: distances from the source and parents on the shortest paths,
+ * so a distance is read in O(1) and a path in O(path length) without running the search again
+ *
+ * Instance is immutable and can be safely shared between threads
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+public final class ShortestPathTree<T> {
+
+    private static final int NO_PARENT = SearchState.NO_PARENT;
+
+    private final Graph<T> graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+
+    ShortestPathTree(@Nonnull Graph<T> graph, int source, @Nonnull int[] distances, @Nonnull int[] parents) {
+        this.graph = requireNonNull(graph, "graph");
+        this.source = source;
+        this.distances = requireNonNull(distances, "distances");
+        this.parents = requireNonNull(parents, "parents");
+    }
+
+    /**
+     * @return vertex the paths start from
+     */
+    public Vertex<T> getSource() {
+        return graph.vertexAt(source);
+    }
+
+    public boolean isReachable(@Nonnull Vertex<T> to) {
+        return distances[graph.indexOf(to)] != Graph.INFINITY_DISTANCE_VALUE;
+    }
+
+    /**
+     * @return length of the shortest path from the source to {to}
+     * or {@link Graph#INFINITY_DISTANCE_VALUE} if {to} is not reachable
+     */
+    public int getDistance(@Nonnull Vertex<T> to) {
+        return distances[graph.indexOf(to)];
+    }
+
+    /**
+     * Applies specified action to each Vertex's value on the shortest path from the source to {to}
+     *
+     * @throws IllegalStateException if {to} is not reachable from the source
+     */
+    public void findPath(@Nonnull Vertex<T> to, @Nonnull Consumer<T> consumer) {
+        int toIndex = graph.indexOf(to);
+        requireNonNull(consumer, "consumer");
+        if (distances[toIndex] == Graph.INFINITY_DISTANCE_VALUE) {
+            throw new IllegalStateException("Vertex 'to' is not reachable from vertex 'from'");
+        }
+
+        var path = new IntList();
+        for (int vertex = toIndex; vertex != NO_PARENT; vertex = parents[vertex]) {
+            path.add(vertex);
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            consumer.accept(graph.vertexAt(path.get(i)).getValue());
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.paulfrmbrn;
+
+import java.util.Arrays;
+
+/**
+ * {@link SearchState} that allocates memory only for vertices touched by the search
+ *
+ * Every touched vertex is given a dense slot on the first access. Distances, parents and settled marks are stored
+ * in slot-indexed arrays and {@link IndexedHeap} is addressed by slots as well, so a local query on a huge graph
+ * costs memory proportional to its search space rather than to the count of vertices in the graph
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class SparseSearchState extends SearchState {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY_KEY = -1;
+    private static final int ABSENT = -1;
+
+    private int[] keys;
+    private int[] keySlots;
+    private int mask;
+
+    private int[] vertices;
+    private int[] distances;
+    private int[] parents;
+    private boolean[] settled;
+    private int size;
+
+    private final IndexedHeap heap;
+
+    SparseSearchState() {
+        this.keys = new int[INITIAL_CAPACITY * 2];
+        this.keySlots = new int[INITIAL_CAPACITY * 2];
+        this.mask = keys.length - 1;
+        Arrays.fill(keys, EMPTY_KEY);
+        this.vertices = new int[INITIAL_CAPACITY];
+        this.distances = new int[INITIAL_CAPACITY];
+        this.parents = new int[INITIAL_CAPACITY];
+        this.settled = new boolean[INITIAL_CAPACITY];
+        this.heap = new IndexedHeap(INITIAL_CAPACITY);
+    }
+
+    @Override
+    int distance(int vertex) {
+        int slot = find(vertex);
+        return slot == ABSENT ? Graph.INFINITY_DISTANCE_VALUE : distances[slot];
+    }
+
+    @Override
+    int parent(int vertex) {
+        int slot = find(vertex);
+        return slot == ABSENT ? NO_PARENT : parents[slot];
+    }
+
+    @Override
+    boolean isSettled(int vertex) {
+        int slot = find(vertex);
+        return slot != ABSENT && settled[slot];
+    }
+
+    @Override
+    boolean reach(int vertex, int distance, int parent) {
+        int slot = slotOf(vertex);
+        if (distances[slot] != Graph.INFINITY_DISTANCE_VALUE) {
+            return false;
+        }
+        distances[slot] = distance;
+        parents[slot] = parent;
+        return true;
+    }
+
+    @Override
+    boolean relax(int vertex, int distance, int priority, int parent) {
+        int slot = slotOf(vertex);
+        if (settled[slot] || distance >= distances[slot]) {
+            return false;
+        }
+        distances[slot] = distance;
+        parents[slot] = parent;
+        heap.insertOrDecrease(slot, priority);
+        return true;
+    }
+
+    @Override
+    boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    @Override
+    int peekDistance() {
+        return heap.peekKey();
+    }
+
+    @Override
+    int settleNext() {
+        int slot = heap.poll();
+        settled[slot] = true;
+        return vertices[slot];
+    }
+
+    @Override
+    void reset() {
+        Arrays.fill(keys, EMPTY_KEY);
+        Arrays.fill(settled, 0, size, false);
+        heap.clear();
+        size = 0;
+    }
+
+    private int slotOf(int vertex) {
+        int position = mix(vertex) & mask;
+        int key;
+        while ((key = keys[position]) != EMPTY_KEY) {
+            if (key == vertex) {
+                return keySlots[position];
+            }
+            position = (position + 1) & mask;
+        }
+        if (size == vertices.length) {
+            grow();
+            return slotOf(vertex);
+        }
+        int slot = size++;
+        keys[position] = vertex;
+        keySlots[position] = slot;
+        vertices[slot] = vertex;
+        distances[slot] = Graph.INFINITY_DISTANCE_VALUE;
+        parents[slot] = NO_PARENT;
+        return slot;
+    }
+
+    private int find(int vertex) {
+        int position = mix(vertex) & mask;
+        int key;
+        while ((key = keys[position]) != EMPTY_KEY) {
+            if (key == vertex) {
+                return keySlots[position];
+            }
+            position = (position + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private void grow() {
+        int capacity = vertices.length * 2;
+        vertices = Arrays.copyOf(vertices, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        settled = Arrays.copyOf(settled, capacity);
+
+        keys = new int[capacity * 2];
+        keySlots = new int[capacity * 2];
+        mask = keys.length - 1;
+        Arrays.fill(keys, EMPTY_KEY);
+        for (int slot = 0; slot < size; slot++) {
+            int position = mix(vertices[slot]) & mask;
+            while (keys[position] != EMPTY_KEY) {
+                position = (position + 1) & mask;
+            }
+            keys[position] = vertices[slot];
+            keySlots[position] = slot;
+        }
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+}
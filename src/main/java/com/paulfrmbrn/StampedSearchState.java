@@ -0,0 +1,104 @@
+package com.paulfrmbrn;
+
+import java.util.Arrays;
+
+/**
+ * {@link SearchState} backed by arrays sized to the count of vertices, which are allocated once and reused
+ *
+ * Every query gets a new generation number. Distance and parent of a vertex are valid only if the vertex is stamped
+ * with the current generation, and a vertex is settled only if its settled stamp is the current generation,
+ * so {@link StampedSearchState#reset()} takes O(1) time plus clearing of the heap, which holds only touched vertices
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class StampedSearchState extends SearchState {
+
+    private static final int INITIAL_HEAP_CAPACITY = 16;
+    private static final int NO_GENERATION = 0;
+
+    private final int[] stamps;
+    private final int[] settledStamps;
+    private final int[] distances;
+    private final int[] parents;
+    private final IndexedHeap heap;
+    private int generation;
+
+    StampedSearchState(int vertexCount) {
+        this.stamps = new int[vertexCount];
+        this.settledStamps = new int[vertexCount];
+        this.distances = new int[vertexCount];
+        this.parents = new int[vertexCount];
+        this.heap = new IndexedHeap(Math.min(vertexCount, INITIAL_HEAP_CAPACITY));
+        this.generation = NO_GENERATION + 1;
+    }
+
+    @Override
+    int distance(int vertex) {
+        return stamps[vertex] == generation ? distances[vertex] : Graph.INFINITY_DISTANCE_VALUE;
+    }
+
+    @Override
+    int parent(int vertex) {
+        return stamps[vertex] == generation ? parents[vertex] : NO_PARENT;
+    }
+
+    @Override
+    boolean isSettled(int vertex) {
+        return settledStamps[vertex] == generation;
+    }
+
+    @Override
+    boolean reach(int vertex, int distance, int parent) {
+        if (stamps[vertex] == generation) {
+            return false;
+        }
+        stamps[vertex] = generation;
+        distances[vertex] = distance;
+        parents[vertex] = parent;
+        return true;
+    }
+
+    @Override
+    boolean relax(int vertex, int distance, int priority, int parent) {
+        if (stamps[vertex] != generation) {
+            stamps[vertex] = generation;
+        } else if (settledStamps[vertex] == generation || distance >= distances[vertex]) {
+            return false;
+        }
+        distances[vertex] = distance;
+        parents[vertex] = parent;
+        heap.insertOrDecrease(vertex, priority);
+        return true;
+    }
+
+    @Override
+    boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    @Override
+    int peekDistance() {
+        return heap.peekKey();
+    }
+
+    @Override
+    int settleNext() {
+        int vertex = heap.poll();
+        settledStamps[vertex] = generation;
+        return vertex;
+    }
+
+    @Override
+    void reset() {
+        heap.clear();
+        if (++generation == NO_GENERATION) {
+            Arrays.fill(stamps, NO_GENERATION);
+            Arrays.fill(settledStamps, NO_GENERATION);
+            generation++;
+        }
+    }
+
+}
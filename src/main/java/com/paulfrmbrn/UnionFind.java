@@ -0,0 +1,66 @@
+package com.paulfrmbrn;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Disjoint sets of dense vertex indices, each set is represented by a tree of parent links
+ *
+ * Sets are united by size, smaller tree goes under the root of the larger one, and {@link UnionFind#find(int)}
+ * halves the path it walks, so any sequence of operations takes almost linear time
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@NotThreadSafe
+final class UnionFind {
+
+    private final int[] parents;
+    private final int[] sizes;
+
+    UnionFind(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count can not be negative");
+        }
+        this.parents = new int[count];
+        this.sizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            parents[i] = i;
+            sizes[i] = 1;
+        }
+    }
+
+    /**
+     * @return root of the set containing the {element}
+     */
+    int find(int element) {
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    /**
+     * Unites sets containing {@code first} and {@code second}
+     *
+     * @return {@code false} if they are already in the same set
+     */
+    boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot) {
+            return false;
+        }
+        if (sizes[firstRoot] < sizes[secondRoot]) {
+            int swap = firstRoot;
+            firstRoot = secondRoot;
+            secondRoot = swap;
+        }
+        parents[secondRoot] = firstRoot;
+        sizes[firstRoot] += sizes[secondRoot];
+        return true;
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes and reads values (payloads) of vertices for {@link Graph#writeTo(java.nio.file.Path, ValueCodec)}
+ * and {@link Graph#load(java.nio.file.Path, ValueCodec)}
+ *
+ * Values of all vertices are written one after another, so the codec has to know where each of them ends,
+ * e.g. by writing the length first. {@link ValueCodec#read(DataInput)} should return a value equal to the written one
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+public interface ValueCodec<T> {
+
+    void write(@Nonnull T value, @Nonnull DataOutput output) throws IOException;
+
+    @Nonnull
+    T read(@Nonnull DataInput input) throws IOException;
+
+    /**
+     * Codec of strings of any length as an int byte count followed by the UTF-8 bytes
+     */
+    static ValueCodec<String> ofStrings() {
+        return new ValueCodec<>() {
+
+            @Override
+            public void write(@Nonnull String value, @Nonnull DataOutput output) throws IOException {
+                var bytes = value.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+
+            @Nonnull
+            @Override
+            public String read(@Nonnull DataInput input) throws IOException {
+                var bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+
+        };
+    }
+
+    static ValueCodec<Integer> ofIntegers() {
+        return new ValueCodec<>() {
+
+            @Override
+            public void write(@Nonnull Integer value, @Nonnull DataOutput output) throws IOException {
+                output.writeInt(value);
+            }
+
+            @Nonnull
+            @Override
+            public Integer read(@Nonnull DataInput input) throws IOException {
+                return input.readInt();
+            }
+
+        };
+    }
+
+    static ValueCodec<Long> ofLongs() {
+        return new ValueCodec<>() {
+
+            @Override
+            public void write(@Nonnull Long value, @Nonnull DataOutput output) throws IOException {
+                output.writeLong(value);
+            }
+
+            @Nonnull
+            @Override
+            public Long read(@Nonnull DataInput input) throws IOException {
+                return input.readLong();
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Adjacency of a {@link ConcurrentGraph} version, which shares all unchanged rows with the previous versions
+ *
+ * Edges are kept in an append-only {@link Arena} and never change once written. A row of a vertex is a range
+ * of edge positions in the arena, ranges are kept in pages of {@link VersionedAdjacency#PAGE_SIZE} vertices.
+ * Changing a row appends the whole new row to the arena and copies only the page of the vertex and the array
+ * of page references, so a new version takes memory proportional to the row and the count of pages,
+ * while readers of older versions keep seeing their rows unchanged
+ *
+ * Unlike other adjacencies positions of edges are not dense: rows of a vertex follow no particular order
+ * and rows replaced by newer versions leave gaps, so {@link Adjacency#edgeCount()} is the count of edges
+ * in the rows and not the bound of positions. Instance is for searches only, compact it
+ * by {@link VersionedAdjacency#compact()} to copy or write it
+ *
+ * Instance is immutable once constructed
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+final class VersionedAdjacency extends Adjacency {
+
+    static final int NOT_FOUND = -1;
+
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final int vertexCount;
+    private final int edgeCount;
+    // begin of the row in the high half and its length in the low half for each vertex
+    private final long[][] pages;
+    private final int[][] targetChunks;
+    private final int[][] weightChunks;
+
+    private VersionedAdjacency(int vertexCount, int edgeCount, long[][] pages, Arena arena) {
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.pages = pages;
+        this.targetChunks = arena.targetChunks;
+        this.weightChunks = arena.weightChunks;
+    }
+
+    /**
+     * Copies rows of the {source} to the end of the {arena}
+     */
+    static VersionedAdjacency copyOf(@Nonnull Adjacency source, @Nonnull Arena arena) {
+        requireNonNull(source, "source");
+        requireNonNull(arena, "arena");
+        int vertexCount = source.vertexCount();
+        var pages = new long[(vertexCount + PAGE_SIZE - 1) >>> PAGE_SHIFT][];
+        int edgeCount = 0;
+        for (int page = 0; page < pages.length; page++) {
+            pages[page] = new long[Math.min(PAGE_SIZE, vertexCount - (page << PAGE_SHIFT))];
+            for (int offset = 0; offset < pages[page].length; offset++) {
+                int vertex = (page << PAGE_SHIFT) + offset;
+                int begin = arena.size();
+                for (int edge = source.begin(vertex), end = source.end(vertex); edge < end; edge++) {
+                    arena.add(source.target(edge), source.weight(edge));
+                }
+                pages[page][offset] = row(begin, arena.size() - begin);
+                edgeCount += arena.size() - begin;
+            }
+        }
+        return new VersionedAdjacency(vertexCount, edgeCount, pages, arena);
+    }
+
+    /**
+     * @return position of the edge {@code vertex -> target} or {@link VersionedAdjacency#NOT_FOUND} if there is none
+     */
+    int find(int vertex, int target) {
+        for (int edge = begin(vertex), end = end(vertex); edge < end; edge++) {
+            if (target(edge) == target) {
+                return edge;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Appends the row of the {vertex} with the edge to the {target} added, replaced or removed to the {arena}
+     *
+     * @param weight weight of the edge or {@link VersionedAdjacency#NOT_FOUND} to remove it
+     * @return new version where the {vertex} has the appended row
+     */
+    VersionedAdjacency withEdge(@Nonnull Arena arena, int vertex, int target, int weight) {
+        int begin = arena.size();
+        boolean isFound = false;
+        for (int edge = begin(vertex), end = end(vertex); edge < end; edge++) {
+            if (target(edge) != target) {
+                arena.add(target(edge), weight(edge));
+            } else if (weight != NOT_FOUND) {
+                arena.add(target, weight);
+                isFound = true;
+            }
+        }
+        if (!isFound && weight != NOT_FOUND) {
+            arena.add(target, weight);
+        }
+        int length = arena.size() - begin;
+
+        var changedPages = pages.clone();
+        var changedPage = pages[vertex >>> PAGE_SHIFT].clone();
+        changedPage[vertex & PAGE_MASK] = row(begin, length);
+        changedPages[vertex >>> PAGE_SHIFT] = changedPage;
+        return new VersionedAdjacency(vertexCount, edgeCount + length - degree(vertex), changedPages, arena);
+    }
+
+    /**
+     * Copies rows to dense heap arrays, see {@link Adjacency#of(int[], int[], int[])}
+     */
+    Adjacency compact() {
+        var offsets = new int[vertexCount + 1];
+        var targets = new int[edgeCount];
+        var weights = new int[edgeCount];
+        int position = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            offsets[vertex] = position;
+            for (int edge = begin(vertex), end = end(vertex); edge < end; edge++) {
+                targets[position] = target(edge);
+                weights[position] = weight(edge);
+                position++;
+            }
+        }
+        offsets[vertexCount] = position;
+        return Adjacency.of(offsets, targets, weights);
+    }
+
+    @Override
+    int vertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    int edgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    int begin(int vertex) {
+        return (int) (pages[vertex >>> PAGE_SHIFT][vertex & PAGE_MASK] >>> 32);
+    }
+
+    @Override
+    int end(int vertex) {
+        long row = pages[vertex >>> PAGE_SHIFT][vertex & PAGE_MASK];
+        return (int) (row >>> 32) + (int) row;
+    }
+
+    @Override
+    int target(int edge) {
+        return targetChunks[edge >>> Arena.CHUNK_SHIFT][edge & Arena.CHUNK_MASK];
+    }
+
+    @Override
+    int weight(int edge) {
+        return weightChunks[edge >>> Arena.CHUNK_SHIFT][edge & Arena.CHUNK_MASK];
+    }
+
+    private static long row(int begin, int length) {
+        return ((long) begin << 32) | length;
+    }
+
+    /**
+     * Append-only storage of edges shared by versions of adjacency, kept in chunks of
+     * {@link Arena#CHUNK_SIZE} edges so that growing it does not copy written edges
+     *
+     * Edges are appended by a single writer only, and a version which refers to them is published after they
+     * are written, so readers of the version see them without synchronization. Versions refer to the arrays
+     * of chunks current at their creation, which contain all their chunks and are never changed below that
+     */
+    @NotThreadSafe
+    static final class Arena {
+
+        static final int CHUNK_SHIFT = 14;
+        static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+        static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+        private int[][] targetChunks = new int[1][];
+        private int[][] weightChunks = new int[1][];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * @throws IllegalStateException if the arena already holds {@link Integer#MAX_VALUE} edges
+         */
+        void add(int target, int weight) {
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Edge arena is full");
+            }
+            int chunk = size >>> CHUNK_SHIFT;
+            if (chunk == targetChunks.length) {
+                targetChunks = Arrays.copyOf(targetChunks, 2 * chunk);
+                weightChunks = Arrays.copyOf(weightChunks, 2 * chunk);
+            }
+            if (targetChunks[chunk] == null) {
+                targetChunks[chunk] = new int[CHUNK_SIZE];
+                weightChunks[chunk] = new int[CHUNK_SIZE];
+            }
+            targetChunks[chunk][size & CHUNK_MASK] = target;
+            weightChunks[chunk][size & CHUNK_MASK] = weight;
+            size++;
+        }
+
+    }
+
+}
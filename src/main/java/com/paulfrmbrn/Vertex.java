@@ -2,7 +2,6 @@ package com.paulfrmbrn;
 
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Objects.requireNonNull;
@@ -52,9 +51,12 @@ public class Vertex<T> implements Comparable<Vertex<T>> {
         return getId() == vertex.getId();
     }
 
+    /**
+     * Same value as {@code Objects.hash(getId())}, but without allocating the varargs array and boxing the id
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(getId());
+        return 31 + id;
     }
 
     @Override
@@ -0,0 +1,140 @@
+package com.paulfrmbrn;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps {@link Vertex#getId()} to the dense index of the vertex inside a {@link Graph},
+ * or an int vertex id to its index inside an {@link IntGraph}
+ * Backed by an open addressing table of primitive ints, so lookups do not box or allocate
+ *
+ * Ids given out by {@link Vertex#of(Object)} are mostly dense, so when the ids span a range not much wider than
+ * their count the index keeps a plain array of indices by {@code id - minId} instead, which is looked up without hashing
+ *
+ * Instance is immutable once constructed
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+@Immutable
+final class VertexIndex {
+
+    static final int ABSENT = -1;
+
+    private static final int EMPTY_KEY = Integer.MIN_VALUE;
+    private static final int MAX_DIRECT_SPREAD = 2;
+    private static final int MAX_DIRECT_LENGTH = Integer.MAX_VALUE - 8;
+    // table is kept at most half full and its capacity is a power of two which fits into an array
+    static final int MAX_HASHED_COUNT = 1 << 29;
+
+    private final int[] keys;
+    private final int[] values;
+    private final int mask;
+
+    private final int minId;
+    private final int[] direct;
+
+    /**
+     * @param vertices vertices in index order, i.e. {@code vertices[i]} gets index {@code i}
+     */
+    VertexIndex(@Nonnull Vertex<?>[] vertices) {
+        this(idsOf(requireNonNull(vertices, "vertices")));
+    }
+
+    /**
+     * @param ids distinct vertex ids in index order, i.e. {@code ids[i]} gets index {@code i}
+     * @throws IllegalArgumentException if {@link Integer#MIN_VALUE} is among the ids or there are more than
+     * {@link VertexIndex#MAX_HASHED_COUNT} ids spread too wide to be kept in a plain array
+     */
+    VertexIndex(@Nonnull int[] ids) {
+        requireNonNull(ids, "ids");
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int id : ids) {
+            if (id == EMPTY_KEY) {
+                throw new IllegalArgumentException("Vertex id can not be " + EMPTY_KEY);
+            }
+            min = Math.min(min, id);
+            max = Math.max(max, id);
+        }
+        if (ids.length > 0 && max - min < (long) MAX_DIRECT_SPREAD * ids.length
+                && max - min < MAX_DIRECT_LENGTH) {
+            this.minId = (int) min;
+            this.direct = new int[(int) (max - min + 1)];
+            Arrays.fill(direct, ABSENT);
+            for (int i = 0; i < ids.length; i++) {
+                direct[ids[i] - minId] = i;
+            }
+            this.keys = null;
+            this.values = null;
+            this.mask = 0;
+            return;
+        }
+        this.minId = 0;
+        this.direct = null;
+        if (ids.length > MAX_HASHED_COUNT) {
+            throw new IllegalArgumentException("More than " + MAX_HASHED_COUNT + " vertices are supported only for dense ids");
+        }
+        int capacity = (int) (Long.highestOneBit(Math.max(2L, 2L * ids.length - 1)) << 1);
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY_KEY);
+        for (int i = 0; i < ids.length; i++) {
+            put(ids[i], i);
+        }
+    }
+
+    private static int[] idsOf(Vertex<?>[] vertices) {
+        var ids = new int[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            ids[i] = vertices[i].getId();
+        }
+        return ids;
+    }
+
+    private void put(int key, int value) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    /**
+     * @return index of the vertex or {@link VertexIndex#ABSENT} if vertex does not belong to the table
+     */
+    int indexOf(@Nonnull Vertex<?> vertex) {
+        return indexOf(vertex.getId());
+    }
+
+    /**
+     * @return index of the vertex with the {id} or {@link VertexIndex#ABSENT} if there is no such vertex in the table
+     */
+    int indexOf(int id) {
+        if (direct != null) {
+            long offset = (long) id - minId;
+            return offset >= 0 && offset < direct.length ? direct[(int) offset] : ABSENT;
+        }
+        int key = id;
+        int slot = mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != EMPTY_KEY) {
+            if (current == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+}
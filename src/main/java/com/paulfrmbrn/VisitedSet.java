@@ -0,0 +1,54 @@
+package com.paulfrmbrn;
+
+/**
+ * Set of dense vertex indices stored as a bitset, one bit per vertex of the graph
+ *
+ * Words which got their first bit set are remembered, so {@link VisitedSet#clear()} takes time proportional
+ * to the count of touched words rather than to the size of the graph
+ *
+ * Instance is mutable and is not thread-safe
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+final class VisitedSet {
+
+    private final long[] words;
+    private final IntList touchedWords = new IntList();
+
+    VisitedSet(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can not be negative");
+        }
+        this.words = new long[(capacity + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    boolean contains(int vertex) {
+        return (words[vertex >>> 6] & (1L << vertex)) != 0;
+    }
+
+    /**
+     * @return {@code true} if the vertex was not in the set
+     */
+    boolean add(int vertex) {
+        int word = vertex >>> 6;
+        long value = words[word];
+        long bit = 1L << vertex;
+        if ((value & bit) != 0) {
+            return false;
+        }
+        if (value == 0) {
+            touchedWords.add(word);
+        }
+        words[word] = value | bit;
+        return true;
+    }
+
+    void clear() {
+        for (int i = 0; i < touchedWords.size(); i++) {
+            words[touchedWords.get(i)] = 0;
+        }
+        touchedWords.clear();
+    }
+
+}
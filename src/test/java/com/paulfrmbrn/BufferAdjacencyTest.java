@@ -0,0 +1,95 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link BufferAdjacency}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class BufferAdjacencyTest {
+
+    private static final int CHUNK_SHIFT = 2;
+
+    /**
+     * Ring of {@code 11} vertices where vertex {@code v} has edges to {@code v + 1} and {@code v + 2}
+     * of weights {@code v} and {@code 2 * v}, so edges span several chunks of four ints
+     */
+    private static Adjacency ring() {
+        int vertexCount = 11;
+        var offsets = new int[vertexCount + 1];
+        var targets = new int[2 * vertexCount];
+        var weights = new int[2 * vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            offsets[vertex + 1] = 2 * (vertex + 1);
+            targets[2 * vertex] = (vertex + 1) % vertexCount;
+            targets[2 * vertex + 1] = (vertex + 2) % vertexCount;
+            weights[2 * vertex] = vertex;
+            weights[2 * vertex + 1] = 2 * vertex;
+        }
+        return Adjacency.of(offsets, targets, weights);
+    }
+
+    private static void assertSameEdges(Adjacency expected, Adjacency actual) {
+        assertEquals(expected.vertexCount(), actual.vertexCount());
+        assertEquals(expected.edgeCount(), actual.edgeCount());
+        for (int vertex = 0; vertex < expected.vertexCount(); vertex++) {
+            assertEquals(expected.begin(vertex), actual.begin(vertex));
+            assertEquals(expected.end(vertex), actual.end(vertex));
+        }
+        for (int edge = 0; edge < expected.edgeCount(); edge++) {
+            assertEquals(expected.target(edge), actual.target(edge));
+            assertEquals(expected.weight(edge), actual.weight(edge));
+        }
+    }
+
+    @Test
+    public void shouldCopyEdgesAcrossChunks() {
+        // given
+        var source = ring();
+        // when
+        var copy = BufferAdjacency.copyOf(source, CHUNK_SHIFT);
+        // then
+        assertSameEdges(source, copy);
+    }
+
+    @Test
+    public void shouldMapWrittenEdgesAcrossChunks() throws IOException {
+        // given
+        var source = ring();
+        var file = Files.createTempFile("adjacency", ".bin");
+        file.toFile().deleteOnExit();
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // when
+            long end = BufferAdjacency.write(source, channel, 12);
+            var mapped = BufferAdjacency.map(channel, 12, CHUNK_SHIFT);
+            // then
+            assertEquals(12 + BufferAdjacency.byteSize(source.vertexCount(), source.edgeCount()), end);
+            assertSameEdges(source, mapped);
+            assertSameEdges(source.transpose(), mapped.transpose());
+        }
+    }
+
+    @Test
+    public void shouldFailOnMappingTruncatedFile() throws IOException {
+        // given
+        var file = Files.createTempFile("adjacency", ".bin");
+        file.toFile().deleteOnExit();
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end = BufferAdjacency.write(ring(), channel, 0);
+            channel.truncate(end - Integer.BYTES);
+            // then
+            assertThrows(IllegalArgumentException.class, () -> BufferAdjacency.map(channel, 0));
+        }
+    }
+
+}
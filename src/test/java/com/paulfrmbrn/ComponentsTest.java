@@ -0,0 +1,133 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link Components}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class ComponentsTest {
+
+    private static final Vertex<String> VERTEX_A = Vertex.of("A");
+    private static final Vertex<String> VERTEX_B = Vertex.of("B");
+    private static final Vertex<String> VERTEX_C = Vertex.of("C");
+    private static final Vertex<String> VERTEX_D = Vertex.of("D");
+    private static final Vertex<String> VERTEX_E = Vertex.of("E");
+    private static final Vertex<String> VERTEX_F = Vertex.of("F");
+
+    /**
+     * A -> B <- C, D alone and E -> F -> E
+     */
+    private static Graph<String> threeComponents() {
+        return Graph.directedWeightedBuilder(VERTEX_A)
+                .addVertex(VERTEX_B)
+                .addVertex(VERTEX_C)
+                .addVertex(VERTEX_D)
+                .addVertex(VERTEX_E)
+                .addVertex(VERTEX_F)
+                .addEdge(VERTEX_A, VERTEX_B, 1)
+                .addEdge(VERTEX_C, VERTEX_B, 1)
+                .addEdge(VERTEX_E, VERTEX_F, 1)
+                .addEdge(VERTEX_F, VERTEX_E, 1)
+                .build();
+    }
+
+    @Test
+    public void shouldFindWeaklyConnectedComponents() {
+        // given
+        var graph = threeComponents();
+        // when
+        var components = graph.components();
+        // then
+        assertSame(components, graph.components());
+        assertEquals(3, components.getCount());
+        assertArrayEquals(new int[]{3, 1, 2}, components.sizes());
+        assertEquals(0, components.componentOf(VERTEX_C));
+        assertEquals(1, components.componentOf(VERTEX_D));
+        assertEquals(2, components.componentOf(VERTEX_F));
+        assertTrue(components.isConnected(VERTEX_A, VERTEX_C));
+        assertFalse(components.isConnected(VERTEX_A, VERTEX_E));
+        assertEquals(2, components.size(2));
+    }
+
+    @Test
+    public void shouldTraverseComponentIgnoringDirections() {
+        // given
+        var components = threeComponents().components();
+        var builder = new StringBuilder();
+        // when
+        components.traverse(0, (value, component) -> builder.append(value).append(component));
+        // then
+        assertEquals("A0B0C0", builder.toString());
+    }
+
+    @Test
+    public void shouldTraverseComponentsInParallel() {
+        // given
+        int vertexCount = 30_000;
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var builder = Graph.undirectedUnweightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        // first half is one long chain, then chains of 1, 2, 3 ... vertices
+        for (int i = 1; i < vertexCount / 2; i++) {
+            builder.addEdge(vertices.get(i - 1), vertices.get(i));
+        }
+        int expectedCount = 1;
+        for (int start = vertexCount / 2, length = 1; start < vertexCount; start += length, length++, expectedCount++) {
+            for (int i = start + 1; i < Math.min(start + length, vertexCount); i++) {
+                builder.addEdge(vertices.get(i - 1), vertices.get(i));
+            }
+        }
+        var components = builder.build().components();
+        var visited = new ConcurrentHashMap<Integer, Integer>();
+        var pool = new ForkJoinPool(4);
+        // when
+        try {
+            components.traverseParallel(pool, (value, component) -> assertNull(visited.put(value, component)));
+        } finally {
+            pool.shutdown();
+        }
+        // then
+        assertEquals(expectedCount, components.getCount());
+        assertEquals(vertexCount, visited.size());
+        for (var vertex : vertices) {
+            assertEquals(components.componentOf(vertex), (int) visited.get(vertex.getValue()));
+        }
+    }
+
+    @Test
+    public void shouldRejectPathBetweenComponents() {
+        // given
+        var graph = threeComponents();
+        var builder = new StringBuilder();
+        // when
+        graph.components();
+        graph.findPath(VERTEX_E, VERTEX_F, builder::append);
+        // then
+        assertEquals("EF", builder.toString());
+        assertThrows(IllegalStateException.class, () -> graph.findPath(VERTEX_A, VERTEX_F, value -> { }));
+        assertThrows(IllegalStateException.class,
+                () -> graph.findPath(VERTEX_A, VERTEX_D, (vertex, target) -> 0, value -> { }));
+        assertThrows(IllegalStateException.class, () -> graph.findPath(VERTEX_A, VERTEX_C, value -> { }));
+        assertThrows(IllegalArgumentException.class, () -> graph.components().size(3));
+        assertThrows(IllegalArgumentException.class, () -> graph.components().componentOf(Vertex.of("X")));
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ConcurrentGraph}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class ConcurrentGraphTest {
+
+    private static final Vertex<String> VERTEX_A = Vertex.of("A");
+    private static final Vertex<String> VERTEX_B = Vertex.of("B");
+    private static final Vertex<String> VERTEX_C = Vertex.of("C");
+    private static final Vertex<String> VERTEX_D = Vertex.of("D");
+
+    /**
+     * A -> B -> D of length 2 and A -> C -> D of length 10
+     */
+    private static Graph<String> twoRoutes() {
+        return Graph.directedWeightedBuilder(VERTEX_A)
+                .addVertex(VERTEX_B)
+                .addVertex(VERTEX_C)
+                .addVertex(VERTEX_D)
+                .addEdge(VERTEX_A, VERTEX_B, 1)
+                .addEdge(VERTEX_B, VERTEX_D, 1)
+                .addEdge(VERTEX_A, VERTEX_C, 5)
+                .addEdge(VERTEX_C, VERTEX_D, 5)
+                .build();
+    }
+
+    private static String findPath(ConcurrentGraph.Snapshot<String> snapshot, Vertex<String> from, Vertex<String> to) {
+        var builder = new StringBuilder();
+        snapshot.findPath(from, to, builder::append);
+        return builder.toString();
+    }
+
+    @Test
+    public void shouldKeepSnapshotUnchanged() {
+        // given
+        var graph = twoRoutes().toConcurrentGraph();
+        var before = graph.snapshot();
+        // when
+        boolean isRemoved = graph.removeEdge(VERTEX_B, VERTEX_D);
+        var after = graph.snapshot();
+        // then
+        assertTrue(isRemoved);
+        assertEquals("ABD", findPath(before, VERTEX_A, VERTEX_D));
+        assertEquals("ACD", findPath(after, VERTEX_A, VERTEX_D));
+        assertEquals(0, before.getVersion());
+        assertEquals(1, after.getVersion());
+    }
+
+    @Test
+    public void shouldFindPathAfterChanges() {
+        // given
+        var graph = twoRoutes().toConcurrentGraph();
+        // when
+        boolean isUpdated = graph.updateWeight(VERTEX_A, VERTEX_B, 20);
+        boolean isAdded = graph.addEdge(VERTEX_B, VERTEX_C, 1);
+        boolean isAddedAgain = graph.addEdge(VERTEX_B, VERTEX_C, 7);
+        boolean isRemovedMissing = graph.removeEdge(VERTEX_D, VERTEX_A);
+        var snapshot = graph.snapshot();
+        // then
+        assertTrue(isUpdated);
+        assertTrue(isAdded);
+        assertFalse(isAddedAgain);
+        assertFalse(isRemovedMissing);
+        assertEquals("ACD", findPath(snapshot, VERTEX_A, VERTEX_D));
+        assertEquals("BD", findPath(snapshot, VERTEX_B, VERTEX_D));
+        assertEquals("BC", findPath(snapshot, VERTEX_B, VERTEX_C));
+        assertEquals(2, snapshot.getEdges(VERTEX_B).size());
+        assertEquals("['A'->'B'{20},'C'{5} | 'B'->'C'{1},'D'{1} | 'C'->'D'{5} | 'D']", snapshot.toGraph().toString());
+    }
+
+    @Test
+    public void shouldFindPathBackwardsAfterChanges() {
+        // given
+        var graph = twoRoutes().toConcurrentGraph();
+        var builder = new StringBuilder();
+        // when
+        graph.removeEdge(VERTEX_A, VERTEX_B);
+        graph.snapshot().findPath(VERTEX_A, VERTEX_D, SearchMode.BIDIRECTIONAL, graph.newSearchContext(), builder::append);
+        // then
+        assertEquals("ACD", builder.toString());
+    }
+
+    @Test
+    public void shouldChangeBothDirectionsOfUndirectedEdge() {
+        // given
+        var graph = Graph.undirectedUnweightedBuilder(VERTEX_A)
+                .addVertex(VERTEX_B)
+                .addVertex(VERTEX_C)
+                .addEdge(VERTEX_A, VERTEX_B)
+                .addEdge(VERTEX_B, VERTEX_C)
+                .build()
+                .toConcurrentGraph();
+        // when
+        graph.removeEdge(VERTEX_B, VERTEX_A);
+        graph.addEdge(VERTEX_C, VERTEX_A);
+        var snapshot = graph.snapshot();
+        // then
+        assertEquals("ACB", findPath(snapshot, VERTEX_A, VERTEX_B));
+        assertEquals("BCA", findPath(snapshot, VERTEX_B, VERTEX_A));
+        assertEquals("['A'->'C'{1} | 'B'->'C'{1} | 'C'->'A'{1},'B'{1}]", snapshot.toGraph().toString());
+    }
+
+    @Test
+    public void shouldFailOnNotReachableVertexAfterRemoval() {
+        // given
+        var graph = twoRoutes().toConcurrentGraph();
+        // when
+        graph.removeEdge(VERTEX_B, VERTEX_D);
+        graph.removeEdge(VERTEX_C, VERTEX_D);
+        var snapshot = graph.snapshot();
+        // then
+        assertThrows(IllegalStateException.class, () -> findPath(snapshot, VERTEX_A, VERTEX_D));
+        assertThrows(IllegalStateException.class, () -> snapshot.traverse(value -> { }));
+    }
+
+    @Test
+    public void shouldFailOnInvalidChanges() {
+        // given
+        var graph = twoRoutes().toConcurrentGraph();
+        var unweighted = Graph.undirectedUnweightedBuilder(VERTEX_A).addVertex(VERTEX_B).build().toConcurrentGraph();
+        var otherContext = twoRoutes().toConcurrentGraph().newSearchContext();
+        // then
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(VERTEX_A, Vertex.of("X"), 1));
+        assertThrows(IllegalArgumentException.class, () -> graph.updateWeight(VERTEX_A, VERTEX_B, -1));
+        assertThrows(IllegalStateException.class, () -> unweighted.updateWeight(VERTEX_A, VERTEX_B, 2));
+        assertThrows(IllegalStateException.class, () -> unweighted.addEdge(VERTEX_A, VERTEX_B, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> graph.snapshot().findPath(VERTEX_A, VERTEX_D, otherContext, value -> { }));
+    }
+
+    @Test
+    public void shouldApplyConcurrentChangesWhileSearching() throws Exception {
+        // given
+        int vertexCount = 3000;
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var builder = Graph.directedWeightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 0; i < vertexCount; i++) {
+            builder.addEdge(vertices.get(i), vertices.get((i + 1) % vertexCount), 1000);
+        }
+        var graph = builder.build().toConcurrentGraph();
+        int writerCount = 4;
+        int changeCount = 5000;
+        var executor = Executors.newFixedThreadPool(writerCount + 2);
+        var isWriting = new AtomicBoolean(true);
+        var appliedCount = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        // when
+        var futures = new ArrayList<Future<?>>();
+        for (int writer = 0; writer < writerCount; writer++) {
+            long seed = writer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                var random = new SplittableRandom(seed);
+                for (int i = 0; i < changeCount; i++) {
+                    var from = vertices.get(random.nextInt(vertexCount));
+                    var to = vertices.get(random.nextInt(vertexCount));
+                    if (graph.addEdge(from, to, 1 + random.nextInt(100)) || graph.removeEdge(from, to)) {
+                        appliedCount.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int reader = 0; reader < 2; reader++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                var context = graph.newSearchContext();
+                var random = new SplittableRandom();
+                while (isWriting.get()) {
+                    var snapshot = graph.snapshot();
+                    var path = new ArrayList<Integer>();
+                    var to = vertices.get(random.nextInt(vertexCount));
+                    try {
+                        snapshot.findPath(vertices.get(random.nextInt(vertexCount)), to, context, path::add);
+                        assertEquals(to.getValue(), path.get(path.size() - 1));
+                    } catch (IllegalStateException ignored) {
+                        // ring edges are removed too, so some vertices become not reachable
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (int writer = 0; writer < writerCount; writer++) {
+            futures.get(writer).get();
+        }
+        isWriting.set(false);
+        for (var future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        var snapshot = graph.snapshot();
+        // then
+        assertEquals(appliedCount.get(), snapshot.getVersion());
+        var expectedBuilder = Graph.directedWeightedBuilder(vertices.get(0));
+        vertices.forEach(expectedBuilder::addVertex);
+        for (var vertex : vertices) {
+            for (var edge : snapshot.getEdges(vertex)) {
+                expectedBuilder.addEdge(vertex, edge.getVertex(), edge.getWeight());
+            }
+        }
+        var expected = expectedBuilder.build();
+        assertEquals(expected.toString(), snapshot.toGraph().toString());
+        var tree = expected.shortestPathTree(vertices.get(0));
+        for (var vertex : vertices) {
+            if (!tree.isReachable(vertex)) {
+                assertThrows(IllegalStateException.class,
+                        () -> snapshot.findPath(vertices.get(0), vertex, SearchMode.BIDIRECTIONAL, value -> { }));
+                continue;
+            }
+            var path = new ArrayList<Vertex<Integer>>();
+            snapshot.findPath(vertices.get(0), vertex, SearchMode.BIDIRECTIONAL, value -> path.add(vertices.get(value)));
+            int distance = 0;
+            for (int i = 1; i < path.size(); i++) {
+                var target = path.get(i);
+                distance += snapshot.getEdges(path.get(i - 1)).stream()
+                        .filter(edge -> edge.getVertex().equals(target))
+                        .findFirst()
+                        .orElseThrow()
+                        .getWeight();
+            }
+            assertEquals(tree.getDistance(vertex), distance);
+        }
+    }
+
+}
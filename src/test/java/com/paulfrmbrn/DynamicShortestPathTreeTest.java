@@ -0,0 +1,209 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link DynamicShortestPathTree}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class DynamicShortestPathTreeTest {
+
+    private static final Vertex<String> VERTEX_A = Vertex.of("A");
+    private static final Vertex<String> VERTEX_B = Vertex.of("B");
+    private static final Vertex<String> VERTEX_C = Vertex.of("C");
+    private static final Vertex<String> VERTEX_D = Vertex.of("D");
+
+    /**
+     * A -> B -> D of length 2 and A -> C -> D of length 10
+     */
+    private static ConcurrentGraph<String> twoRoutes() {
+        return Graph.directedWeightedBuilder(VERTEX_A)
+                .addVertex(VERTEX_B)
+                .addVertex(VERTEX_C)
+                .addVertex(VERTEX_D)
+                .addEdge(VERTEX_A, VERTEX_B, 1)
+                .addEdge(VERTEX_B, VERTEX_D, 1)
+                .addEdge(VERTEX_A, VERTEX_C, 5)
+                .addEdge(VERTEX_C, VERTEX_D, 5)
+                .build()
+                .toConcurrentGraph();
+    }
+
+    private static List<Vertex<Integer>> vertices(int count) {
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < count; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        return vertices;
+    }
+
+    private static Graph<Integer> randomDirected(List<Vertex<Integer>> vertices, SplittableRandom random) {
+        var builder = Graph.directedWeightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 0; i < 3 * vertices.size(); i++) {
+            builder.addEdge(vertices.get(random.nextInt(vertices.size())), vertices.get(random.nextInt(vertices.size())),
+                    1 + random.nextInt(20));
+        }
+        return builder.build();
+    }
+
+    private static Graph<Integer> randomUndirected(List<Vertex<Integer>> vertices, SplittableRandom random) {
+        var builder = Graph.undirectedWeightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 0; i < 3 * vertices.size(); i++) {
+            builder.addEdge(vertices.get(random.nextInt(vertices.size())), vertices.get(random.nextInt(vertices.size())),
+                    1 + random.nextInt(20));
+        }
+        return builder.build();
+    }
+
+    private static void assertSameDistances(ConcurrentGraph<Integer> graph, List<Vertex<Integer>> vertices,
+                                            DynamicShortestPathTree<Integer> tree) {
+        var expected = graph.snapshot().shortestPathTree(tree.getSource());
+        for (var vertex : vertices) {
+            assertEquals(expected.getDistance(vertex), tree.getDistance(vertex));
+            if (tree.isReachable(vertex)) {
+                var path = new ArrayList<Integer>();
+                tree.findPath(vertex, path::add);
+                assertEquals(tree.getSource().getValue(), path.get(0));
+                assertEquals(vertex.getValue(), path.get(path.size() - 1));
+            }
+        }
+    }
+
+    @Test
+    public void shouldRepairTreeAfterChanges() {
+        // given
+        var graph = twoRoutes();
+        var tree = graph.snapshot().shortestPathTree(VERTEX_A);
+        var builder = new StringBuilder();
+        // when
+        graph.updateWeight(VERTEX_A, VERTEX_B, 20);
+        tree.update();
+        tree.findPath(VERTEX_D, builder::append);
+        // then
+        assertEquals(1, tree.getVersion());
+        assertEquals("ACD", builder.toString());
+        assertEquals(10, tree.getDistance(VERTEX_D));
+        assertEquals(20, tree.getDistance(VERTEX_B));
+    }
+
+    @Test
+    public void shouldRepairTreeAfterRemovalAndAddition() {
+        // given
+        var graph = twoRoutes();
+        var tree = graph.snapshot().shortestPathTree(VERTEX_A);
+        // when
+        graph.removeEdge(VERTEX_A, VERTEX_B);
+        tree.update();
+        boolean isReachableAfterRemoval = tree.isReachable(VERTEX_B);
+        graph.addEdge(VERTEX_C, VERTEX_B, 1);
+        tree.update();
+        // then
+        assertFalse(isReachableAfterRemoval);
+        assertTrue(tree.isReachable(VERTEX_B));
+        assertEquals(6, tree.getDistance(VERTEX_B));
+        assertEquals(7, tree.getDistance(VERTEX_D));
+    }
+
+    @Test
+    public void shouldKeepDistancesOfRandomChanges() {
+        for (boolean isDirected : new boolean[]{true, false}) {
+            // given
+            int vertexCount = 200;
+            var vertices = vertices(vertexCount);
+            var random = new SplittableRandom(isDirected ? 1 : 2);
+            var graph = (isDirected ? randomDirected(vertices, random) : randomUndirected(vertices, random))
+                    .toConcurrentGraph();
+            var tree = graph.snapshot().shortestPathTree(vertices.get(0));
+            for (int batch = 0; batch < 100; batch++) {
+                // when
+                for (int i = 0, count = 1 + random.nextInt(5); i < count; i++) {
+                    var from = vertices.get(random.nextInt(vertexCount));
+                    var to = vertices.get(random.nextInt(vertexCount));
+                    if (!graph.updateWeight(from, to, 1 + random.nextInt(20)) || random.nextInt(3) == 0) {
+                        if (!graph.addEdge(from, to, 1 + random.nextInt(20))) {
+                            graph.removeEdge(from, to);
+                        }
+                    }
+                }
+                tree.update();
+                // then
+                assertEquals(graph.snapshot().getVersion(), tree.getVersion());
+                assertSameDistances(graph, vertices, tree);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSearchOnlyAffectedVertices() {
+        // given
+        int vertexCount = 10_000;
+        var vertices = vertices(vertexCount);
+        var builder = Graph.directedWeightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 1; i < vertexCount; i++) {
+            builder.addEdge(vertices.get(i - 1), vertices.get(i), 1);
+        }
+        var graph = builder.build().toConcurrentGraph();
+        var tree = graph.snapshot().shortestPathTree(vertices.get(0));
+        // when
+        graph.updateWeight(vertices.get(vertexCount - 3), vertices.get(vertexCount - 2), 5);
+        int touchedCount = tree.update();
+        // then
+        assertEquals(2, touchedCount);
+        assertEquals(vertexCount + 3, tree.getDistance(vertices.get(vertexCount - 1)));
+        assertSameDistances(graph, vertices, tree);
+    }
+
+    @Test
+    public void shouldRecomputeTreeBehindChangeLog() {
+        // given
+        int vertexCount = 100;
+        var vertices = vertices(vertexCount);
+        var builder = Graph.directedWeightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        var graph = builder.build().toConcurrentGraph();
+        var tree = graph.snapshot().shortestPathTree(vertices.get(0));
+        var random = new SplittableRandom(3);
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            var from = vertices.get(random.nextInt(vertexCount));
+            var to = vertices.get(random.nextInt(vertexCount));
+            if (!graph.addEdge(from, to, 1 + random.nextInt(20))) {
+                graph.removeEdge(from, to);
+            }
+        }
+        int touchedCount = tree.update();
+        // then
+        assertEquals(vertexCount, touchedCount);
+        assertSameDistances(graph, vertices, tree);
+    }
+
+    @Test
+    public void shouldFailOnInvalidSnapshot() {
+        // given
+        var graph = twoRoutes();
+        var older = graph.snapshot();
+        graph.removeEdge(VERTEX_A, VERTEX_B);
+        var tree = graph.snapshot().shortestPathTree(VERTEX_A);
+        var other = twoRoutes().snapshot();
+        // then
+        assertThrows(IllegalArgumentException.class, () -> tree.update(older));
+        assertThrows(IllegalArgumentException.class, () -> tree.update(other));
+        assertThrows(IllegalArgumentException.class, () -> graph.snapshot().shortestPathTree(Vertex.of("X")));
+        assertThrows(IllegalStateException.class, () -> tree.findPath(VERTEX_B, value -> { }));
+    }
+
+}
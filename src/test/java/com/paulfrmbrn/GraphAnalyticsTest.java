@@ -0,0 +1,217 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link GraphAnalytics}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class GraphAnalyticsTest {
+
+    private static final Vertex<String> VERTEX_A = Vertex.of("A");
+    private static final Vertex<String> VERTEX_B = Vertex.of("B");
+    private static final Vertex<String> VERTEX_C = Vertex.of("C");
+    private static final Vertex<String> VERTEX_D = Vertex.of("D");
+
+    /**
+     * A -> B -> D and A -> C -> D, D has no outgoing edges
+     */
+    private static final Graph<String> DIAMOND_GRAPH = Graph.directedWeightedBuilder(VERTEX_A)
+            .addVertex(VERTEX_B)
+            .addVertex(VERTEX_C)
+            .addVertex(VERTEX_D)
+            .addEdge(VERTEX_A, VERTEX_B, 1)
+            .addEdge(VERTEX_B, VERTEX_D, 1)
+            .addEdge(VERTEX_A, VERTEX_C, 1)
+            .addEdge(VERTEX_C, VERTEX_D, 1)
+            .build();
+
+    /**
+     * A - B - C - D
+     */
+    private static final Graph<String> PATH_GRAPH = Graph.undirectedUnweightedBuilder(VERTEX_A)
+            .addVertex(VERTEX_B)
+            .addVertex(VERTEX_C)
+            .addVertex(VERTEX_D)
+            .addEdge(VERTEX_A, VERTEX_B)
+            .addEdge(VERTEX_B, VERTEX_C)
+            .addEdge(VERTEX_C, VERTEX_D)
+            .build();
+
+    @Test
+    public void shouldComputeDegrees() {
+        // given
+        var analytics = DIAMOND_GRAPH.analytics();
+        // when
+        var outDegrees = analytics.outDegrees();
+        var inDegrees = analytics.inDegrees();
+        // then
+        assertEquals(2, outDegrees[analytics.indexOf(VERTEX_A)]);
+        assertEquals(0, outDegrees[analytics.indexOf(VERTEX_D)]);
+        assertEquals(0, inDegrees[analytics.indexOf(VERTEX_A)]);
+        assertEquals(2, inDegrees[analytics.indexOf(VERTEX_D)]);
+        assertArrayEquals(PATH_GRAPH.analytics().outDegrees(), PATH_GRAPH.analytics().inDegrees());
+        assertEquals(VERTEX_C, analytics.vertexAt(analytics.indexOf(VERTEX_C)));
+    }
+
+    @Test
+    public void shouldComputePageRankSameAsPowerIteration() {
+        // given
+        int vertexCount = 20_000;
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var random = new SplittableRandom(5);
+        var builder = Graph.directedUnweightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 0; i < 3 * vertexCount; i++) {
+            builder.addEdge(vertices.get(random.nextInt(vertexCount)), vertices.get(random.nextInt(vertexCount / 2)));
+        }
+        var graph = builder.build();
+        var analytics = graph.analytics();
+        var outDegrees = analytics.outDegrees();
+        var expected = new double[vertexCount];
+        Arrays.fill(expected, 1.0 / vertexCount);
+        for (int iteration = 0; iteration < 200; iteration++) {
+            var next = new double[vertexCount];
+            double dangling = 0;
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                if (outDegrees[vertex] == 0) {
+                    dangling += expected[vertex];
+                }
+            }
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                next[vertex] += (0.15 + 0.85 * dangling) / vertexCount;
+                for (var edge : graph.getEdges(analytics.vertexAt(vertex))) {
+                    next[analytics.indexOf(edge.getVertex())] += 0.85 * expected[vertex] / outDegrees[vertex];
+                }
+            }
+            expected = next;
+        }
+        var pool = new ForkJoinPool(4);
+        // when
+        double[] ranks;
+        try {
+            ranks = analytics.pageRank(0.85, 1e-12, 1000, pool);
+        } finally {
+            pool.shutdown();
+        }
+        // then
+        double sum = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            assertEquals(expected[vertex], ranks[vertex], 1e-9);
+            sum += ranks[vertex];
+        }
+        assertEquals(1, sum, 1e-9);
+    }
+
+    @Test
+    public void shouldSpreadRankOfDanglingVertex() {
+        // given
+        var analytics = DIAMOND_GRAPH.analytics();
+        // when
+        var ranks = analytics.pageRank();
+        // then
+        assertEquals(ranks[analytics.indexOf(VERTEX_B)], ranks[analytics.indexOf(VERTEX_C)], 1e-12);
+        assertEquals(1, ranks[0] + ranks[1] + ranks[2] + ranks[3], 1e-9);
+        assertEquals(0.15 / 4 + 0.85 * ranks[analytics.indexOf(VERTEX_D)] / 4, ranks[analytics.indexOf(VERTEX_A)], 1e-6);
+    }
+
+    @Test
+    public void shouldComputeExactBetweennessFromAllSources() {
+        // given
+        var diamond = DIAMOND_GRAPH.analytics();
+        var path = PATH_GRAPH.analytics();
+        var pool = new ForkJoinPool(2);
+        // when
+        var diamondCentrality = diamond.betweenness(4, 1);
+        double[] pathCentrality;
+        try {
+            pathCentrality = path.betweenness(4, 2, pool);
+        } finally {
+            pool.shutdown();
+        }
+        // then
+        assertEquals(0.5, diamondCentrality[diamond.indexOf(VERTEX_B)], 1e-12);
+        assertEquals(0.5, diamondCentrality[diamond.indexOf(VERTEX_C)], 1e-12);
+        assertEquals(0, diamondCentrality[diamond.indexOf(VERTEX_A)], 1e-12);
+        assertEquals(0, diamondCentrality[diamond.indexOf(VERTEX_D)], 1e-12);
+        assertEquals(0, pathCentrality[path.indexOf(VERTEX_A)], 1e-12);
+        assertEquals(2, pathCentrality[path.indexOf(VERTEX_B)], 1e-12);
+        assertEquals(2, pathCentrality[path.indexOf(VERTEX_C)], 1e-12);
+    }
+
+    @Test
+    public void shouldComputeExactBetweennessWithZeroWeightEdge() {
+        // given
+        var analytics = Graph.undirectedWeightedBuilder(VERTEX_A)
+                .addVertex(VERTEX_B)
+                .addVertex(VERTEX_C)
+                .addVertex(VERTEX_D)
+                .addEdge(VERTEX_A, VERTEX_B, 1)
+                .addEdge(VERTEX_B, VERTEX_C, 0)
+                .addEdge(VERTEX_C, VERTEX_D, 1)
+                .build()
+                .analytics();
+        // when
+        var centrality = analytics.betweenness(4, 1);
+        // then
+        assertEquals(0, centrality[analytics.indexOf(VERTEX_A)], 1e-12);
+        assertEquals(2, centrality[analytics.indexOf(VERTEX_B)], 1e-12);
+        assertEquals(2, centrality[analytics.indexOf(VERTEX_C)], 1e-12);
+        assertEquals(0, centrality[analytics.indexOf(VERTEX_D)], 1e-12);
+    }
+
+    @Test
+    public void shouldEstimateSameBetweennessByBfsAndDijkstra() {
+        // given
+        int vertexCount = 1000;
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var random = new SplittableRandom(9);
+        var unweighted = Graph.directedUnweightedBuilder(vertices.get(0));
+        var weighted = Graph.directedWeightedBuilder(vertices.get(0));
+        vertices.forEach(unweighted::addVertex);
+        vertices.forEach(weighted::addVertex);
+        for (int i = 0; i < 4 * vertexCount; i++) {
+            var from = vertices.get(random.nextInt(vertexCount));
+            var to = vertices.get(random.nextInt(vertexCount));
+            unweighted.addEdge(from, to);
+            weighted.addEdge(from, to, 1);
+        }
+        // when
+        var byBfs = unweighted.build().analytics().betweenness(100, 3);
+        var byDijkstra = weighted.build().analytics().betweenness(100, 3);
+        // then
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            assertEquals(byBfs[vertex], byDijkstra[vertex], 1e-6);
+        }
+    }
+
+    @Test
+    public void shouldFailOnInvalidParameters() {
+        var analytics = DIAMOND_GRAPH.analytics();
+        var pool = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class, () -> analytics.pageRank(1, 1e-6, 10, pool));
+        assertThrows(IllegalArgumentException.class, () -> analytics.pageRank(0.85, 0, 10, pool));
+        assertThrows(IllegalArgumentException.class, () -> analytics.pageRank(0.85, 1e-6, 0, pool));
+        assertThrows(IllegalArgumentException.class, () -> analytics.betweenness(5, 1));
+        assertThrows(IllegalArgumentException.class, () -> analytics.betweenness(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> analytics.vertexAt(4));
+    }
+
+}
@@ -5,12 +5,25 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.of;
 
 /**
@@ -37,6 +50,8 @@ class GraphTest {
     private static final Graph<String> UNREACHABLE_VERTEX_GRAPH;
     private static final Graph<String> DISCONNECTED_GRAPH;
     private static final Graph<String> SIMPLE_UNDIRECTED_10_VERTICES_GRAPH;
+    private static final SearchContext<String> FIVE_VERTICES_CONTEXT;
+    private static final SearchContext<String> SIMPLE_UNDIRECTED_10_VERTICES_CONTEXT;
     static {
 
         THREE_VERTICES_GRAPH = Graph.directedWeightedBuilder(VERTEX_A)
@@ -103,6 +118,9 @@ class GraphTest {
                 .addEdge(VERTEX_H, VERTEX_J)
                 .build();
 
+        FIVE_VERTICES_CONTEXT = FIVE_VERTICES_GRAPH.newSearchContext();
+        SIMPLE_UNDIRECTED_10_VERTICES_CONTEXT = SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.newSearchContext();
+
     }
 
     @Test
@@ -130,6 +148,16 @@ class GraphTest {
         assertEquals(new HashSet<>(asList(new Edge<>(VERTEX_B, 5), new Edge<>(VERTEX_C, 1))), THREE_VERTICES_GRAPH.getEdges(VERTEX_A));
     }
 
+    @Test
+    public void shouldReturnNoEdgesForVertexWithoutOutgoingEdges() {
+        assertEquals(new HashSet<>(), DISCONNECTED_GRAPH.getEdges(VERTEX_B));
+    }
+
+    @Test
+    public void shouldFailOnGettingEdgesOfVertexThatDoNotBelongToTheGraph() {
+        assertThrows(IllegalArgumentException.class, () -> DISCONNECTED_GRAPH.getEdges(VERTEX_C));
+    }
+
     @Test
     public void shouldFailOnAddingEdgeToVertexThatDoNotBelongToTheGraph() {
         assertThrows(IllegalArgumentException.class, () -> Graph.directedWeightedBuilder(VERTEX_A).addVertex(VERTEX_B).addEdge(VERTEX_A, VERTEX_B, -1));
@@ -172,6 +200,167 @@ class GraphTest {
         assertEquals("EBDAC", builder.toString());
     }
 
+    @Test
+    public void shouldTraverseRepeatedlyWithSameSearchContext() {
+        //given
+        var context = FIVE_VERTICES_GRAPH.newSearchContext();
+        var first = new StringBuilder();
+        var second = new StringBuilder();
+        // when
+        FIVE_VERTICES_GRAPH.traverse(context, first::append);
+        FIVE_VERTICES_GRAPH.traverse(context, second::append);
+        //then
+        assertEquals("EBDAC", first.toString());
+        assertEquals("EBDAC", second.toString());
+    }
+
+    @Test
+    public void shouldTraverseInParallelLevelByLevel() {
+        //given
+        List<String> visited = Collections.synchronizedList(new ArrayList<>());
+        // when
+        FIVE_VERTICES_GRAPH.traverseParallel(visited::add);
+        //then
+        assertEquals(5, visited.size());
+        assertEquals("E", visited.get(0));
+        assertEquals(new HashSet<>(asList("B", "D")), new HashSet<>(visited.subList(1, 3)));
+        assertEquals(new HashSet<>(asList("A", "C")), new HashSet<>(visited.subList(3, 5)));
+    }
+
+    private static Stream<Arguments> shouldTraverseLargeGraphInParallel() {
+        return Stream.of(
+                of(100, 100),
+                of(1, 20_000),
+                of(20_000, 1)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void shouldTraverseLargeGraphInParallel(int rows, int columns) {
+        //given
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < rows * columns; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var builder = Graph.undirectedUnweightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 0; i < vertices.size(); i++) {
+            if (i % columns + 1 < columns) {
+                builder.addEdge(vertices.get(i), vertices.get(i + 1));
+            }
+            if (i + columns < vertices.size()) {
+                builder.addEdge(vertices.get(i), vertices.get(i + columns));
+            }
+        }
+        var graph = builder.build();
+        List<Integer> visited = Collections.synchronizedList(new ArrayList<>());
+        var pool = new ForkJoinPool(4);
+        // when
+        try {
+            graph.traverseParallel(pool, visited::add);
+        } finally {
+            pool.shutdown();
+        }
+        //then
+        assertEquals(vertices.size(), visited.size());
+        assertEquals(vertices.size(), new HashSet<>(visited).size());
+        for (int i = 1; i < visited.size(); i++) {
+            int previous = visited.get(i - 1);
+            int current = visited.get(i);
+            assertTrue(previous / columns + previous % columns <= current / columns + current % columns);
+        }
+    }
+
+    @Test
+    public void shouldStreamVerticesBreadthFirst() {
+        // when
+        var fromRoot = FIVE_VERTICES_GRAPH.bfs(VERTEX_E).collect(Collectors.joining());
+        var fromOther = UNREACHABLE_VERTEX_GRAPH.bfs(VERTEX_B).collect(Collectors.joining());
+        var iterator = FIVE_VERTICES_GRAPH.bfsIterator(VERTEX_D);
+        // then
+        assertEquals("EBDAC", fromRoot);
+        assertEquals("BAC", fromOther);
+        assertEquals("D", iterator.next());
+        assertEquals("B", iterator.next());
+        assertTrue(iterator.hasNext());
+    }
+
+    @Test
+    public void shouldStreamVerticesDepthFirst() {
+        // when
+        var fromRoot = FIVE_VERTICES_GRAPH.dfs(VERTEX_E).collect(Collectors.joining());
+        var fromOther = SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.dfs(VERTEX_J).collect(Collectors.joining());
+        var iterator = DISCONNECTED_GRAPH.dfsIterator(VERTEX_B);
+        // then
+        assertEquals("EBACD", fromRoot);
+        assertEquals("JHCBADFEGI", fromOther);
+        assertEquals("B", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(IllegalArgumentException.class, () -> FIVE_VERTICES_GRAPH.dfs(VERTEX_J));
+    }
+
+    @Test
+    public void shouldStopStreamingEarly() {
+        // given
+        int vertexCount = 100_000;
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var builder = Graph.directedUnweightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 1; i < vertexCount; i++) {
+            builder.addEdge(vertices.get(i - 1), vertices.get(i));
+        }
+        var graph = builder.build();
+        // when
+        var found = graph.dfs(vertices.get(0)).filter(value -> value % 1000 == 999).findFirst();
+        var limited = graph.bfs(vertices.get(10)).limit(3).collect(Collectors.toList());
+        var taken = graph.bfs(vertices.get(0)).takeWhile(value -> value < 5).count();
+        long deepCount = graph.dfs(vertices.get(0)).count();
+        // then
+        assertEquals(999, (int) found.orElseThrow());
+        assertEquals(asList(10, 11, 12), limited);
+        assertEquals(5, taken);
+        assertEquals(vertexCount, deepCount);
+    }
+
+    @Test
+    public void shouldStreamLevelsInParallel() {
+        // given
+        int rows = 100;
+        int columns = 100;
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < rows * columns; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var builder = Graph.undirectedUnweightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 0; i < vertices.size(); i++) {
+            if (i % columns + 1 < columns) {
+                builder.addEdge(vertices.get(i), vertices.get(i + 1));
+            }
+            if (i + columns < vertices.size()) {
+                builder.addEdge(vertices.get(i), vertices.get(i + columns));
+            }
+        }
+        var graph = builder.build();
+        // when
+        var sequential = graph.bfs(vertices.get(0)).collect(Collectors.toList());
+        var parallel = graph.bfs(vertices.get(0)).parallel().collect(Collectors.toList());
+        long parallelCount = graph.bfs(vertices.get(0)).parallel().filter(value -> value % 2 == 0).count();
+        // then
+        assertEquals(vertices.size(), sequential.size());
+        assertEquals(sequential, parallel);
+        assertEquals(vertices.size() / 2, parallelCount);
+    }
+
+    @Test
+    public void shouldFailOnTraversingInParallelGraphWithNotReachableVertices() {
+        assertThrows(IllegalStateException.class, () -> UNREACHABLE_VERTEX_GRAPH.traverseParallel((it) -> {}));
+    }
+
     @Test
     public void shouldFailOnTraversingGraphWithNotReachableVertices() {
         assertThrows(IllegalStateException.class, () -> UNREACHABLE_VERTEX_GRAPH.traverse((it) -> {}));
@@ -231,6 +420,557 @@ class GraphTest {
 
     }
 
+    @Test
+    public void shouldNotStopOnTargetReachedByLongerEdgeBeforeItIsSettled() {
+        //given
+        var builder = new StringBuilder();
+        // when
+        THREE_VERTICES_GRAPH.findPath(VERTEX_A, VERTEX_B, builder::append);
+        //then
+        assertEquals("ACB", builder.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInUndirectedUnweightedGraph")
+    public void shouldFindPathInUndirectedUnweightedGraphBidirectionally(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        // when
+        SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.findPath(from, to, SearchMode.BIDIRECTIONAL, builder::append);
+        //then
+        assertEquals(expectedPath, builder.toString());
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInDirectedWeightedGraph")
+    public void shouldFindPathInDirectedWeightedGraphBidirectionally(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        // when
+        FIVE_VERTICES_GRAPH.findPath(from, to, SearchMode.BIDIRECTIONAL, builder::append);
+        //then
+        assertEquals(expectedPath, builder.toString());
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInUndirectedUnweightedGraph")
+    public void shouldFindPathInUndirectedUnweightedGraphWithSharedSearchContext(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var unidirectional = new StringBuilder();
+        var bidirectional = new StringBuilder();
+        // when
+        SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.findPath(from, to, SIMPLE_UNDIRECTED_10_VERTICES_CONTEXT, unidirectional::append);
+        SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.findPath(from, to, SearchMode.BIDIRECTIONAL, SIMPLE_UNDIRECTED_10_VERTICES_CONTEXT, bidirectional::append);
+        //then
+        assertEquals(expectedPath, unidirectional.toString());
+        assertEquals(expectedPath, bidirectional.toString());
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInDirectedWeightedGraph")
+    public void shouldFindPathInDirectedWeightedGraphWithSharedSearchContext(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var unidirectional = new StringBuilder();
+        var bidirectional = new StringBuilder();
+        var withLandmarks = new StringBuilder();
+        var contracted = new StringBuilder();
+        // when
+        FIVE_VERTICES_GRAPH.findPath(from, to, FIVE_VERTICES_CONTEXT, unidirectional::append);
+        FIVE_VERTICES_GRAPH.findPath(from, to, SearchMode.BIDIRECTIONAL, FIVE_VERTICES_CONTEXT, bidirectional::append);
+        FIVE_VERTICES_GRAPH.findPath(from, to, FIVE_VERTICES_GRAPH.landmarks(2), FIVE_VERTICES_CONTEXT, withLandmarks::append);
+        FIVE_VERTICES_GRAPH.contract().findPath(from, to, FIVE_VERTICES_CONTEXT, contracted::append);
+        //then
+        assertEquals(expectedPath, unidirectional.toString());
+        assertEquals(expectedPath, bidirectional.toString());
+        assertEquals(expectedPath, withLandmarks.toString());
+        assertEquals(expectedPath, contracted.toString());
+
+    }
+
+    @Test
+    public void shouldFailOnUsingSearchContextOfAnotherGraph() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FIVE_VERTICES_GRAPH.findPath(VERTEX_E, VERTEX_A, THREE_VERTICES_GRAPH.newSearchContext(), (value) -> {}));
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInDirectedWeightedGraph")
+    public void shouldFindPathInDirectedWeightedGraphWithLandmarks(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        // when
+        FIVE_VERTICES_GRAPH.findPath(from, to, FIVE_VERTICES_GRAPH.landmarks(2), builder::append);
+        //then
+        assertEquals(expectedPath, builder.toString());
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInUndirectedUnweightedGraph")
+    public void shouldFindPathInUndirectedUnweightedGraphWithValuesHeuristic(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        // when
+        SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.findPath(from, to, Heuristic.ofValues((vertex, target) -> 0), builder::append);
+        //then
+        assertEquals(expectedPath.length(), builder.length());
+        assertEquals(expectedPath.charAt(0), builder.charAt(0));
+        assertEquals(expectedPath.charAt(expectedPath.length() - 1), builder.charAt(builder.length() - 1));
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInDirectedWeightedGraph")
+    public void shouldFindPathInDirectedWeightedGraphWithContractionHierarchy(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        // when
+        FIVE_VERTICES_GRAPH.contract().findPath(from, to, builder::append);
+        //then
+        assertEquals(expectedPath, builder.toString());
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInUndirectedUnweightedGraph")
+    public void shouldFindPathInUndirectedUnweightedGraphWithContractionHierarchy(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        // when
+        SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.contract().findPath(from, to, builder::append);
+        //then
+        assertEquals(expectedPath.length(), builder.length());
+        assertEquals(expectedPath.charAt(0), builder.charAt(0));
+        assertEquals(expectedPath.charAt(expectedPath.length() - 1), builder.charAt(builder.length() - 1));
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInDirectedWeightedGraph")
+    public void shouldFindPathInDirectedWeightedGraphWithShortestPathTree(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        // when
+        FIVE_VERTICES_GRAPH.shortestPathTree(from).findPath(to, builder::append);
+        //then
+        assertEquals(expectedPath, builder.toString());
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInUndirectedUnweightedGraph")
+    public void shouldFindPathInUndirectedUnweightedGraphWithShortestPathTree(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        // when
+        var tree = SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.shortestPathTree(from);
+        tree.findPath(to, builder::append);
+        //then
+        assertEquals(expectedPath, builder.toString());
+        assertEquals(expectedPath.length() - 1, tree.getDistance(to));
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFailOnFindingPathToNotReachableVertex")
+    public void shouldFailOnFindingPathToNotReachableVertexWithShortestPathTree(Vertex<String> from, Vertex<String> to) {
+        var tree = FIVE_VERTICES_GRAPH.shortestPathTree(from);
+        assertFalse(tree.isReachable(to));
+        assertThrows(IllegalStateException.class, () -> tree.findPath(to, (value) -> {}));
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInDirectedWeightedGraph")
+    public void shouldFindPathInDirectedWeightedGraphWithParallelShortestPathTree(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var builder = new StringBuilder();
+        var pool = new ForkJoinPool(2);
+        // when
+        try {
+            FIVE_VERTICES_GRAPH.shortestPathTreeParallel(from, 2, pool).findPath(to, builder::append);
+        } finally {
+            pool.shutdown();
+        }
+        //then
+        assertEquals(expectedPath, builder.toString());
+
+    }
+
+    @Test
+    public void shouldComputeDistancesWithParallelShortestPathTree() {
+        // when
+        var tree = FIVE_VERTICES_GRAPH.shortestPathTreeParallel(VERTEX_C);
+        // then
+        assertEquals(VERTEX_C, tree.getSource());
+        assertEquals(0, tree.getDistance(VERTEX_C));
+        assertEquals(2, tree.getDistance(VERTEX_D));
+        assertEquals(3, tree.getDistance(VERTEX_B));
+        assertEquals(6, tree.getDistance(VERTEX_A));
+        assertFalse(tree.isReachable(VERTEX_E));
+        assertEquals(Graph.INFINITY_DISTANCE_VALUE, tree.getDistance(VERTEX_E));
+        assertThrows(IllegalStateException.class, () -> tree.findPath(VERTEX_E, (value) -> {}));
+    }
+
+    @Test
+    public void shouldComputeParallelShortestPathTreeWithHeavyEdgesAndSmallDelta() {
+        // given
+        var graph = Graph.directedWeightedBuilder(VERTEX_A)
+                .addVertex(VERTEX_B)
+                .addVertex(VERTEX_C)
+                .addVertex(VERTEX_D)
+                .addEdge(VERTEX_A, VERTEX_B, 10_000_000)
+                .addEdge(VERTEX_A, VERTEX_C, 1)
+                .addEdge(VERTEX_C, VERTEX_B, 9_999_998)
+                .addEdge(VERTEX_B, VERTEX_D, 2)
+                .build();
+        var pool = new ForkJoinPool(2);
+        // when
+        ShortestPathTree<String> tree;
+        try {
+            tree = graph.shortestPathTreeParallel(VERTEX_A, 1, pool);
+        } finally {
+            pool.shutdown();
+        }
+        // then
+        assertEquals(1, tree.getDistance(VERTEX_C));
+        assertEquals(9_999_999, tree.getDistance(VERTEX_B));
+        assertEquals(10_000_001, tree.getDistance(VERTEX_D));
+    }
+
+    @Test
+    public void shouldComputeDistanceMatrix() {
+        // given
+        var sources = asList(VERTEX_E, VERTEX_C);
+        var targets = asList(VERTEX_A, VERTEX_B, VERTEX_E);
+        var expected = new int[][]{
+                {6, 3, 0},
+                {6, 3, Graph.INFINITY_DISTANCE_VALUE}
+        };
+        // when
+        var matrix = FIVE_VERTICES_GRAPH.distanceMatrix(sources, targets);
+        var contractedMatrix = FIVE_VERTICES_GRAPH.contract().distanceMatrix(sources, targets);
+        // then
+        assertArrayEquals(expected, matrix);
+        assertArrayEquals(expected, contractedMatrix);
+    }
+
+    @Test
+    public void shouldComputeHopMatrixIgnoringWeights() {
+        // given
+        var sources = asList(VERTEX_E, VERTEX_C);
+        var targets = asList(VERTEX_A, VERTEX_B, VERTEX_E, VERTEX_A);
+        var expected = new int[][]{
+                {2, 1, 0, 2},
+                {2, 2, Graph.INFINITY_DISTANCE_VALUE, 2}
+        };
+        // when
+        var matrix = FIVE_VERTICES_GRAPH.hopMatrix(sources, targets);
+        // then
+        assertArrayEquals(expected, matrix);
+    }
+
+    @Test
+    public void shouldComputeHopsFromManySourcesAtOnce() {
+        // given
+        int vertexCount = 500;
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var random = new SplittableRandom(11);
+        var builder = Graph.directedUnweightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 0; i < 2 * vertexCount; i++) {
+            builder.addEdge(vertices.get(random.nextInt(vertexCount)), vertices.get(random.nextInt(vertexCount)));
+        }
+        var graph = builder.build();
+        var sources = vertices.subList(0, 300);
+        var pool = new ForkJoinPool(4);
+        // when
+        int[][] matrix;
+        HopStatistics statistics;
+        try {
+            matrix = graph.hopMatrix(sources, vertices, pool);
+            statistics = graph.hopStatistics(sources, pool);
+        } finally {
+            pool.shutdown();
+        }
+        // then
+        assertEquals(sources.size(), statistics.getSourceCount());
+        for (int source = 0; source < sources.size(); source++) {
+            var tree = graph.shortestPathTree(sources.get(source));
+            long reachedCount = 0;
+            long distanceSum = 0;
+            int eccentricity = 0;
+            for (int target = 0; target < vertexCount; target++) {
+                int distance = tree.getDistance(vertices.get(target));
+                assertEquals(distance, matrix[source][target]);
+                if (distance != Graph.INFINITY_DISTANCE_VALUE) {
+                    reachedCount++;
+                    distanceSum += distance;
+                    eccentricity = Math.max(eccentricity, distance);
+                }
+            }
+            assertEquals(reachedCount, statistics.getReachedCount(source));
+            assertEquals(distanceSum, statistics.getDistanceSum(source));
+            assertEquals(eccentricity, statistics.getEccentricity(source));
+        }
+        assertThrows(IllegalArgumentException.class, () -> statistics.getCloseness(300));
+    }
+
+    @Test
+    public void shouldComputeClosenessFromHopStatistics() {
+        // when
+        var statistics = SIMPLE_UNDIRECTED_10_VERTICES_GRAPH.hopStatistics(asList(VERTEX_A, VERTEX_J));
+        var isolated = DISCONNECTED_GRAPH.hopStatistics(asList(VERTEX_B));
+        // then
+        assertEquals(10, statistics.getReachedCount(0));
+        assertEquals(9.0 / 17, statistics.getCloseness(0), 1e-9);
+        assertEquals(3, statistics.getEccentricity(0));
+        assertEquals(5, statistics.getEccentricity(1));
+        assertEquals(1, isolated.getReachedCount(0));
+        assertEquals(0, isolated.getCloseness(0), 1e-9);
+    }
+
+    @Test
+    public void shouldFailOnComputingDistanceMatrixForVertexThatDoNotBelongToTheGraph() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FIVE_VERTICES_GRAPH.distanceMatrix(asList(VERTEX_E), asList(VERTEX_J)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInDirectedWeightedGraph")
+    public void shouldFindPathInDirectedWeightedGraphWithPathCache(Vertex<String> from, Vertex<String> to, String expectedPath) {
+        //given
+        var cache = FIVE_VERTICES_GRAPH.newPathCache(10);
+        var missed = new StringBuilder();
+        var hit = new StringBuilder();
+        // when
+        cache.findPath(from, to, missed::append);
+        cache.findPath(from, to, hit::append);
+        //then
+        assertEquals(expectedPath, missed.toString());
+        assertEquals(expectedPath, hit.toString());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedPathsFromPathCache() {
+        // given
+        var cache = FIVE_VERTICES_GRAPH.newPathCache(1);
+        // when
+        cache.findPath(VERTEX_E, VERTEX_A, (value) -> {});
+        cache.findPath(VERTEX_C, VERTEX_A, (value) -> {});
+        cache.findPath(VERTEX_E, VERTEX_A, (value) -> {});
+        // then
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void shouldCacheNotReachableVertexInPathCache() {
+        // given
+        var cache = FIVE_VERTICES_GRAPH.newPathCache(10);
+        // then
+        assertThrows(IllegalStateException.class, () -> cache.findPath(VERTEX_C, VERTEX_E, (value) -> {}));
+        assertThrows(IllegalStateException.class, () -> cache.findPath(VERTEX_C, VERTEX_E, (value) -> {}));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertThrows(IllegalArgumentException.class, () -> FIVE_VERTICES_GRAPH.newPathCache(0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFindPathInDirectedWeightedGraph")
+    public void shouldFindPathInDirectedWeightedGraphOffHeap(Vertex<String> from, Vertex<String> to, String expectedPath) throws IOException {
+        //given
+        var file = Files.createTempFile("graph", ".bin");
+        file.toFile().deleteOnExit();
+        var offHeap = new StringBuilder();
+        var mapped = new StringBuilder();
+        // when
+        FIVE_VERTICES_GRAPH.toOffHeap().findPath(from, to, offHeap::append);
+        FIVE_VERTICES_GRAPH.toMappedFile(file).findPath(from, to, SearchMode.BIDIRECTIONAL, mapped::append);
+        //then
+        assertEquals(expectedPath, offHeap.toString());
+        assertEquals(expectedPath, mapped.toString());
+
+    }
+
+    @Test
+    public void shouldWriteAndLoadGraph() throws IOException {
+        // given
+        var file = Files.createTempFile("graph", ".bin");
+        file.toFile().deleteOnExit();
+        var builder = new StringBuilder();
+        // when
+        FIVE_VERTICES_GRAPH.writeTo(file, ValueCodec.ofStrings());
+        var loaded = Graph.load(file, ValueCodec.ofStrings());
+        var vertices = new HashMap<String, Vertex<String>>();
+        loaded.getVertices().forEach(vertex -> vertices.put(vertex.getValue(), vertex));
+        loaded.findPath(vertices.get("E"), vertices.get("A"), builder::append);
+        // then
+        assertEquals(FIVE_VERTICES_GRAPH.toString(), loaded.toString());
+        assertEquals("EDBA", builder.toString());
+    }
+
+    @Test
+    public void shouldBuildGraphFromEdgesAddedInBulk() {
+        // given
+        var vertices = asList(VERTEX_A, VERTEX_B, VERTEX_C, VERTEX_D, VERTEX_E);
+        var builder = new StringBuilder();
+        // when
+        var graph = Graph.directedWeightedBuilder(VERTEX_E)
+                .ensureCapacity(5, 9)
+                .addEdges(vertices,
+                        new int[]{0, 0, 1, 2, 3, 3, 3, 4, 4},
+                        new int[]{2, 3, 0, 3, 1, 0, 2, 3, 1},
+                        new int[]{6, 6, 3, 2, 1, 6, 1, 2, 4})
+                .build();
+        graph.findPath(VERTEX_E, VERTEX_A, builder::append);
+        // then
+        assertEquals(FIVE_VERTICES_GRAPH.toString(), graph.toString());
+        assertEquals("EDBA", builder.toString());
+    }
+
+    @Test
+    public void shouldBuildGraphFromEdgesAddedInChunksOfGrowingTable() {
+        // given
+        var vertices = new ArrayList<>(asList(VERTEX_A, VERTEX_B, VERTEX_C));
+        var builder = Graph.directedWeightedBuilder(VERTEX_E)
+                .addEdges(vertices, new int[]{0, 1}, new int[]{2, 0}, new int[]{6, 3});
+        vertices.add(VERTEX_D);
+        vertices.add(VERTEX_E);
+        // when
+        var graph = builder
+                .addEdges(vertices, new int[]{0, 2, 3}, new int[]{3, 3, 1}, new int[]{6, 2, 1})
+                .addEdges(vertices, new int[]{3, 3, 4, 4}, new int[]{0, 2, 3, 1}, new int[]{6, 1, 2, 4})
+                .build();
+        // then
+        assertEquals(FIVE_VERTICES_GRAPH.toString(), graph.toString());
+    }
+
+    @Test
+    public void shouldNotDuplicateEdgesAddedInBulk() {
+        // given
+        var vertices = asList(VERTEX_A, VERTEX_B, VERTEX_C);
+        var builder = new StringBuilder();
+        // when
+        var graph = Graph.undirectedWeightedBuilder(VERTEX_A)
+                .addEdges(vertices, new int[]{0, 1, 0, 1}, new int[]{1, 0, 1, 2}, new int[]{9, 9, 9, 1})
+                .addEdge(VERTEX_A, VERTEX_B, 1)
+                .build();
+        graph.findPath(VERTEX_C, VERTEX_A, builder::append);
+        // then
+        assertEquals("['A'->'B'{1} | 'B'->'A'{1},'C'{1} | 'C'->'B'{1}]", graph.toString());
+        assertEquals("CBA", builder.toString());
+    }
+
+    @Test
+    public void shouldBuildSameGraphInParallel() throws IOException {
+        // given
+        var random = new SplittableRandom(42);
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < 20_000; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        var from = random.ints(200_000, 0, vertices.size()).toArray();
+        var to = random.ints(200_000, 0, vertices.size()).toArray();
+        var weights = random.ints(200_000, 1, 100).toArray();
+        var builder = Graph.directedWeightedBuilder(vertices.get(0)).addEdges(vertices, from, to, weights);
+        for (int i = 0; i < 1000; i++) {
+            builder.addEdge(vertices.get(from[i]), vertices.get(to[i]), 1);
+        }
+        var file = Files.createTempFile("graph", ".bin");
+        file.toFile().deleteOnExit();
+        var parallelFile = Files.createTempFile("graph", ".bin");
+        parallelFile.toFile().deleteOnExit();
+        var pool = new ForkJoinPool(4);
+        // when
+        try {
+            builder.build().writeTo(file, ValueCodec.ofIntegers());
+            builder.buildParallel(pool).writeTo(parallelFile, ValueCodec.ofIntegers());
+        } finally {
+            pool.shutdown();
+        }
+        // then
+        assertArrayEquals(Files.readAllBytes(file), Files.readAllBytes(parallelFile));
+    }
+
+    @Test
+    public void shouldFailOnAddingEdgesOutOfVertexTable() {
+        // given
+        var vertices = asList(VERTEX_A, VERTEX_B);
+        // then
+        assertThrows(IllegalArgumentException.class,
+                () -> Graph.directedUnweightedBuilder(VERTEX_A).addEdges(vertices, new int[]{0}, new int[]{2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> Graph.directedUnweightedBuilder(VERTEX_A).addEdges(vertices, new int[]{0, 1}, new int[]{1}));
+    }
+
+    @Test
+    public void shouldFailOnAddingEdgesWithNegativeWeight() {
+        // given
+        var vertices = asList(VERTEX_A, VERTEX_B, VERTEX_C);
+        var builder = Graph.directedWeightedBuilder(VERTEX_A);
+        // when
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> builder.addEdges(vertices, new int[]{0, 1}, new int[]{1, 2}, new int[]{1, -1}));
+        var graph = builder.build();
+        // then
+        assertEquals("Weight should not be negative", exception.getMessage());
+        assertEquals(Set.of(VERTEX_A), graph.getVertices());
+        assertTrue(graph.getEdges(VERTEX_A).isEmpty());
+    }
+
+    @Test
+    public void shouldFailOnLoadingNotGraphFile() throws IOException {
+        // given
+        var file = Files.createTempFile("graph", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, new byte[100]);
+        var intGraphFile = Files.createTempFile("graph", ".bin");
+        intGraphFile.toFile().deleteOnExit();
+        FIVE_VERTICES_GRAPH.toIntGraph().writeTo(intGraphFile);
+        // then
+        assertThrows(IllegalArgumentException.class, () -> Graph.load(file, ValueCodec.ofStrings()));
+        assertThrows(IllegalArgumentException.class, () -> Graph.load(intGraphFile, ValueCodec.ofStrings()));
+    }
+
+    @Test
+    public void shouldFailOnNotPositiveDelta() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FIVE_VERTICES_GRAPH.shortestPathTreeParallel(VERTEX_E, 0, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void shouldNotOverestimateDistanceWithLandmarks() {
+        // given
+        var landmarks = FIVE_VERTICES_GRAPH.landmarks(3);
+        // then
+        assertEquals(3, landmarks.getCount());
+        assertTrue(landmarks.estimate(VERTEX_E, VERTEX_A) <= 6);
+        assertTrue(landmarks.estimate(VERTEX_C, VERTEX_A) <= 6);
+        assertEquals(0, landmarks.estimate(VERTEX_D, VERTEX_D));
+    }
+
+    @Test
+    public void shouldFailOnNegativeHeuristicEstimate() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FIVE_VERTICES_GRAPH.findPath(VERTEX_E, VERTEX_A, (vertex, target) -> -1, (value) -> {}));
+    }
+
+    @Test
+    public void shouldFailOnCreatingTooManyLandmarks() {
+        assertThrows(IllegalArgumentException.class, () -> THREE_VERTICES_GRAPH.landmarks(4));
+    }
+
     private static Stream<Arguments> shouldFailOnFindingPathToNotReachableVertex() {
         return Stream.of(
                 of(VERTEX_A, VERTEX_E),
@@ -245,6 +985,24 @@ class GraphTest {
         assertThrows(IllegalStateException.class, () -> FIVE_VERTICES_GRAPH.findPath(from, to, (value) -> {}));
     }
 
+    @ParameterizedTest
+    @MethodSource("shouldFailOnFindingPathToNotReachableVertex")
+    public void shouldFailOnFindingPathToNotReachableVertexBidirectionally(Vertex<String> from, Vertex<String> to) {
+        assertThrows(IllegalStateException.class, () -> FIVE_VERTICES_GRAPH.findPath(from, to, SearchMode.BIDIRECTIONAL, (value) -> {}));
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFailOnFindingPathToNotReachableVertex")
+    public void shouldFailOnFindingPathToNotReachableVertexWithLandmarks(Vertex<String> from, Vertex<String> to) {
+        assertThrows(IllegalStateException.class, () -> FIVE_VERTICES_GRAPH.findPath(from, to, FIVE_VERTICES_GRAPH.landmarks(2), (value) -> {}));
+    }
+
+    @ParameterizedTest
+    @MethodSource("shouldFailOnFindingPathToNotReachableVertex")
+    public void shouldFailOnFindingPathToNotReachableVertexWithContractionHierarchy(Vertex<String> from, Vertex<String> to) {
+        assertThrows(IllegalStateException.class, () -> FIVE_VERTICES_GRAPH.contract().findPath(from, to, (value) -> {}));
+    }
+
     @Test
     public void shouldFailOnFindingPathInDisconnectedGraph() {
         assertThrows(IllegalStateException.class, () -> DISCONNECTED_GRAPH.findPath(VERTEX_A, VERTEX_B, (value) -> {}));
@@ -0,0 +1,133 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.of;
+
+/**
+ * Tests for {@link IndexedHeap}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class IndexedHeapTest {
+
+    @Test
+    public void shouldPollItemsInOrderOfKeys() {
+        // given
+        var heap = new IndexedHeap(5);
+        heap.insert(0, 7);
+        heap.insert(1, 3);
+        heap.insert(2, 9);
+        heap.insert(3, 1);
+        heap.insert(4, 5);
+        // when
+        var polled = new int[5];
+        for (int i = 0; i < polled.length; i++) {
+            polled[i] = heap.poll();
+        }
+        // then
+        assertArrayEquals(new int[]{3, 1, 4, 0, 2}, polled);
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void shouldMoveItemUpOnDecreaseKey() {
+        // given
+        var heap = new IndexedHeap(3);
+        heap.insert(0, 10);
+        heap.insert(1, 20);
+        heap.insert(2, 30);
+        // when
+        heap.decreaseKey(2, 5);
+        // then
+        assertEquals(5, heap.peekKey());
+        assertEquals(2, heap.poll());
+        assertFalse(heap.contains(2));
+    }
+
+    @Test
+    public void shouldIgnoreGreaterKeyOnInsertOrDecrease() {
+        // given
+        var heap = new IndexedHeap(2);
+        heap.insert(0, 10);
+        heap.insert(1, 20);
+        // when
+        heap.insertOrDecrease(0, 15);
+        // then
+        assertEquals(10, heap.peekKey());
+    }
+
+    @Test
+    public void shouldFailOnIncreasingKey() {
+        var heap = new IndexedHeap(1);
+        heap.insert(0, 10);
+        assertThrows(IllegalStateException.class, () -> heap.decreaseKey(0, 11));
+    }
+
+    @Test
+    public void shouldFailOnInsertingItemTwice() {
+        var heap = new IndexedHeap(1);
+        heap.insert(0, 10);
+        assertThrows(IllegalStateException.class, () -> heap.insert(0, 5));
+    }
+
+    @Test
+    public void shouldRemoveAllItemsOnClear() {
+        // given
+        var heap = new IndexedHeap(3);
+        heap.insert(0, 1);
+        heap.insert(2, 2);
+        // when
+        heap.clear();
+        // then
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(0));
+        assertFalse(heap.contains(2));
+    }
+
+    private static Stream<Arguments> shouldSortRandomKeys() {
+        return Stream.of(of(2), of(3), of(4), of(8));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void shouldSortRandomKeys(int arity) {
+        // given
+        var random = new Random(arity);
+        var keys = random.ints(1_000, 0, 100).toArray();
+        var heap = new IndexedHeap(keys.length, arity);
+        for (int item = 0; item < keys.length; item++) {
+            heap.insert(item, keys[item] + 100);
+        }
+        for (int item = 0; item < keys.length; item += 2) {
+            heap.decreaseKey(item, keys[item]);
+        }
+        // when
+        var polled = new int[keys.length];
+        for (int i = 0; i < polled.length; i++) {
+            int item = heap.poll();
+            polled[i] = item % 2 == 0 ? keys[item] : keys[item] + 100;
+        }
+        // then
+        var expected = new int[keys.length];
+        for (int item = 0; item < keys.length; item++) {
+            expected[item] = item % 2 == 0 ? keys[item] : keys[item] + 100;
+        }
+        Arrays.sort(expected);
+        assertArrayEquals(expected, polled);
+    }
+
+}
@@ -0,0 +1,227 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static java.util.List.of;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link IntGraph}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class IntGraphTest {
+
+    private static final int A = 10;
+    private static final int B = 20;
+    private static final int C = 30;
+    private static final int D = 40;
+    private static final int E = 50;
+
+    private static final IntGraph FIVE_VERTICES_GRAPH = IntGraph.directedWeightedBuilder(E)
+            .addVertex(A)
+            .addEdge(A, C, 6)
+            .addEdge(A, D, 6)
+            .addEdge(B, A, 3)
+            .addEdge(C, D, 2)
+            .addEdge(D, B, 1)
+            .addEdge(D, A, 6)
+            .addEdge(D, C, 1)
+            .addEdge(E, D, 2)
+            .addEdge(E, B, 4)
+            .build();
+
+    private static Stream<Arguments> shouldFindPathInDirectedWeightedGraph() {
+        return Stream.of(
+                Arguments.of(E, A, of(E, D, B, A)),
+                Arguments.of(E, B, of(E, D, B)),
+                Arguments.of(E, C, of(E, D, C)),
+                Arguments.of(C, A, of(C, D, B, A)),
+                Arguments.of(D, D, of(D))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void shouldFindPathInDirectedWeightedGraph(int from, int to, List<Integer> expectedPath) {
+        //given
+        var path = new ArrayList<Integer>();
+        var bidirectionalPath = new ArrayList<Integer>();
+        // when
+        FIVE_VERTICES_GRAPH.findPath(from, to, path::add);
+        FIVE_VERTICES_GRAPH.findPath(from, to, SearchMode.BIDIRECTIONAL, FIVE_VERTICES_GRAPH.newSearchContext(), bidirectionalPath::add);
+        //then
+        assertEquals(expectedPath, path);
+        assertEquals(expectedPath, bidirectionalPath);
+    }
+
+    @Test
+    public void shouldBuildFromEdgeArraysAddingVerticesImplicitly() {
+        // given
+        var graph = IntGraph.undirectedUnweightedBuilder(1)
+                .addEdges(new int[]{1, 2, 3, 1}, new int[]{2, 3, 4, 2})
+                .build();
+        var path = new ArrayList<Integer>();
+        // when
+        graph.findPath(4, 1, path::add);
+        // then
+        assertArrayEquals(new int[]{1, 2, 3, 4}, graph.getVertices());
+        assertEquals(of(4, 3, 2, 1), path);
+        assertTrue(graph.containsVertex(3));
+        assertFalse(graph.containsVertex(5));
+    }
+
+    @Test
+    public void shouldKeepFirstAddedOfDuplicateEdges() {
+        // given
+        var graph = IntGraph.directedWeightedBuilder(1)
+                .addEdge(1, 2, 1)
+                .addEdge(1, 2, 10)
+                .addEdge(1, 3, 2)
+                .addEdge(3, 2, 2)
+                .build();
+        var path = new ArrayList<Integer>();
+        // when
+        graph.findPath(1, 2, path::add);
+        // then
+        assertEquals(of(1, 2), path);
+    }
+
+    @Test
+    public void shouldConvertToAndFromGraph() {
+        // given
+        var graph = FIVE_VERTICES_GRAPH.toGraph();
+        var values = new ArrayList<Integer>();
+        var ids = new ArrayList<Integer>();
+        Vertex<Integer> from = null;
+        Vertex<Integer> to = null;
+        for (var vertex : graph.getVertices()) {
+            from = vertex.getValue() == C ? vertex : from;
+            to = vertex.getValue() == A ? vertex : to;
+        }
+        // when
+        graph.findPath(from, to, values::add);
+        graph.toIntGraph().findPath(from.getId(), to.getId(), ids::add);
+        // then
+        assertEquals(of(C, D, B, A), values);
+        assertEquals(4, ids.size());
+        assertEquals(from.getId(), (int) ids.get(0));
+        assertEquals(to.getId(), (int) ids.get(3));
+    }
+
+    @Test
+    public void shouldWriteAndLoadGraph() throws IOException {
+        // given
+        var file = Files.createTempFile("graph", ".bin");
+        file.toFile().deleteOnExit();
+        var path = new ArrayList<Integer>();
+        // when
+        FIVE_VERTICES_GRAPH.writeTo(file);
+        var loaded = IntGraph.load(file);
+        loaded.findPath(C, A, path::add);
+        // then
+        assertEquals(FIVE_VERTICES_GRAPH.toString(), loaded.toString());
+        assertEquals(of(C, D, B, A), path);
+    }
+
+    @Test
+    public void shouldLoadGraphWrittenWithValues() throws IOException {
+        // given
+        var file = Files.createTempFile("graph", ".bin");
+        file.toFile().deleteOnExit();
+        var graph = FIVE_VERTICES_GRAPH.toGraph();
+        // when
+        graph.writeTo(file, ValueCodec.ofIntegers());
+        var loaded = IntGraph.load(file);
+        // then
+        assertEquals(graph.toIntGraph().toString(), loaded.toString());
+    }
+
+    @Test
+    public void shouldTraverseGraph() {
+        // given
+        var visited = new ArrayList<Integer>();
+        // when
+        FIVE_VERTICES_GRAPH.traverse(visited::add);
+        // then
+        assertEquals(E, (int) visited.get(0));
+        assertEquals(5, visited.size());
+    }
+
+    @Test
+    public void shouldStreamVertexIds() {
+        // when
+        var breadthFirst = FIVE_VERTICES_GRAPH.bfs(E).toArray();
+        var depthFirst = FIVE_VERTICES_GRAPH.dfs(E).toArray();
+        var iterator = FIVE_VERTICES_GRAPH.bfsIterator(C);
+        // then
+        assertArrayEquals(new int[]{E, B, D, A, C}, breadthFirst);
+        assertArrayEquals(new int[]{E, B, A, C, D}, depthFirst);
+        assertEquals(C, iterator.nextInt());
+        assertEquals(D, iterator.nextInt());
+        assertThrows(IllegalArgumentException.class, () -> FIVE_VERTICES_GRAPH.bfs(60));
+    }
+
+    @Test
+    public void shouldFailOnNotReachableOrUnknownVertex() {
+        assertThrows(IllegalStateException.class, () -> FIVE_VERTICES_GRAPH.findPath(C, E, (id) -> {}));
+        assertThrows(IllegalArgumentException.class, () -> FIVE_VERTICES_GRAPH.findPath(C, 60, (id) -> {}));
+        assertThrows(IllegalArgumentException.class,
+                () -> FIVE_VERTICES_GRAPH.findPath(E, A, IntGraph.directedUnweightedBuilder(1).build().newSearchContext(), (id) -> {}));
+        assertThrows(IllegalArgumentException.class,
+                () -> IntGraph.directedWeightedBuilder(1).addEdges(new int[]{1}, new int[]{2, 3}, new int[]{1}));
+    }
+
+    @Test
+    public void shouldFailOnAddingEdgeWithNegativeWeight() {
+        // given
+        var builder = IntGraph.directedWeightedBuilder(1);
+        // when
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(1, 2, -1));
+        assertThrows(IllegalArgumentException.class, () -> IntGraph.undirectedWeightedBuilder(1).addEdge(1, 2, -1));
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdges(new int[]{1, 2}, new int[]{2, 3}, new int[]{1, -1}));
+        var graph = builder.build();
+        // then
+        assertEquals(1, graph.getVertexCount());
+    }
+
+    @Test
+    public void shouldBuildSameGraphInParallel() throws IOException {
+        // given
+        var random = new SplittableRandom(42);
+        var from = random.ints(200_000, 0, 20_000).toArray();
+        var to = random.ints(200_000, 0, 20_000).toArray();
+        var builder = IntGraph.undirectedUnweightedBuilder(0).addEdges(from, to);
+        var file = Files.createTempFile("graph", ".bin");
+        file.toFile().deleteOnExit();
+        var parallelFile = Files.createTempFile("graph", ".bin");
+        parallelFile.toFile().deleteOnExit();
+        var pool = new ForkJoinPool(4);
+        // when
+        try {
+            builder.build().writeTo(file);
+            builder.buildParallel(pool).writeTo(parallelFile);
+        } finally {
+            pool.shutdown();
+        }
+        // then
+        assertArrayEquals(Files.readAllBytes(file), Files.readAllBytes(parallelFile));
+    }
+
+}
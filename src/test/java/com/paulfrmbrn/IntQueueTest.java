@@ -0,0 +1,54 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link IntQueue}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class IntQueueTest {
+
+    @Test
+    public void shouldKeepFifoOrderWhenGrowingWrappedBuffer() {
+        // given
+        var queue = new IntQueue();
+        int next = 0;
+        int expected = 0;
+        for (int i = 0; i < 10; i++) {
+            queue.add(next++);
+        }
+        for (int i = 0; i < 7; i++) {
+            assertEquals(expected++, queue.poll());
+        }
+        // when
+        for (int i = 0; i < 100; i++) {
+            queue.add(next++);
+        }
+        // then
+        assertEquals(103, queue.size());
+        while (!queue.isEmpty()) {
+            assertEquals(expected++, queue.poll());
+        }
+        assertEquals(next, expected);
+    }
+
+    @Test
+    public void shouldBeEmptyAfterClear() {
+        // given
+        var queue = new IntQueue();
+        queue.add(1);
+        queue.add(2);
+        // when
+        queue.clear();
+        // then
+        assertTrue(queue.isEmpty());
+        assertThrows(IllegalStateException.class, queue::poll);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.paulfrmbrn;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link Reachability}
+ *
+ * @author Dmitry Pavlov
+ * @since 18.10.2026
+ */
+class ReachabilityTest {
+
+    private static final Vertex<String> VERTEX_A = Vertex.of("A");
+    private static final Vertex<String> VERTEX_B = Vertex.of("B");
+    private static final Vertex<String> VERTEX_C = Vertex.of("C");
+    private static final Vertex<String> VERTEX_D = Vertex.of("D");
+    private static final Vertex<String> VERTEX_E = Vertex.of("E");
+    private static final Vertex<String> VERTEX_F = Vertex.of("F");
+
+    /**
+     * A -> B -> C -> A, C -> D -> E and F -> D
+     */
+    private static Graph<String> cycleWithTail() {
+        return Graph.directedUnweightedBuilder(VERTEX_A)
+                .addVertex(VERTEX_B)
+                .addVertex(VERTEX_C)
+                .addVertex(VERTEX_D)
+                .addVertex(VERTEX_E)
+                .addVertex(VERTEX_F)
+                .addEdge(VERTEX_A, VERTEX_B)
+                .addEdge(VERTEX_B, VERTEX_C)
+                .addEdge(VERTEX_C, VERTEX_A)
+                .addEdge(VERTEX_C, VERTEX_D)
+                .addEdge(VERTEX_D, VERTEX_E)
+                .addEdge(VERTEX_F, VERTEX_D)
+                .build();
+    }
+
+    private static List<Vertex<Integer>> vertices(int count) {
+        var vertices = new ArrayList<Vertex<Integer>>();
+        for (int i = 0; i < count; i++) {
+            vertices.add(Vertex.of(i));
+        }
+        return vertices;
+    }
+
+    @Test
+    public void shouldFindStronglyConnectedComponents() {
+        // given
+        var graph = cycleWithTail();
+        // when
+        var reachability = graph.reachability();
+        // then
+        assertSame(reachability, graph.reachability());
+        assertEquals(4, reachability.getComponentCount());
+        assertEquals(reachability.componentOf(VERTEX_A), reachability.componentOf(VERTEX_C));
+        assertTrue(reachability.componentOf(VERTEX_C) > reachability.componentOf(VERTEX_D));
+        assertTrue(reachability.componentOf(VERTEX_D) > reachability.componentOf(VERTEX_E));
+        assertTrue(reachability.componentOf(VERTEX_F) > reachability.componentOf(VERTEX_D));
+        assertTrue(reachability.isReachable(VERTEX_B, VERTEX_A));
+        assertTrue(reachability.isReachable(VERTEX_B, VERTEX_E));
+        assertTrue(reachability.isReachable(VERTEX_F, VERTEX_F));
+        assertFalse(reachability.isReachable(VERTEX_E, VERTEX_A));
+        assertFalse(reachability.isReachable(VERTEX_F, VERTEX_A));
+        assertFalse(reachability.isReachable(VERTEX_A, VERTEX_F));
+    }
+
+    @Test
+    public void shouldAnswerSameAsSearch() {
+        // given
+        int vertexCount = 300;
+        var vertices = vertices(vertexCount);
+        var random = new SplittableRandom(7);
+        var builder = Graph.directedUnweightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 0; i < 3 * vertexCount / 2; i++) {
+            builder.addEdge(vertices.get(random.nextInt(vertexCount)), vertices.get(random.nextInt(vertexCount)));
+        }
+        var graph = builder.build();
+        // when
+        var reachability = graph.reachability();
+        // then
+        for (var from : vertices) {
+            var tree = graph.shortestPathTree(from);
+            for (var to : vertices) {
+                assertEquals(tree.isReachable(to), reachability.isReachable(from, to));
+                if (tree.isReachable(to)) {
+                    graph.findPath(from, to, value -> { });
+                } else {
+                    assertThrows(IllegalStateException.class, () -> graph.findPath(from, to, value -> { }));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldIndexDeepGraph() {
+        // given
+        int vertexCount = 200_000;
+        var vertices = vertices(vertexCount);
+        var builder = Graph.directedUnweightedBuilder(vertices.get(0));
+        vertices.forEach(builder::addVertex);
+        for (int i = 1; i < vertexCount; i++) {
+            builder.addEdge(vertices.get(i - 1), vertices.get(i));
+        }
+        builder.addEdge(vertices.get(vertexCount / 2), vertices.get(0));
+        var graph = builder.build();
+        // when
+        var reachability = graph.reachability();
+        // then
+        assertEquals(vertexCount / 2, reachability.getComponentCount());
+        assertTrue(reachability.isReachable(vertices.get(vertexCount / 2), vertices.get(vertexCount - 1)));
+        assertFalse(reachability.isReachable(vertices.get(vertexCount - 1), vertices.get(vertexCount / 2)));
+        assertThrows(IllegalStateException.class,
+                () -> graph.findPath(vertices.get(vertexCount - 1), vertices.get(0), SearchMode.BIDIRECTIONAL, value -> { }));
+    }
+
+    @Test
+    public void shouldFailOnVertexThatDoNotBelongToTheGraph() {
+        var reachability = cycleWithTail().reachability();
+        assertThrows(IllegalArgumentException.class, () -> reachability.componentOf(Vertex.of("X")));
+        assertThrows(IllegalArgumentException.class, () -> reachability.isReachable(VERTEX_A, Vertex.of("X")));
+    }
+
+}